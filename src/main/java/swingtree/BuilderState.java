@@ -7,6 +7,8 @@ import swingtree.style.ComponentExtension;
 import swingtree.threading.EventProcessor;
 
 import javax.swing.JComponent;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -78,7 +80,7 @@ final class BuilderState<C extends java.awt.Component>
             SwingTree.get().getEventProcessor(),
             Mode.FUNCTIONAL_FACTORY_BUILDER,
             (Class<C>) type,
-            ()->initializeComponent(componentSource.get()).get()
+            ComponentTemplate.of(()->initializeComponent(componentSource.get()).get())
         );
     }
 
@@ -137,6 +139,33 @@ final class BuilderState<C extends java.awt.Component>
         return _componentType.cast(_componentFetcher.get());
     }
 
+    /**
+     *  Creates the given number of components at once, which is only possible
+     *  for builders in {@link Mode#FUNCTIONAL_FACTORY_BUILDER} mode, since they
+     *  create a new component every time one is requested.
+     *
+     *  @param count The number of components to create.
+     *  @return A list of new components, each built by the entire builder chain.
+     *  @throws IllegalStateException If this builder state is disposed or does not create new components.
+     */
+    List<C> components( int count )
+    {
+        if ( this.isDisposed() )
+            throw new IllegalStateException(
+                    "Trying to access the components of a spent and disposed builder!" +
+                    WHY_A_BUILDER_IS_DISPOSED
+                );
+        if ( _mode != Mode.FUNCTIONAL_FACTORY_BUILDER || !(_componentFetcher instanceof ComponentTemplate) )
+            throw new IllegalStateException(
+                    "Only a builder which creates new components (as opposed to wrapping an existing one) " +
+                    "can create multiple components."
+                );
+        List<C> components = new ArrayList<>(count);
+        for ( java.awt.Component component : ((ComponentTemplate<?>) _componentFetcher).getAll(count) )
+            components.add(_componentType.cast(component));
+        return components;
+    }
+
     /**
      * The thread mode determines how events are dispatched to the component.
      * And also which type of thread can access the component. <br>
@@ -228,17 +257,18 @@ final class BuilderState<C extends java.awt.Component>
             {
                 Supplier<C> componentFactory = _componentFetcher;
                 this.dispose(); // detach strong reference to the component to allow it to be garbage collected.
+                if ( componentFactory == null )
+                    throw new IllegalStateException("This builder state is disposed and cannot be used for building.");
+                /*
+                    Instead of wrapping the previous factory in yet another lambda,
+                    we record the mutation in a flat template, so that creating
+                    a component does not have to unwind a call stack as deep as the builder chain.
+                */
                 return new BuilderState<>(
                         _eventProcessor,
                         _mode,
                         _componentType,
-                        () -> {
-                            if ( componentFactory == null )
-                                throw new IllegalStateException("This builder state is disposed and cannot be used for building.");
-                            C newComponent = componentFactory.get();
-                            componentMutator.accept(newComponent);
-                            return newComponent;
-                        }
+                        ComponentTemplate.of(componentFactory).with(componentMutator)
                 );
             }
             case DECLARATIVE_ONLY:
@@ -60,6 +60,12 @@ public final class CellBuilder<C extends JComponent, E> {
     private final Class<C> _componentType;
     private final Class<E> _elementType;
     private final Map<Class<?>, CellView<C>> _rendererLookup = new LinkedHashMap<>(16);
+    /**
+     *  The resolved configurator chains for the concrete value types encountered during rendering.
+     *  Resolving a chain requires iterating over all registered types, so we only do this once per type,
+     *  instead of for every cell on every repaint. The chains are invalidated whenever a new configurator is stored.
+     */
+    private final Map<Class<?>, List<Configurator<CellConf<C, ?>>>> _resolvedChains = new HashMap<>(16);
 
     private static class CellView<C extends JComponent> {
         @Nullable Component _renderer = null;
@@ -156,6 +162,7 @@ public final class CellBuilder<C extends JComponent, E> {
         NullUtil.nullArgCheck(predicate, "predicate", Predicate.class);
         NullUtil.nullArgCheck(valueInterpreter, "valueInterpreter", Configurator.class);
         List<Configurator<CellConf<C, ?>>> found = _rendererLookup.computeIfAbsent(valueType, k -> new CellView<>())._configurators;
+        _resolvedChains.clear();
         found.add(cell -> {
             if (predicate.test(cell))
                 return valueInterpreter.configure((CellConf<C, V>) cell);
@@ -170,7 +177,7 @@ public final class CellBuilder<C extends JComponent, E> {
             CellConf<T, Object> cell
     ) {
         @Nullable Object value = cell.entry().orElse(null);
-        List<Configurator<CellConf<C, ?>>> interpreter = _find(value, _rendererLookup);
+        List<Configurator<CellConf<C, ?>>> interpreter = _find(value);
         if ( interpreter.isEmpty() )
             return defaultRenderer.apply(value);
         else {
@@ -181,7 +188,8 @@ public final class CellBuilder<C extends JComponent, E> {
             */
             cell = _initializeViewIfPresent(cell);
 
-            for ( Configurator<CellConf<C,?>> configurator : interpreter ) {
+            for ( int i = 0; i < interpreter.size(); i++ ) {
+                Configurator<CellConf<C,?>> configurator = interpreter.get(i);
                 CellConf newCell = cell;
                 try {
                     newCell = configurator.configure(newCell);
@@ -516,7 +524,7 @@ public final class CellBuilder<C extends JComponent, E> {
             final boolean hasFocus
         ) {
             _checkTypeValidity(value);
-            List<Configurator<CellConf<C, ?>>> interpreter = _find(value, _rendererLookup);
+            List<Configurator<CellConf<C, ?>>> interpreter = _find(value);
             if (interpreter.isEmpty())
                 return _defaultRenderer.getListCellRendererComponent(list, value, row, isSelected, hasFocus);
             else {
@@ -528,7 +536,8 @@ public final class CellBuilder<C extends JComponent, E> {
                                                         ()->_defaultRenderer.getListCellRendererComponent(list, value, row, isSelected, hasFocus)
                                                     );
 
-                for ( Configurator<CellConf<C,?>> configurator : interpreter ) {
+                for ( int i = 0; i < interpreter.size(); i++ ) {
+                    Configurator<CellConf<C,?>> configurator = interpreter.get(i);
                     CellConf newCell = cell;
                     try {
                         newCell = configurator.configure(newCell);
@@ -612,11 +621,20 @@ public final class CellBuilder<C extends JComponent, E> {
         }
     }
 
-    private static <C extends JComponent> List<Configurator<CellConf<C, ?>>> _find(
-        @Nullable Object value,
+    private List<Configurator<CellConf<C, ?>>> _find( @Nullable Object value ) {
+        Class<?> type = (value == null ? Object.class : value.getClass());
+        List<Configurator<CellConf<C, ?>>> chain = _resolvedChains.get(type);
+        if ( chain == null ) {
+            chain = _resolve(type, _rendererLookup);
+            _resolvedChains.put(type, chain);
+        }
+        return chain;
+    }
+
+    private static <C extends JComponent> List<Configurator<CellConf<C, ?>>> _resolve(
+        Class<?> type,
         Map<Class<?>, CellView<C>> rendererLookup
     ) {
-        Class<?> type = (value == null ? Object.class : value.getClass());
         List<Configurator<CellConf<C, ?>>> cellRenderer = new ArrayList<>();
         for (Map.Entry<Class<?>, CellView<C>> e : rendererLookup.entrySet()) {
             if (e.getKey().isAssignableFrom(type))
@@ -624,7 +642,7 @@ public final class CellBuilder<C extends JComponent, E> {
         }
         // We reverse the cell renderers, so that the most un-specific one is first
         Collections.reverse(cellRenderer);
-        return cellRenderer;
+        return Collections.unmodifiableList(cellRenderer);
     }
 
     private static <C extends JComponent> List<Configurator<CellConf<C,?>>> _findAll(
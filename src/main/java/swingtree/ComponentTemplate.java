@@ -0,0 +1,127 @@
+package swingtree;
+
+import org.jspecify.annotations.Nullable;
+
+import java.awt.Component;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ *  The component factory of a builder in {@link BuilderState.Mode#FUNCTIONAL_FACTORY_BUILDER} mode,
+ *  which records the mutations of the builder chain instead of nesting them into
+ *  a new supplier lambda for every builder method call.
+ *  <p>
+ *  Every template is an immutable link to the template of the previous builder call,
+ *  so recording a mutation is cheap and does not copy anything.
+ *  When a component is created for the first time, the chain is compiled into a flat array
+ *  of mutations, which is then simply applied to every new component in a single loop,
+ *  instead of unwinding a call stack as deep as the builder chain is long.
+ *
+ * @param <C> The type of the component created by this template.
+ */
+final class ComponentTemplate<C extends Component> implements Supplier<C>
+{
+    /**
+     *  Turns the given component factory into a template,
+     *  or returns it as is if it already is a template.
+     *
+     * @param factory The factory creating fresh components.
+     * @param <C> The type of the component created by the factory.
+     * @return A template based on the given factory.
+     */
+    static <C extends Component> ComponentTemplate<C> of( Supplier<C> factory ) {
+        Objects.requireNonNull(factory);
+        if ( factory instanceof ComponentTemplate )
+            return (ComponentTemplate<C>) factory;
+        return new ComponentTemplate<>(factory, null, null, 0);
+    }
+
+    private final Supplier<C>                    _source;
+    private final @Nullable ComponentTemplate<C> _previous;
+    private final @Nullable Consumer<C>          _mutator;
+    private final int                            _numberOfMutators;
+
+    private volatile @Nullable Consumer<C>[] _compiled = null; // Lazily compiled from the chain of templates.
+
+
+    private ComponentTemplate(
+        Supplier<C>                    source,
+        @Nullable ComponentTemplate<C> previous,
+        @Nullable Consumer<C>          mutator,
+        int                            numberOfMutators
+    ) {
+        _source           = source;
+        _previous         = previous;
+        _mutator          = mutator;
+        _numberOfMutators = numberOfMutators;
+    }
+
+    /**
+     *  Records another mutation which is applied to every component created by the returned template
+     *  after all the mutations of this template.
+     *
+     * @param mutator The mutation to apply to newly created components.
+     * @return A new template which applies the given mutation after the ones of this template.
+     */
+    ComponentTemplate<C> with( Consumer<C> mutator ) {
+        Objects.requireNonNull(mutator);
+        return new ComponentTemplate<>(_source, this, mutator, _numberOfMutators + 1);
+    }
+
+    /**
+     * @return The number of mutations applied to every new component.
+     */
+    int numberOfMutators() { return _numberOfMutators; }
+
+    @SuppressWarnings("unchecked")
+    private Consumer<C>[] _compiled() {
+        Consumer<C>[] compiled = _compiled;
+        if ( compiled == null ) {
+            compiled = (Consumer<C>[]) new Consumer[_numberOfMutators];
+            ComponentTemplate<C> current = this;
+            for ( int i = _numberOfMutators - 1; i >= 0 && current != null; i-- ) {
+                compiled[i] = Objects.requireNonNull(current._mutator);
+                current = current._previous;
+            }
+            _compiled = compiled; // A race would only compile the same array twice, which is harmless.
+        }
+        return compiled;
+    }
+
+    private static <C> C _stamp( Supplier<C> source, Consumer<C>[] mutators ) {
+        C component = source.get();
+        for ( Consumer<C> mutator : mutators )
+            mutator.accept(component);
+        return component;
+    }
+
+    /**
+     *  Creates a new component and applies all the recorded mutations to it.
+     *
+     * @return A new component.
+     */
+    @Override
+    public C get() {
+        return _stamp(_source, _compiled());
+    }
+
+    /**
+     *  Creates the given number of new components in one go.
+     *
+     * @param count The number of components to create.
+     * @return A list of new components.
+     * @throws IllegalArgumentException If the count is negative.
+     */
+    List<C> getAll( int count ) {
+        if ( count < 0 )
+            throw new IllegalArgumentException("Cannot create a negative number of components, but " + count + " were requested.");
+        Consumer<C>[] mutators = _compiled();
+        List<C> components = new ArrayList<>(count);
+        for ( int i = 0; i < count; i++ )
+            components.add(_stamp(_source, mutators));
+        return components;
+    }
+}
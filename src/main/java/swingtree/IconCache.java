@@ -0,0 +1,253 @@
+package swingtree;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import swingtree.api.IconDeclaration;
+
+import javax.swing.ImageIcon;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ *  The thread safe icon cache behind {@link SwingTree#getIconCache()}.
+ *  It is a regular (mutable) map of {@link IconDeclaration}s to {@link ImageIcon}s,
+ *  but the icons it holds are bounded by a memory budget
+ *  (see {@link SwingTreeInitConfig#iconCacheMemoryBudget(long)}),
+ *  which is enforced by evicting the least recently used icons. <br>
+ *  It also owns the small background thread pool which is used to load and decode
+ *  icons asynchronously (see {@link UI#findIconAsync(IconDeclaration)}),
+ *  so that the EDT does not have to wait for the file system.
+ */
+final class IconCache extends AbstractMap<IconDeclaration, ImageIcon>
+{
+    private static final Logger log = LoggerFactory.getLogger(IconCache.class);
+
+    private static final int  BYTES_PER_PIXEL   = 4; // Decoded images are usually stored as ARGB integers.
+    private static final long MAX_DYNAMIC_BUDGET = 128L * 1024 * 1024;
+    private static final int  MAX_LOADER_THREADS = 4;
+
+    private static @Nullable ThreadPoolExecutor _LOADER = null;
+
+    private static synchronized ThreadPoolExecutor _loader() {
+        ThreadPoolExecutor loader = _LOADER;
+        if ( loader == null ) {
+            int threads = Math.max(1, Math.min(MAX_LOADER_THREADS, Runtime.getRuntime().availableProcessors() / 2));
+            AtomicInteger threadCount = new AtomicInteger(0);
+            loader = new ThreadPoolExecutor(
+                            threads, threads, 30, TimeUnit.SECONDS,
+                            new LinkedBlockingQueue<>(),
+                            runnable -> {
+                                Thread thread = new Thread(runnable, "SwingTree-Icon-Loader-" + threadCount.incrementAndGet());
+                                thread.setDaemon(true);
+                                return thread;
+                            }
+                        );
+            loader.allowCoreThreadTimeOut(true); // Idle loaders should not keep threads alive.
+            _LOADER = loader;
+        }
+        return loader;
+    }
+
+    private final LongSupplier _configuredBudget;
+    private final Map<IconDeclaration, Cached> _entries = new LinkedHashMap<>(64, 0.75f, true);
+    private final Map<IconDeclaration, CompletableFuture<Optional<ImageIcon>>> _loading = new ConcurrentHashMap<>();
+
+    private long _bytes     = 0;
+    private long _evictions = 0;
+
+
+    private static final class Cached
+    {
+        private final ImageIcon _icon;
+        private final long _bytes;
+
+        private Cached( ImageIcon icon ) {
+            _icon  = icon;
+            _bytes = _bytesOf(icon);
+        }
+    }
+
+    IconCache( LongSupplier configuredBudget ) {
+        _configuredBudget = configuredBudget;
+    }
+
+    /**
+     *  Estimates the memory occupied by the given icon based on the number of its pixels.
+     *  For SVG icons this is an over-estimate of the document itself, but it is a
+     *  good approximation of what they occupy once they are rendered.
+     */
+    private static long _bytesOf( ImageIcon icon ) {
+        long width  = Math.max(1, icon.getIconWidth());
+        long height = Math.max(1, icon.getIconHeight());
+        return width * height * BYTES_PER_PIXEL;
+    }
+
+    private long _budget() {
+        long configured = _configuredBudget.getAsLong();
+        if ( configured >= 0 )
+            return configured;
+        return Math.min(MAX_DYNAMIC_BUDGET, Runtime.getRuntime().maxMemory() / 16);
+    }
+
+    @Override
+    public synchronized @Nullable ImageIcon get( Object key ) {
+        Cached cached = _entries.get(key);
+        return cached == null ? null : cached._icon;
+    }
+
+    @Override
+    public synchronized boolean containsKey( Object key ) {
+        return _entries.containsKey(key);
+    }
+
+    /**
+     *  Stores the given icon and then evicts the least recently used icons
+     *  until the memory budget is respected again, except for the icon which was just stored.
+     */
+    @Override
+    public synchronized @Nullable ImageIcon put( IconDeclaration key, ImageIcon icon ) {
+        Cached added = new Cached(icon);
+        Cached previous = _entries.put(key, added);
+        if ( previous != null )
+            _bytes -= previous._bytes;
+        _bytes += added._bytes;
+        long budget = _budget();
+        Iterator<Cached> leastRecentlyUsed = _entries.values().iterator();
+        while ( _bytes > budget && leastRecentlyUsed.hasNext() ) {
+            Cached evicted = leastRecentlyUsed.next();
+            if ( evicted == added )
+                continue; // We never evict the entry we just added!
+            leastRecentlyUsed.remove();
+            _bytes -= evicted._bytes;
+            _evictions++;
+        }
+        return previous == null ? null : previous._icon;
+    }
+
+    @Override
+    public synchronized @Nullable ImageIcon remove( Object key ) {
+        Cached removed = _entries.remove(key);
+        if ( removed == null )
+            return null;
+        _bytes -= removed._bytes;
+        return removed._icon;
+    }
+
+    @Override
+    public synchronized void clear() {
+        _entries.clear();
+        _bytes = 0;
+    }
+
+    @Override
+    public synchronized int size() {
+        return _entries.size();
+    }
+
+    /**
+     *  Returns a view of the cached entries which iterates over a snapshot,
+     *  so that it can be used safely while other threads load icons.
+     *  Removing entries through the iterator removes them from the cache.
+     */
+    @Override
+    public Set<Entry<IconDeclaration, ImageIcon>> entrySet() {
+        return new AbstractSet<Entry<IconDeclaration, ImageIcon>>() {
+            @Override
+            public Iterator<Entry<IconDeclaration, ImageIcon>> iterator() {
+                Iterator<Entry<IconDeclaration, ImageIcon>> snapshot = _snapshot().iterator();
+                return new Iterator<Entry<IconDeclaration, ImageIcon>>() {
+                    private @Nullable Entry<IconDeclaration, ImageIcon> _current = null;
+
+                    @Override public boolean hasNext() { return snapshot.hasNext(); }
+
+                    @Override
+                    public Entry<IconDeclaration, ImageIcon> next() {
+                        _current = snapshot.next();
+                        return _current;
+                    }
+
+                    @Override
+                    public void remove() {
+                        Entry<IconDeclaration, ImageIcon> current = _current;
+                        if ( current == null )
+                            throw new IllegalStateException();
+                        IconCache.this.remove(current.getKey());
+                        _current = null;
+                    }
+                };
+            }
+
+            @Override public int size() { return IconCache.this.size(); }
+        };
+    }
+
+    private synchronized List<Entry<IconDeclaration, ImageIcon>> _snapshot() {
+        List<Entry<IconDeclaration, ImageIcon>> snapshot = new ArrayList<>(_entries.size());
+        for ( Entry<IconDeclaration, Cached> entry : _entries.entrySet() )
+            snapshot.add(new SimpleImmutableEntry<>(entry.getKey(), entry.getValue()._icon));
+        return snapshot;
+    }
+
+    /**
+     *  Loads the icon of the given declaration on the background loader threads
+     *  using the given (synchronous and caching) loader function,
+     *  unless it is already cached, in which case the returned future is already completed.
+     *  Concurrent requests for the same declaration share a single load.
+     *
+     * @param declaration The declaration of the icon which should be loaded.
+     * @param loader The function which loads the icon and stores it in this cache.
+     * @return A future which is completed with the icon, or an empty optional if it could not be found.
+     */
+    CompletableFuture<Optional<ImageIcon>> loadAsync(
+        IconDeclaration declaration,
+        Function<IconDeclaration, Optional<ImageIcon>> loader
+    ) {
+        ImageIcon cached = get(declaration);
+        if ( cached != null )
+            return CompletableFuture.completedFuture(Optional.of(cached));
+
+        CompletableFuture<Optional<ImageIcon>> created = new CompletableFuture<>();
+        CompletableFuture<Optional<ImageIcon>> existing = _loading.putIfAbsent(declaration, created);
+        if ( existing != null )
+            return existing;
+
+        _loader().execute(() -> {
+            Optional<ImageIcon> icon = Optional.empty();
+            try {
+                icon = loader.apply(declaration);
+            } catch ( Exception e ) {
+                log.error("Failed to load icon from declaration '" + declaration + "' in the background.", e);
+            } finally {
+                _loading.remove(declaration, created);
+                created.complete(icon);
+            }
+        });
+        return created;
+    }
+
+    /**
+     * @return The estimated number of bytes occupied by the cached icons.
+     */
+    synchronized long bytes() { return _bytes; }
+
+    /**
+     * @return The number of icons which were evicted to stay within the memory budget.
+     */
+    synchronized long evictions() { return _evictions; }
+}
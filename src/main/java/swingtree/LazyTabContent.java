@@ -0,0 +1,146 @@
+package swingtree;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.swing.JComponent;
+import javax.swing.JPanel;
+import javax.swing.Timer;
+import java.awt.BorderLayout;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ *  The contents of a {@link Tab} which are only built when the tab is selected for the first time
+ *  (see {@link Tab#addLazily(Supplier)}).
+ *  This is a stable container which is added to the {@link javax.swing.JTabbedPane} in place of the actual contents,
+ *  so that the tab can be found by its component even before and after the actual contents exist.
+ *  <p>
+ *  If an unload delay is configured (see {@link Tab#unloadWhenInactiveFor(long, TimeUnit)}),
+ *  the built contents are removed again after the tab has not been selected for that long,
+ *  which releases the component tree along with its property bindings,
+ *  and they are simply rebuilt when the tab is selected again.
+ */
+final class LazyTabContent extends JPanel
+{
+    private static final Logger log = LoggerFactory.getLogger(LazyTabContent.class);
+
+    private static final long NEVER_UNLOAD = -1;
+
+    private final Supplier<? extends JComponent> _factory;
+    private final long                           _unloadDelayMillis; // Negative if the contents are never unloaded.
+
+    private @Nullable Timer _unloadTimer       = null;
+    private long            _lastBuildTimeNanos = -1;
+    private int             _numberOfBuilds     = 0;
+
+
+    LazyTabContent( Supplier<? extends JComponent> factory ) {
+        this(factory, NEVER_UNLOAD);
+    }
+
+    private LazyTabContent( Supplier<? extends JComponent> factory, long unloadDelayMillis ) {
+        super(new BorderLayout());
+        _factory           = Objects.requireNonNull(factory);
+        _unloadDelayMillis = unloadDelayMillis;
+        setOpaque(false);
+    }
+
+    /**
+     * @param delay The time after which the contents of an unselected tab are unloaded.
+     * @param unit The time unit of the delay.
+     * @return A new lazy content container with the same factory and the given unload delay.
+     */
+    LazyTabContent withUnloadDelay( long delay, TimeUnit unit ) {
+        if ( delay < 0 )
+            throw new IllegalArgumentException("The unload delay must not be negative, but was " + delay + ".");
+        return new LazyTabContent(_factory, unit.toMillis(delay));
+    }
+
+    /**
+     * @return {@code true} if the actual contents have been built and not unloaded since.
+     */
+    boolean isLoaded() { return getComponentCount() > 0; }
+
+    /**
+     * @return The time in nanoseconds it took to build the contents the last time,
+     *         or -1 if they have never been built.
+     */
+    long lastBuildTimeNanos() { return _lastBuildTimeNanos; }
+
+    /**
+     * @return The number of times the contents have been built, which is more than
+     *         once if they were unloaded and the tab was selected again afterward.
+     */
+    int numberOfBuilds() { return _numberOfBuilds; }
+
+    /**
+     *  Informs this container about the selection state of its tab,
+     *  which is expected to be called on the EDT whenever the selection of the tabbed pane changes.
+     *
+     * @param isSelected Whether the tab of this container is currently selected.
+     */
+    void selectionChanged( boolean isSelected ) {
+        if ( isSelected ) {
+            if ( _unloadTimer != null )
+                _unloadTimer.stop();
+            if ( !isLoaded() )
+                _load();
+        }
+        else if ( isLoaded() && _unloadDelayMillis >= 0 )
+            _scheduleUnload();
+    }
+
+    /**
+     *  Stops a pending unload and releases the built contents right away,
+     *  which is called when the tab of this container was removed from its pane.
+     */
+    void unload() {
+        if ( _unloadTimer != null )
+            _unloadTimer.stop();
+        if ( isLoaded() )
+            _unload();
+    }
+
+    private void _load() {
+        long start = System.nanoTime();
+        JComponent contents;
+        try {
+            contents = _factory.get();
+        } catch ( Exception e ) {
+            log.error("Failed to build the contents of a lazily loaded tab!", e);
+            contents = new JPanel();
+        }
+        add(contents, BorderLayout.CENTER);
+        _lastBuildTimeNanos = System.nanoTime() - start;
+        _numberOfBuilds++;
+        log.debug(
+            "Built the contents '{}' of a lazily loaded tab in {} ms.",
+            contents.getClass().getSimpleName(), TimeUnit.NANOSECONDS.toMillis(_lastBuildTimeNanos)
+        );
+        revalidate();
+        repaint();
+    }
+
+    private void _scheduleUnload() {
+        if ( _unloadDelayMillis == 0 ) {
+            _unload();
+            return;
+        }
+        Timer timer = _unloadTimer;
+        if ( timer == null ) {
+            timer = new Timer((int) Math.min(_unloadDelayMillis, Integer.MAX_VALUE), e -> _unload());
+            timer.setRepeats(false);
+            _unloadTimer = timer;
+        }
+        timer.restart();
+    }
+
+    private void _unload() {
+        removeAll();
+        revalidate();
+        repaint();
+    }
+}
@@ -8,8 +8,10 @@ import swingtree.components.JScrollPanels;
 import javax.swing.JComponent;
 import java.awt.Component;
 import java.lang.ref.WeakReference;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.function.BiFunction;
@@ -30,7 +32,12 @@ final class ModelToViewConverter<M> implements ViewSupplier<M> {
     private final ViewSupplier<M>                      viewCreator;
     private final BiFunction<M, Exception, JComponent> errorViewCreator;
 
-    private final List<JComponent> childComponents = new ArrayList<>();
+    /*
+        The current sub-views of the parent indexed by the id of the model they were created for,
+        so that finding a reusable view is a hash lookup instead of a linear search.
+        Every id maps to a queue because the same model may be displayed more than once.
+    */
+    private final Map<Object, Deque<JComponent>> childComponents = new HashMap<>();
 
 
     ModelToViewConverter(
@@ -49,7 +56,10 @@ final class ModelToViewConverter<M> implements ViewSupplier<M> {
             for ( int vi = 0; vi < parent.getComponentCount(); vi++ ) {
                 Component child = parent.getComponent(vi);
                 if ( child instanceof JComponent ) {
-                    childComponents.add((JComponent) child);
+                    JComponent view = (JComponent) child;
+                    Object id = view.getClientProperty(UNIQUE_VIEW_CACHE_KEY);
+                    if ( id != null )
+                        childComponents.computeIfAbsent(id, k -> new ArrayDeque<>()).add(view);
                 }
             }
         }
@@ -99,18 +109,17 @@ final class ModelToViewConverter<M> implements ViewSupplier<M> {
     }
 
     private @Nullable JComponent _findCachedViewIn(M model) throws Exception {
-        JComponent parent = _subViewParent();
-        if ( parent != null ) {
-            Object id = _idFrom(model);
-            for ( JComponent existingSubView : this.childComponents ) {
-                Object foundId = existingSubView.getClientProperty(UNIQUE_VIEW_CACHE_KEY);
-                if ( Objects.equals(id, foundId) ) {
-                    existingSubView.putClientProperty(UNIQUE_VIEW_CACHE_KEY, id);
-                    return existingSubView;
-                }
-            }
-        }
-        return null;
+        if ( this.childComponents.isEmpty() )
+            return null;
+        Object id = _idFrom(model);
+        Deque<JComponent> existingSubViews = this.childComponents.get(id);
+        if ( existingSubViews == null )
+            return null;
+        // A reused view is taken out of the index, so that it is not handed out twice:
+        JComponent existingSubView = existingSubViews.poll();
+        if ( existingSubViews.isEmpty() )
+            this.childComponents.remove(id);
+        return existingSubView;
     }
 
 }
@@ -0,0 +1,160 @@
+package swingtree;
+
+import org.jspecify.annotations.Nullable;
+import swingtree.api.IconDeclaration;
+
+import javax.swing.AbstractButton;
+import javax.swing.ImageIcon;
+import javax.swing.JComponent;
+import javax.swing.JLabel;
+import javax.swing.plaf.UIResource;
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.Graphics;
+import java.awt.Image;
+import java.awt.Window;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+/**
+ *  An {@link ImageIcon} which stands in for an icon that is still being loaded
+ *  in the background (see {@link UI#findIconOrPlaceholder(IconDeclaration)}).
+ *  Until the real icon is available, it paints nothing but occupies the size of the declaration,
+ *  and its image is a transparent image of that size, so that look and feels can
+ *  derive a disabled icon from it without special handling.
+ *  Once the real icon has been loaded, all components on which the placeholder
+ *  was painted are repainted (and revalidated if the size changed),
+ *  and from then on the placeholder simply delegates to the real icon.
+ */
+final class PlaceholderIcon extends ImageIcon
+{
+    private final IconDeclaration _declaration;
+    private final Map<Component, Boolean> _paintedOn = Collections.synchronizedMap(new WeakHashMap<>());
+    private volatile @Nullable ImageIcon _loaded = null;
+    private volatile boolean _imageRequested = false; // Whether a disabled icon may have been derived from the placeholder.
+
+
+    PlaceholderIcon( IconDeclaration declaration ) {
+        _declaration = declaration;
+        setDescription(declaration.path());
+        setImage(new BufferedImage(
+                    Math.max(1, _declaredWidth()),
+                    Math.max(1, _declaredHeight()),
+                    BufferedImage.TYPE_INT_ARGB
+                ));
+    }
+
+    private int _declaredWidth() {
+        return _declaration.size().width().map(Float::intValue).orElse(0);
+    }
+
+    private int _declaredHeight() {
+        return _declaration.size().height().map(Float::intValue).orElse(0);
+    }
+
+    /**
+     *  Swaps in the loaded icon, which must be called on the EDT.
+     *
+     * @param loaded The loaded icon, or an empty optional if it could not be found,
+     *               in which case the placeholder remains empty.
+     */
+    void complete( Optional<ImageIcon> loaded ) {
+        if ( !loaded.isPresent() )
+            return;
+        int oldWidth  = getIconWidth();
+        int oldHeight = getIconHeight();
+        _loaded = loaded.get();
+        boolean sizeChanged = oldWidth != getIconWidth() || oldHeight != getIconHeight();
+        List<Component> components;
+        synchronized ( _paintedOn ) {
+            components = new ArrayList<>(_paintedOn.keySet());
+            _paintedOn.clear();
+        }
+        if ( _imageRequested ) {
+            /*
+                Disabled labels and buttons do not paint the placeholder but a grayed out copy
+                of its transparent image, which they cache, so we have to find them and
+                reset their disabled icon, so that it is derived from the loaded icon instead.
+            */
+            for ( Window window : Window.getWindows() )
+                _collectComponentsDisplayingThis(window, components);
+            for ( Component component : components )
+                _resetDerivedDisabledIcon(component);
+        }
+        for ( Component component : components ) {
+            if ( sizeChanged && component instanceof JComponent )
+                ((JComponent) component).revalidate();
+            component.repaint();
+        }
+    }
+
+    private void _collectComponentsDisplayingThis( Component component, List<Component> found ) {
+        if ( !found.contains(component) ) {
+            if ( component instanceof JLabel && ((JLabel) component).getIcon() == this )
+                found.add(component);
+            else if ( component instanceof AbstractButton && ((AbstractButton) component).getIcon() == this )
+                found.add(component);
+        }
+        if ( component instanceof Container )
+            for ( Component child : ((Container) component).getComponents() )
+                _collectComponentsDisplayingThis(child, found);
+    }
+
+    private void _resetDerivedDisabledIcon( Component component ) {
+        // Disabled icons derived by the look and feel are UI resources, the ones set by the user are kept.
+        if ( component instanceof JLabel ) {
+            JLabel label = (JLabel) component;
+            if ( label.getIcon() == this && label.getDisabledIcon() instanceof UIResource )
+                label.setDisabledIcon(null);
+        }
+        else if ( component instanceof AbstractButton ) {
+            AbstractButton button = (AbstractButton) component;
+            if ( button.getIcon() == this && button.getDisabledIcon() instanceof UIResource )
+                button.setDisabledIcon(null);
+        }
+    }
+
+    @Override
+    public int getIconWidth() {
+        ImageIcon loaded = _loaded;
+        if ( loaded != null )
+            return loaded.getIconWidth();
+        return _declaredWidth();
+    }
+
+    @Override
+    public int getIconHeight() {
+        ImageIcon loaded = _loaded;
+        if ( loaded != null )
+            return loaded.getIconHeight();
+        return _declaredHeight();
+    }
+
+    @Override
+    public Image getImage() {
+        ImageIcon loaded = _loaded;
+        if ( loaded != null )
+            return loaded.getImage();
+        _imageRequested = true;
+        return super.getImage(); // The transparent placeholder image, never null.
+    }
+
+    @Override
+    public void paintIcon( Component c, Graphics g, int x, int y ) {
+        ImageIcon loaded = _loaded;
+        if ( loaded != null )
+            loaded.paintIcon(c, g, x, y);
+        else if ( c != null )
+            _paintedOn.put(c, Boolean.TRUE);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[declaration=" + _declaration + ", loaded=" + _loaded + "]";
+    }
+}
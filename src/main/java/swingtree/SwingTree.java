@@ -99,7 +99,7 @@ public final class SwingTree
     private SwingTreeInitConfig _config;
 
     private final LazyRef<UiScale> _uiScale;
-    private final Map<IconDeclaration, ImageIcon> _iconCache = new HashMap<>();
+    private final IconCache _iconCache = new IconCache(() -> _config.iconCacheMemoryBudget());
 
 
     private SwingTree() { this(config -> config); }
@@ -155,13 +155,21 @@ public final class SwingTree
      *  {@link swingtree.UI#findIcon(String)} and {@link swingtree.UI#findIcon(IconDeclaration)} or
      *  {@link swingtree.UI#findSvgIcon(String)}, {@link swingtree.UI#findSvgIcon(IconDeclaration)}.<br>
      *  Note that the map returned by this method is mutable and can be used to add or remove icons
-     *  from the cache. <b>You may also want to consider this as a possible source of memory leaks.</b>
+     *  from the cache. It is safe to use from multiple threads, and it is bounded
+     *  by a memory budget (see {@link #getIconCacheMemoryBudget()}), which means that
+     *  the least recently used icons are evicted when too many or too large icons are loaded.
      *
      * @return The icon cache of this context, which is used to cache icons
      *         that are loaded from the file system.
      */
     public Map<IconDeclaration, ImageIcon> getIconCache() { return _iconCache; }
 
+    /**
+     *  The same as {@link #getIconCache()}, but exposing the cache implementation
+     *  for the asynchronous loading of icons.
+     */
+    IconCache iconCache() { return _iconCache; }
+
     /**
      * Returns the user scale factor is a scaling factor is used by SwingTree's
      * style engine to scale the UI during painting.
@@ -383,6 +391,146 @@ public final class SwingTree
         _config = _config.defaultAnimationInterval(defaultAnimationInterval);
     }
 
+    /**
+     *  Determines whether the SwingTree style engine may reuse the previously resolved
+     *  style of a component at the start of a new paint cycle instead of running
+     *  all style sheets and {@link swingtree.api.Styler}s again.
+     *  A cached style is only reused if none of the tracked inputs of the style resolution,
+     *  like the id, the group tags, the bounds and the enabled state of the component,
+     *  have changed since the style was last resolved.
+     *  See {@link SwingTreeInitConfig#isStyleCachingEnabled(boolean)} for more information.
+     *
+     * @return {@code true} if resolved styles may be reused across paint cycles.
+     */
+    public boolean isStyleCachingEnabled() {
+        return _config.isStyleCachingEnabled();
+    }
+
+    /**
+     *  Allows you to turn the reuse of previously resolved component styles on or off at runtime.
+     *  See {@link SwingTreeInitConfig#isStyleCachingEnabled(boolean)} for more information.
+     *
+     * @param styleCachingEnabled {@code true} if resolved styles may be reused across paint cycles.
+     */
+    public void setStyleCachingEnabled( boolean styleCachingEnabled ) {
+        _config = _config.isStyleCachingEnabled(styleCachingEnabled);
+    }
+
+    /**
+     *  Returns the maximum number of bytes which may be occupied by the images
+     *  of the global layer render cache shared by all components,
+     *  or a negative number if the budget is determined dynamically
+     *  based on the available memory of the JVM.
+     *  See {@link SwingTreeInitConfig#layerCacheMemoryBudget(long)} for more information.
+     *
+     * @return The memory budget of the global layer render cache in bytes, or a negative number.
+     */
+    public long getLayerCacheMemoryBudget() {
+        return _config.layerCacheMemoryBudget();
+    }
+
+    /**
+     *  Sets the maximum number of bytes which may be occupied by the images
+     *  of the global layer render cache shared by all components.
+     *  Pass a negative number to let SwingTree determine the budget dynamically.
+     *  See {@link SwingTreeInitConfig#layerCacheMemoryBudget(long)} for more information.
+     *
+     * @param layerCacheMemoryBudget The memory budget in bytes, or a negative number for a dynamic budget.
+     */
+    public void setLayerCacheMemoryBudget( long layerCacheMemoryBudget ) {
+        _config = _config.layerCacheMemoryBudget(layerCacheMemoryBudget);
+    }
+
+    /**
+     *  Returns the maximum number of bytes which may be occupied by the icons
+     *  of the icon cache (see {@link #getIconCache()}),
+     *  or a negative number if the budget is determined dynamically
+     *  based on the available memory of the JVM.
+     *  See {@link SwingTreeInitConfig#iconCacheMemoryBudget(long)} for more information.
+     *
+     * @return The memory budget of the icon cache in bytes, or a negative number.
+     */
+    public long getIconCacheMemoryBudget() {
+        return _config.iconCacheMemoryBudget();
+    }
+
+    /**
+     *  Sets the maximum number of bytes which may be occupied by the icons
+     *  of the icon cache (see {@link #getIconCache()}).
+     *  Pass a negative number to let SwingTree determine the budget dynamically.
+     *  The new budget is enforced the next time an icon is added to the cache.
+     *  See {@link SwingTreeInitConfig#iconCacheMemoryBudget(long)} for more information.
+     *
+     * @param iconCacheMemoryBudget The memory budget in bytes, or a negative number for a dynamic budget.
+     */
+    public void setIconCacheMemoryBudget( long iconCacheMemoryBudget ) {
+        _config = _config.iconCacheMemoryBudget(iconCacheMemoryBudget);
+    }
+
+    /**
+     *  Returns {@code true} if the images of scalable image icons are rescaled
+     *  on a background thread as soon as the UI scale changes.
+     *  See {@link SwingTreeInitConfig#isIconPrescalingEnabled(boolean)} for more information.
+     *
+     * @return {@code true} if icons are pre-scaled in the background when the UI scale changes.
+     */
+    public boolean isIconPrescalingEnabled() {
+        return _config.isIconPrescalingEnabled();
+    }
+
+    /**
+     *  Allows you to turn the background rescaling of scalable image icons on or off at runtime.
+     *  See {@link SwingTreeInitConfig#isIconPrescalingEnabled(boolean)} for more information.
+     *
+     * @param iconPrescalingEnabled {@code true} if icons should be pre-scaled in the background when the UI scale changes.
+     */
+    public void setIconPrescalingEnabled( boolean iconPrescalingEnabled ) {
+        _config = _config.isIconPrescalingEnabled(iconPrescalingEnabled);
+    }
+
+    /**
+     *  Returns the number of worker threads used for rendering noise gradients,
+     *  or a negative number if it is derived from the number of available processors.
+     *  See {@link SwingTreeInitConfig#noiseRenderingThreads(int)} for more information.
+     *
+     * @return The number of noise rendering threads, or a negative number.
+     */
+    public int getNoiseRenderingThreads() {
+        return _config.noiseRenderingThreads();
+    }
+
+    /**
+     *  Sets the number of worker threads used for rendering noise gradients.
+     *  Pass a negative number to derive it from the number of available processors.
+     *  See {@link SwingTreeInitConfig#noiseRenderingThreads(int)} for more information.
+     *
+     * @param noiseRenderingThreads The number of noise rendering threads, or a negative number for a default.
+     */
+    public void setNoiseRenderingThreads( int noiseRenderingThreads ) {
+        _config = _config.noiseRenderingThreads(noiseRenderingThreads);
+    }
+
+    /**
+     *  Returns whether the updates of bound properties to their views are coalesced,
+     *  so that only the latest value of a property is applied at most once per frame.
+     *  See {@link SwingTreeInitConfig#isViewUpdateCoalescingEnabled(boolean)} for more information.
+     *
+     * @return {@code true} if property-to-view updates are coalesced globally.
+     */
+    public boolean isViewUpdateCoalescingEnabled() {
+        return _config.isViewUpdateCoalescingEnabled();
+    }
+
+    /**
+     *  Allows you to turn the coalescing of property-to-view updates on or off at runtime.
+     *  See {@link SwingTreeInitConfig#isViewUpdateCoalescingEnabled(boolean)} for more information.
+     *
+     * @param viewUpdateCoalescingEnabled {@code true} if only the latest value of a property should be applied once per frame.
+     */
+    public void setViewUpdateCoalescingEnabled( boolean viewUpdateCoalescingEnabled ) {
+        _config = _config.isViewUpdateCoalescingEnabled(viewUpdateCoalescingEnabled);
+    }
+
     /**
      *  Exposes a set of system properties in the form of a nicely formatted string.
      *  These are used by the SwingTree library to determine the system configuration
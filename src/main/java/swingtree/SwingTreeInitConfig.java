@@ -86,7 +86,13 @@ public final class SwingTreeInitConfig
                         SystemProperties.getFloat(SystemProperties.UI_SCALE,                 -1    ),
                         SystemProperties.getBool(SystemProperties.UI_SCALE_ENABLED,          true  ),
                         SystemProperties.getBool(SystemProperties.UI_SCALE_ALLOW_SCALE_DOWN, false ),
-                        SystemProperties.getLong(SystemProperties.ANIMATION_INTERVAL,        16    )
+                        SystemProperties.getLong(SystemProperties.ANIMATION_INTERVAL,        16    ),
+                        SystemProperties.getBool(SystemProperties.STYLE_CACHING,             false ),
+                        SystemProperties.getLong(SystemProperties.LAYER_CACHE_BUDGET,        -1    ),
+                 (int)  SystemProperties.getLong(SystemProperties.NOISE_RENDERING_THREADS,   -1    ),
+                        SystemProperties.getBool(SystemProperties.COALESCE_VIEW_UPDATES,     false ),
+                        SystemProperties.getLong(SystemProperties.ICON_CACHE_BUDGET,         -1    ),
+                        SystemProperties.getBool(SystemProperties.ICON_PRESCALING,           false )
                     );
                     /*
                         Note that we want the refresh rate to be as high as possible so that the animation
@@ -108,6 +114,12 @@ public final class SwingTreeInitConfig
     private final boolean          _uiScaleEnabled;
     private final boolean          _uiScaleAllowScaleDown;
     private final long             _defaultAnimationInterval;
+    private final boolean          _styleCaching;
+    private final long             _layerCacheMemoryBudget;
+    private final int              _noiseRenderingThreads;
+    private final boolean          _viewUpdateCoalescing;
+    private final long             _iconCacheMemoryBudget;
+    private final boolean          _iconPrescaling;
 
 
     private SwingTreeInitConfig(
@@ -118,7 +130,13 @@ public final class SwingTreeInitConfig
         float            uiScale,
         boolean          uiScaleEnabled,
         boolean          uiScaleAllowScaleDown,
-        long             defaultAnimationInterval
+        long             defaultAnimationInterval,
+        boolean          styleCaching,
+        long             layerCacheMemoryBudget,
+        int              noiseRenderingThreads,
+        boolean          viewUpdateCoalescing,
+        long             iconCacheMemoryBudget,
+        boolean          iconPrescaling
     ) {
         _defaultFont              = defaultFont;
         _fontInstallation         = Objects.requireNonNull(fontInstallation);
@@ -128,6 +146,12 @@ public final class SwingTreeInitConfig
         _uiScaleEnabled           = uiScaleEnabled;
         _uiScaleAllowScaleDown    = uiScaleAllowScaleDown;
         _defaultAnimationInterval = defaultAnimationInterval;
+        _styleCaching             = styleCaching;
+        _layerCacheMemoryBudget   = layerCacheMemoryBudget;
+        _noiseRenderingThreads    = noiseRenderingThreads;
+        _viewUpdateCoalescing     = viewUpdateCoalescing;
+        _iconCacheMemoryBudget    = iconCacheMemoryBudget;
+        _iconPrescaling           = iconPrescaling;
     }
 
     /**
@@ -231,6 +255,64 @@ public final class SwingTreeInitConfig
         return _defaultAnimationInterval;
     }
 
+    /**
+     *  Returns whether the style engine is allowed to reuse the previously resolved
+     *  {@link swingtree.style.StyleConf} of a component when none of the inputs
+     *  of the style resolution have changed since the last paint,
+     *  as is specified by the system property {@code swingtree.styleCaching}.
+     */
+    boolean isStyleCachingEnabled() {
+        return _styleCaching;
+    }
+
+    /**
+     *  Returns the maximum number of bytes which may be occupied by the images
+     *  of the global layer render cache shared by all components,
+     *  or a negative number if the budget should be determined dynamically
+     *  based on the available memory of the JVM.
+     *  This is specified by the system property {@code swingtree.layerCacheBudget}.
+     */
+    long layerCacheMemoryBudget() {
+        return _layerCacheMemoryBudget;
+    }
+
+    /**
+     *  Returns the number of worker threads used for rendering noise gradients,
+     *  or a negative number if the number of threads should be derived
+     *  from the number of available processors.
+     *  This is specified by the system property {@code swingtree.noiseRenderingThreads}.
+     */
+    int noiseRenderingThreads() {
+        return _noiseRenderingThreads;
+    }
+
+    /**
+     *  Returns whether the updates of bound properties to their views are coalesced,
+     *  which means that only the latest value of a property is applied
+     *  to its component at most once per frame,
+     *  as is specified by the system property {@code swingtree.coalesceViewUpdates}.
+     */
+    boolean isViewUpdateCoalescingEnabled() {
+        return _viewUpdateCoalescing;
+    }
+
+    /**
+     *  Returns the maximum number of bytes which may be occupied by the icons
+     *  cached by {@link UI#findIcon(swingtree.api.IconDeclaration)},
+     *  or a negative number if the budget is determined dynamically.
+     */
+    long iconCacheMemoryBudget() {
+        return _iconCacheMemoryBudget;
+    }
+
+    /**
+     *  Returns {@code true} if scalable image icons are rescaled in the background
+     *  when the UI scale changes.
+     */
+    boolean isIconPrescalingEnabled() {
+        return _iconPrescaling;
+    }
+
     /**
      *  Used to configure the default font, which may be used by the {@link SwingTree}
      *  to derive the UI scaling factor and or to install the font in the {@link javax.swing.UIManager}
@@ -239,7 +321,7 @@ public final class SwingTreeInitConfig
      * @return A new {@link SwingTreeInitConfig} instance with the new default font.
      */
     public SwingTreeInitConfig defaultFont( Font newDefaultFont ) {
-        return new SwingTreeInitConfig(newDefaultFont, _fontInstallation, _eventProcessor, _styleSheet, _uiScale, _uiScaleEnabled, _uiScaleAllowScaleDown, _defaultAnimationInterval);
+        return new SwingTreeInitConfig(newDefaultFont, _fontInstallation, _eventProcessor, _styleSheet, _uiScale, _uiScaleEnabled, _uiScaleAllowScaleDown, _defaultAnimationInterval, _styleCaching, _layerCacheMemoryBudget, _noiseRenderingThreads, _viewUpdateCoalescing, _iconCacheMemoryBudget, _iconPrescaling);
     }
 
     /**
@@ -259,7 +341,7 @@ public final class SwingTreeInitConfig
      * @return A new {@link SwingTreeInitConfig} instance with the new default font and {@link FontInstallation} mode.
      */
     public SwingTreeInitConfig defaultFont( Font newDefaultFont, FontInstallation newFontInstallation ) {
-        return new SwingTreeInitConfig(newDefaultFont, newFontInstallation, _eventProcessor, _styleSheet, _uiScale, _uiScaleEnabled, _uiScaleAllowScaleDown, _defaultAnimationInterval);
+        return new SwingTreeInitConfig(newDefaultFont, newFontInstallation, _eventProcessor, _styleSheet, _uiScale, _uiScaleEnabled, _uiScaleAllowScaleDown, _defaultAnimationInterval, _styleCaching, _layerCacheMemoryBudget, _noiseRenderingThreads, _viewUpdateCoalescing, _iconCacheMemoryBudget, _iconPrescaling);
     }
 
     /**
@@ -273,7 +355,7 @@ public final class SwingTreeInitConfig
      * @return A new {@link SwingTreeInitConfig} instance with the new {@link EventProcessor}.
      */
     public SwingTreeInitConfig eventProcessor( EventProcessor newEventProcessor ) {
-        return new SwingTreeInitConfig(_defaultFont, _fontInstallation, newEventProcessor, _styleSheet, _uiScale, _uiScaleEnabled, _uiScaleAllowScaleDown, _defaultAnimationInterval);
+        return new SwingTreeInitConfig(_defaultFont, _fontInstallation, newEventProcessor, _styleSheet, _uiScale, _uiScaleEnabled, _uiScaleAllowScaleDown, _defaultAnimationInterval, _styleCaching, _layerCacheMemoryBudget, _noiseRenderingThreads, _viewUpdateCoalescing, _iconCacheMemoryBudget, _iconPrescaling);
     }
 
     /**
@@ -284,7 +366,7 @@ public final class SwingTreeInitConfig
      * @return A new {@link SwingTreeInitConfig} instance with the new {@link StyleSheet}.
      */
     public SwingTreeInitConfig styleSheet( StyleSheet newStyleSheet ) {
-        return new SwingTreeInitConfig(_defaultFont, _fontInstallation, _eventProcessor, newStyleSheet, _uiScale, _uiScaleEnabled, _uiScaleAllowScaleDown, _defaultAnimationInterval);
+        return new SwingTreeInitConfig(_defaultFont, _fontInstallation, _eventProcessor, newStyleSheet, _uiScale, _uiScaleEnabled, _uiScaleAllowScaleDown, _defaultAnimationInterval, _styleCaching, _layerCacheMemoryBudget, _noiseRenderingThreads, _viewUpdateCoalescing, _iconCacheMemoryBudget, _iconPrescaling);
     }
 
     /**
@@ -303,7 +385,7 @@ public final class SwingTreeInitConfig
      * @return A new {@link SwingTreeInitConfig} instance with the new UI scaling factor.
      */
     public SwingTreeInitConfig uiScaleFactor( float newUiScale ) {
-        return new SwingTreeInitConfig(_defaultFont, _fontInstallation, _eventProcessor, _styleSheet, newUiScale, _uiScaleEnabled, _uiScaleAllowScaleDown, _defaultAnimationInterval);
+        return new SwingTreeInitConfig(_defaultFont, _fontInstallation, _eventProcessor, _styleSheet, newUiScale, _uiScaleEnabled, _uiScaleAllowScaleDown, _defaultAnimationInterval, _styleCaching, _layerCacheMemoryBudget, _noiseRenderingThreads, _viewUpdateCoalescing, _iconCacheMemoryBudget, _iconPrescaling);
     }
 
     /**
@@ -317,7 +399,7 @@ public final class SwingTreeInitConfig
      * @return A new {@link SwingTreeInitConfig} instance with the new UI scaling mode.
      */
     public SwingTreeInitConfig isUiScaleFactorEnabled( boolean newUiScaleEnabled ) {
-        return new SwingTreeInitConfig(_defaultFont, _fontInstallation, _eventProcessor, _styleSheet, _uiScale, newUiScaleEnabled, _uiScaleAllowScaleDown, _defaultAnimationInterval);
+        return new SwingTreeInitConfig(_defaultFont, _fontInstallation, _eventProcessor, _styleSheet, _uiScale, newUiScaleEnabled, _uiScaleAllowScaleDown, _defaultAnimationInterval, _styleCaching, _layerCacheMemoryBudget, _noiseRenderingThreads, _viewUpdateCoalescing, _iconCacheMemoryBudget, _iconPrescaling);
     }
 
     /**
@@ -331,7 +413,7 @@ public final class SwingTreeInitConfig
      * @return A new {@link SwingTreeInitConfig} instance with the new UI scaling mode.
      */
     public SwingTreeInitConfig isUiScaleDownAllowed( boolean newUiScaleAllowScaleDown ) {
-        return new SwingTreeInitConfig(_defaultFont, _fontInstallation, _eventProcessor, _styleSheet, _uiScale, _uiScaleEnabled, newUiScaleAllowScaleDown, _defaultAnimationInterval);
+        return new SwingTreeInitConfig(_defaultFont, _fontInstallation, _eventProcessor, _styleSheet, _uiScale, _uiScaleEnabled, newUiScaleAllowScaleDown, _defaultAnimationInterval, _styleCaching, _layerCacheMemoryBudget, _noiseRenderingThreads, _viewUpdateCoalescing, _iconCacheMemoryBudget, _iconPrescaling);
     }
 
     /**
@@ -351,7 +433,127 @@ public final class SwingTreeInitConfig
      * @return A new {@link SwingTreeInitConfig} instance with the new default animation interval.
      */
     public SwingTreeInitConfig defaultAnimationInterval( long newDefaultAnimationInterval ) {
-        return new SwingTreeInitConfig(_defaultFont, _fontInstallation, _eventProcessor, _styleSheet, _uiScale, _uiScaleEnabled, _uiScaleAllowScaleDown, newDefaultAnimationInterval);
+        return new SwingTreeInitConfig(_defaultFont, _fontInstallation, _eventProcessor, _styleSheet, _uiScale, _uiScaleEnabled, _uiScaleAllowScaleDown, newDefaultAnimationInterval, _styleCaching, _layerCacheMemoryBudget, _noiseRenderingThreads, _viewUpdateCoalescing, _iconCacheMemoryBudget, _iconPrescaling);
+    }
+
+    /**
+     *  Used to configure whether the style engine is allowed to reuse the previously resolved
+     *  {@link swingtree.style.StyleConf} of a component instead of running all
+     *  style sheets and {@link swingtree.api.Styler}s again at the start of every paint cycle.
+     *  <p>
+     *  A cached style is reused as long as the id, the group tags, the bounds,
+     *  the enabled/focus/rollover state of the component, the font of its parent,
+     *  the UI scale and the style sheet generation remain the same
+     *  and no animation stylers are active.
+     *  If your {@link swingtree.api.Styler}s read other state,
+     *  like properties of your view model, then you have to invalidate the cached style
+     *  yourself through {@link swingtree.style.ComponentExtension#invalidateStyle()}
+     *  or {@link swingtree.style.ComponentExtension#invalidateAllStyles()}.
+     *  <p>
+     *  <strong>Allowed Values</strong> {@code false} and {@code true}<br>
+     *  <strong>Default</strong> {@code false}
+     *
+     * @param newStyleCaching The new style caching mode.
+     * @return A new {@link SwingTreeInitConfig} instance with the new style caching mode.
+     */
+    public SwingTreeInitConfig isStyleCachingEnabled( boolean newStyleCaching ) {
+        return new SwingTreeInitConfig(_defaultFont, _fontInstallation, _eventProcessor, _styleSheet, _uiScale, _uiScaleEnabled, _uiScaleAllowScaleDown, _defaultAnimationInterval, newStyleCaching, _layerCacheMemoryBudget, _noiseRenderingThreads, _viewUpdateCoalescing, _iconCacheMemoryBudget, _iconPrescaling);
+    }
+
+    /**
+     *  Used to configure the maximum number of bytes which may be occupied by the images
+     *  of the global layer render cache. This cache is shared by all components
+     *  and stores the pre-rendered style layers of components, so that they
+     *  do not have to be rendered again on every repaint.
+     *  When the budget is exceeded, the least recently used images are evicted.
+     *  Pass a negative number to let SwingTree determine the budget dynamically
+     *  based on the available memory of the JVM.
+     *  <p>
+     *  <strong>Allowed Values</strong> a positive number of bytes or {@code -1}<br>
+     *  <strong>Default</strong> {@code -1}
+     *
+     * @param newLayerCacheMemoryBudget The new memory budget in bytes, or a negative number for a dynamic budget.
+     * @return A new {@link SwingTreeInitConfig} instance with the new layer cache memory budget.
+     */
+    public SwingTreeInitConfig layerCacheMemoryBudget( long newLayerCacheMemoryBudget ) {
+        return new SwingTreeInitConfig(_defaultFont, _fontInstallation, _eventProcessor, _styleSheet, _uiScale, _uiScaleEnabled, _uiScaleAllowScaleDown, _defaultAnimationInterval, _styleCaching, newLayerCacheMemoryBudget, _noiseRenderingThreads, _viewUpdateCoalescing, _iconCacheMemoryBudget, _iconPrescaling);
+    }
+
+    /**
+     *  Used to configure the number of worker threads of the dedicated thread pool
+     *  which renders noise gradients (see {@link swingtree.style.ComponentStyleDelegate#noise(swingtree.api.Configurator)}).
+     *  The pool is bounded and separate from the common fork join pool,
+     *  so that large noise backgrounds do not compete with the parallel work of your application.
+     *  Pass a negative number to let SwingTree use one thread less than
+     *  the number of available processors (but at least one).
+     *  <p>
+     *  <strong>Allowed Values</strong> a positive number of threads or {@code -1}<br>
+     *  <strong>Default</strong> {@code -1}
+     *
+     * @param newNoiseRenderingThreads The new number of noise rendering threads, or a negative number for a default.
+     * @return A new {@link SwingTreeInitConfig} instance with the new number of noise rendering threads.
+     */
+    public SwingTreeInitConfig noiseRenderingThreads( int newNoiseRenderingThreads ) {
+        return new SwingTreeInitConfig(_defaultFont, _fontInstallation, _eventProcessor, _styleSheet, _uiScale, _uiScaleEnabled, _uiScaleAllowScaleDown, _defaultAnimationInterval, _styleCaching, _layerCacheMemoryBudget, newNoiseRenderingThreads, _viewUpdateCoalescing, _iconCacheMemoryBudget, _iconPrescaling);
+    }
+
+    /**
+     *  Used to configure whether changes of properties bound to components
+     *  are coalesced before they are applied to the views.
+     *  By default, every single change of a property is posted to the EDT
+     *  in the order in which it happened. If a property changes thousands of times per second,
+     *  (think of sensor values or progress indicators) this floods the event queue
+     *  with stale updates and the UI will lag behind the model.
+     *  When coalescing is enabled, only the latest value of every property
+     *  is applied to its component, and this at most once per frame
+     *  (see {@link #defaultAnimationInterval(long)}).
+     *  You may also enable coalescing for individual components
+     *  through {@link UIForAnySwing#withCoalescedViewUpdates(boolean)}.
+     *  <p>
+     *  <strong>Allowed Values</strong> {@code false} and {@code true}<br>
+     *  <strong>Default</strong> {@code false}
+     *
+     * @param newViewUpdateCoalescing The new view update coalescing mode.
+     * @return A new {@link SwingTreeInitConfig} instance with the new view update coalescing mode.
+     */
+    public SwingTreeInitConfig isViewUpdateCoalescingEnabled( boolean newViewUpdateCoalescing ) {
+        return new SwingTreeInitConfig(_defaultFont, _fontInstallation, _eventProcessor, _styleSheet, _uiScale, _uiScaleEnabled, _uiScaleAllowScaleDown, _defaultAnimationInterval, _styleCaching, _layerCacheMemoryBudget, _noiseRenderingThreads, newViewUpdateCoalescing, _iconCacheMemoryBudget, _iconPrescaling);
+    }
+
+    /**
+     *  Used to configure the maximum number of bytes which may be occupied by the icons
+     *  loaded and cached through {@link UI#findIcon(swingtree.api.IconDeclaration)},
+     *  {@link UI#findIconAsync(swingtree.api.IconDeclaration)} and their variations
+     *  (see {@link SwingTree#getIconCache()}).
+     *  When the budget is exceeded, the least recently used icons are evicted
+     *  and will simply be loaded again when they are requested the next time.
+     *  Pass a negative number to let SwingTree determine the budget dynamically
+     *  based on the available memory of the JVM.
+     *  <p>
+     *  <strong>Allowed Values</strong> a positive number of bytes or {@code -1}<br>
+     *  <strong>Default</strong> {@code -1}
+     *
+     * @param newIconCacheMemoryBudget The new memory budget in bytes, or a negative number for a dynamic budget.
+     * @return A new {@link SwingTreeInitConfig} instance with the new icon cache memory budget.
+     */
+    public SwingTreeInitConfig iconCacheMemoryBudget( long newIconCacheMemoryBudget ) {
+        return new SwingTreeInitConfig(_defaultFont, _fontInstallation, _eventProcessor, _styleSheet, _uiScale, _uiScaleEnabled, _uiScaleAllowScaleDown, _defaultAnimationInterval, _styleCaching, _layerCacheMemoryBudget, _noiseRenderingThreads, _viewUpdateCoalescing, newIconCacheMemoryBudget, _iconPrescaling);
+    }
+
+    /**
+     *  Used to configure whether the images of {@link swingtree.style.ScalableImageIcon}s
+     *  are rescaled on a background thread as soon as the UI scale changes
+     *  (see {@link UI#scale()}), so that the EDT finds the rescaled images ready
+     *  when it repaints the UI, instead of having to scale every icon on its next paint.
+     *  <p>
+     *  <strong>Allowed Values</strong> {@code false} and {@code true}<br>
+     *  <strong>Default</strong> {@code false}
+     *
+     * @param newIconPrescaling The new icon pre-scaling mode.
+     * @return A new {@link SwingTreeInitConfig} instance with the new icon pre-scaling mode.
+     */
+    public SwingTreeInitConfig isIconPrescalingEnabled( boolean newIconPrescaling ) {
+        return new SwingTreeInitConfig(_defaultFont, _fontInstallation, _eventProcessor, _styleSheet, _uiScale, _uiScaleEnabled, _uiScaleAllowScaleDown, _defaultAnimationInterval, _styleCaching, _layerCacheMemoryBudget, _noiseRenderingThreads, _viewUpdateCoalescing, _iconCacheMemoryBudget, newIconPrescaling);
     }
 
     /**
@@ -402,6 +604,56 @@ public final class SwingTreeInitConfig
          */
         String ANIMATION_INTERVAL = "swingtree.animationInterval";
 
+        /**
+         * Specifies whether resolved component styles may be reused across paint cycles
+         * as long as none of the inputs of the style resolution have changed.
+         * <p>
+         * <strong>Allowed Values</strong> {@code false} and {@code true}<br>
+         * <strong>Default</strong> {@code false}
+         */
+        String STYLE_CACHING = "swingtree.styleCaching";
+
+        /**
+         * Specifies the maximum number of bytes occupied by the images of the global layer render cache.
+         * <p>
+         * <strong>Allowed Values</strong> must be a positive integer<br>
+         * <strong>Default</strong> determined dynamically based on the available memory
+         */
+        String LAYER_CACHE_BUDGET = "swingtree.layerCacheBudget";
+
+        /**
+         * Specifies the number of worker threads used for rendering noise gradients.
+         * <p>
+         * <strong>Allowed Values</strong> must be a positive integer<br>
+         * <strong>Default</strong> the number of available processors minus one
+         */
+        String NOISE_RENDERING_THREADS = "swingtree.noiseRenderingThreads";
+
+        /**
+         * Specifies whether only the latest value of a bound property is applied to its view
+         * at most once per frame, instead of applying every single change in order.
+         * <p>
+         * <strong>Allowed Values</strong> {@code false} and {@code true}<br>
+         * <strong>Default</strong> {@code false}
+         */
+        String COALESCE_VIEW_UPDATES = "swingtree.coalesceViewUpdates";
+
+        /**
+         * Specifies the maximum number of bytes occupied by the icons of the global icon cache.
+         * <p>
+         * <strong>Allowed Values</strong> must be a positive integer<br>
+         * <strong>Default</strong> determined dynamically based on the available memory
+         */
+        String ICON_CACHE_BUDGET = "swingtree.iconCacheBudget";
+
+        /**
+         * Specifies whether scalable image icons are rescaled in the background when the UI scale changes.
+         * <p>
+         * <strong>Allowed Values</strong> {@code false} and {@code true}<br>
+         * <strong>Default</strong> {@code false}
+         */
+        String ICON_PRESCALING = "swingtree.iconPrescaling";
+
         /**
          * Checks whether a system property is set and returns {@code true} if its value
          * is {@code "true"} (case-insensitive), otherwise it returns {@code false}.
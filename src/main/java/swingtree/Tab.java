@@ -14,6 +14,8 @@ import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  *  An immutable data carrier exposing everything needed to configure a tab of a {@link JTabbedPane}.
@@ -317,6 +319,43 @@ public final class Tab
         return new Tab(contents, _headerComponent, _title, _isSelected, _isEnabled, _icon, _tip, _onSelected, _onMouseClick);
     }
 
+    /**
+     *  Use this to add contents to the tab which are only built when the tab is selected for the first time,
+     *  instead of when the tab is added to the tabbed pane.
+     *  This is useful for tabbed panes with many heavy tabs, of which only one is visible at a time.
+     *  The time it took to build the contents is logged on the debug level.
+     *
+     * @param contents A supplier of the contents UI, which is called on the EDT when the tab is first selected.
+     * @return A new {@link Tab} instance with the provided argument, which enables builder-style method chaining.
+     */
+    public final Tab addLazily( Supplier<? extends UIForAnySwing<?,?>> contents ) {
+        NullUtil.nullArgCheck(contents,"contents",Supplier.class);
+        if ( _contents != null )
+            log.warn("Content component already specified!", new Throwable());
+        LazyTabContent lazyContents = new LazyTabContent(() -> contents.get().getComponent());
+        return new Tab(lazyContents, _headerComponent, _title, _isSelected, _isEnabled, _icon, _tip, _onSelected, _onMouseClick);
+    }
+
+    /**
+     *  Use this to unload the contents added through {@link #addLazily(Supplier)}
+     *  after the tab has not been selected for the given amount of time.
+     *  Unloading the contents releases their component tree along with its property bindings,
+     *  and the contents are simply rebuilt when the tab is selected again.
+     *
+     * @param time The amount of time after which the contents of an unselected tab are unloaded.
+     * @param unit The time unit of the provided time.
+     * @return A new {@link Tab} instance with the provided arguments, which enables builder-style method chaining.
+     */
+    public final Tab unloadWhenInactiveFor( long time, TimeUnit unit ) {
+        NullUtil.nullArgCheck(unit,"unit",TimeUnit.class);
+        if ( !(_contents instanceof LazyTabContent) ) {
+            log.warn("Only contents added through 'addLazily(..)' can be unloaded!", new Throwable());
+            return this;
+        }
+        LazyTabContent lazyContents = ((LazyTabContent) _contents).withUnloadDelay(time, unit);
+        return new Tab(lazyContents, _headerComponent, _title, _isSelected, _isEnabled, _icon, _tip, _onSelected, _onMouseClick);
+    }
+
     /**
      *  Use this to register and catch generic {@link ChangeEvent} based selection events for this tab
      *  and perform some action when the tab is selected.
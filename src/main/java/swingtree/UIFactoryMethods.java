@@ -25,6 +25,7 @@ import swingtree.dialogs.OptionsDialog;
 import swingtree.layout.LayoutConstraint;
 import swingtree.layout.Size;
 import swingtree.style.ComponentExtension;
+import swingtree.style.ImageScaler;
 import swingtree.style.ScalableImageIcon;
 import swingtree.style.StyleSheet;
 import swingtree.style.SvgIcon;
@@ -42,6 +43,7 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -2592,6 +2594,47 @@ public abstract class UIFactoryMethods extends UILayoutConstants
         return new UIForScrollPanels<>(new BuilderState<>(JScrollPanels.class, ()->JScrollPanels.of(align, size)));
     }
 
+    /**
+     *  Use this to create a builder for a new virtualized {@link JScrollPanels} UI component,
+     *  which only creates the views of the entries currently intersecting its viewport
+     *  and releases them again when they are scrolled out of sight.
+     *  Use this instead of {@link #scrollPanels(UI.Align, Dimension)} for very large lists of entries,
+     *  where every entry has roughly the supplied size. <br>
+     *  Here is an example of a virtualized list of thousands of entries:
+     *  <pre>{@code
+     *      UI.virtualScrollPanels(UI.Align.VERTICAL, new Dimension(200, 40))
+     *      .addAll(viewModel.entries(), entry ->
+     *          UI.panel().add(UI.label(entry.text()))
+     *      )
+     *  }</pre>
+     *
+     * @param align The alignment of the scroll panels.
+     * @param entrySize The estimated size of a single entry, which is refined by measuring the materialized entries.
+     * @return A builder instance for a new virtualized {@link JScrollPanels}, which enables fluent method chaining.
+     */
+    public static UIForScrollPanels<JScrollPanels> virtualScrollPanels( UI.Align align, Dimension entrySize ) {
+        return virtualScrollPanels(align, entrySize, false);
+    }
+
+    /**
+     *  Use this to create a builder for a new virtualized {@link JScrollPanels} UI component,
+     *  which only creates the views of the entries currently intersecting its viewport
+     *  and releases them again when they are scrolled out of sight.
+     *  See {@link JScrollPanels#ofVirtual(UI.Align, Dimension, boolean)} for more information.
+     *
+     * @param align The alignment of the scroll panels.
+     * @param entrySize The (estimated) size of a single entry.
+     * @param entrySizeIsFixed If true, every entry is given exactly the supplied size,
+     *                         which makes computing the scroll extent trivial,
+     *                         otherwise the size is only an estimate for the entries which were not yet measured.
+     * @return A builder instance for a new virtualized {@link JScrollPanels}, which enables fluent method chaining.
+     */
+    public static UIForScrollPanels<JScrollPanels> virtualScrollPanels( UI.Align align, Dimension entrySize, boolean entrySizeIsFixed ) {
+        NullUtil.nullArgCheck(align, "align", UI.Align.class);
+        NullUtil.nullArgCheck(entrySize, "entrySize", Dimension.class);
+        return new UIForScrollPanels<>(new BuilderState<>(JScrollPanels.class, ()->JScrollPanels.ofVirtual(align, entrySize, entrySizeIsFixed)));
+    }
+
     /**
      *  Use this to create a builder for the provided {@link JSplitPane} instance.
      *
@@ -6489,6 +6532,103 @@ public abstract class UIFactoryMethods extends UILayoutConstants
         return Optional.ofNullable(icon);
     }
 
+    /**
+     * Loads an {@link ImageIcon} from the resource folder, the classpath or a local file
+     * on a background thread, so that the calling thread (usually the EDT)
+     * does not have to wait for the image to be read and decoded.
+     * If the icon has already been loaded, the returned future is already completed.
+     * The loaded icon is stored in the same cache as the icons loaded by {@link #findIcon(IconDeclaration)}.
+     * <br><br>
+     * Note that the future is completed on a background thread, so you have to
+     * use {@link UI#run(Runnable)} if you want to put the icon into a component.
+     *
+     * @param declaration The icon declaration, a value object defining the path to the icon.
+     * @return A future which is completed with the icon, or an empty optional if it could not be found.
+     * @throws NullPointerException if {@code declaration} is {@code null}.
+     */
+    public static CompletableFuture<Optional<ImageIcon>> findIconAsync( IconDeclaration declaration ) {
+        Objects.requireNonNull(declaration, "declaration");
+        return SwingTree.get().iconCache().loadAsync(declaration, UIFactoryMethods::findIcon);
+    }
+
+    /**
+     * Loads an {@link ImageIcon} from the resource folder, the classpath or a local file
+     * on a background thread, see {@link #findIconAsync(IconDeclaration)} for more information.
+     *
+     * @param path The path to the icon. It can be a classpath resource or a file path.
+     * @return A future which is completed with the icon, or an empty optional if it could not be found.
+     * @throws NullPointerException if {@code path} is {@code null}.
+     */
+    public static CompletableFuture<Optional<ImageIcon>> findIconAsync( String path ) {
+        return findIconAsync(IconDeclaration.of(path));
+    }
+
+    /**
+     * Returns the icon of the given declaration immediately if it is already cached,
+     * otherwise a placeholder icon is returned while the real icon is loaded in the background
+     * (see {@link #findIconAsync(IconDeclaration)}).
+     * The placeholder has the size of the declaration and paints nothing,
+     * until the real icon is available, at which point it is swapped in
+     * and the components displaying the placeholder are repainted.
+     * This allows you to build views with many icons without blocking the EDT:
+     * <pre>{@code
+     *     UI.label(UI.findIconOrPlaceholder(Icons.USER.withSize(16, 16)))
+     * }</pre>
+     *
+     * @param declaration The icon declaration, a value object defining the path to the icon.
+     * @return The cached icon or a placeholder which will display the icon once it has been loaded.
+     * @throws NullPointerException if {@code declaration} is {@code null}.
+     */
+    public static ImageIcon findIconOrPlaceholder( IconDeclaration declaration ) {
+        Objects.requireNonNull(declaration, "declaration");
+        ImageIcon cached = SwingTree.get().getIconCache().get(declaration);
+        if ( cached != null )
+            return cached;
+        PlaceholderIcon placeholder = new PlaceholderIcon(declaration);
+        findIconAsync(declaration).thenAccept( icon -> UI.run(() -> placeholder.complete(icon)) );
+        return placeholder;
+    }
+
+    /**
+     * Loads all the icons declared by the constants of the given enum type in the background,
+     * so that they are already cached when they are needed.
+     * This is intended to be called at startup for your icon declaration enums:
+     * <pre>{@code
+     *     public enum Icons implements IconDeclaration {
+     *         ADD("icons/add.svg"), REMOVE("icons/remove.svg");
+     *         ...
+     *     }
+     *     ...
+     *     UI.preloadIcons(Icons.class);
+     * }</pre>
+     *
+     * @param type The enum type whose constants declare the icons which should be loaded.
+     * @param <E> The type of the enum which implements {@link IconDeclaration}.
+     * @return A future which is completed once all icons were loaded (or could not be found).
+     * @throws NullPointerException if {@code type} is {@code null}.
+     */
+    public static <E extends Enum<E> & IconDeclaration> CompletableFuture<Void> preloadIcons( Class<E> type ) {
+        Objects.requireNonNull(type, "type");
+        return preloadIcons(java.util.Arrays.asList(type.getEnumConstants()));
+    }
+
+    /**
+     * Loads all the given icons in the background,
+     * so that they are already cached when they are needed.
+     * See {@link #preloadIcons(Class)} for loading all icons of an enum.
+     *
+     * @param declarations The declarations of the icons which should be loaded.
+     * @return A future which is completed once all icons were loaded (or could not be found).
+     * @throws NullPointerException if {@code declarations} is {@code null}.
+     */
+    public static CompletableFuture<Void> preloadIcons( Iterable<? extends IconDeclaration> declarations ) {
+        Objects.requireNonNull(declarations, "declarations");
+        java.util.List<CompletableFuture<Optional<ImageIcon>>> loading = new java.util.ArrayList<>();
+        for ( IconDeclaration declaration : declarations )
+            loading.add(findIconAsync(declaration));
+        return CompletableFuture.allOf(loading.toArray(new CompletableFuture[0]));
+    }
+
     public static @Nullable Icon scaleIconTo( Size size, @Nullable Icon icon ) {
         if ( icon == null )
             return null;
@@ -6544,8 +6684,7 @@ public abstract class UIFactoryMethods extends UILayoutConstants
             svgIcon = svgIcon.withIconSize(width, height);
             return svgIcon;
         } else if ( icon instanceof ImageIcon ) {
-            Image scaled = ((ImageIcon)icon).getImage().getScaledInstance(width, height, Image.SCALE_SMOOTH);
-            return new ImageIcon(scaled);
+            return ImageScaler.scaledIcon((ImageIcon) icon, width, height);
         }
         return icon;
     }
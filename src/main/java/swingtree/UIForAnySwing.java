@@ -28,7 +28,6 @@ import swingtree.layout.ResponsiveGridFlowLayout;
 import swingtree.layout.Size;
 import swingtree.style.ComponentExtension;
 
-import javax.swing.Timer;
 import javax.swing.*;
 import javax.swing.border.Border;
 import javax.swing.border.TitledBorder;
@@ -62,7 +61,6 @@ public abstract class UIForAnySwing<I, C extends JComponent> extends UIForAnythi
 {
     private static final Logger log = org.slf4j.LoggerFactory.getLogger(UIForAnySwing.class);
 
-    private final static String _TIMERS_KEY = "_swing-tree.timers";
 
 
     @SuppressWarnings("ReferenceEquality")
@@ -791,6 +789,28 @@ public abstract class UIForAnySwing<I, C extends JComponent> extends UIForAnythi
         return _with( c -> c.putClientProperty(key, value) )._this();
     }
 
+    /**
+     *  Allows you to opt the wrapped component into coalesced view updates,
+     *  which means that when a property bound to this component changes rapidly,
+     *  only its latest value is applied to the component, and this at most once per frame,
+     *  instead of every single change being posted to the EDT in order.
+     *  This is useful for properties which change thousands of times per second,
+     *  like sensor values or the progress of a long-running task:
+     *  <pre>{@code
+     *     UI.label("")
+     *     .withCoalescedViewUpdates(true)
+     *     .withText( vm.sensorReading() )
+     *  }</pre>
+     *  To enable coalescing for all components, see
+     *  {@link SwingTree#setViewUpdateCoalescingEnabled(boolean)}.
+     *
+     * @param coalesce {@code true} if only the latest value of a bound property should be shown once per frame.
+     * @return This very instance, which enables builder-style method chaining.
+     */
+    public final I withCoalescedViewUpdates( boolean coalesce ) {
+        return _with( c -> c.putClientProperty(ViewUpdateCoalescer.CLIENT_PROPERTY_KEY, coalesce ? Boolean.TRUE : null) )._this();
+    }
+
     /**
      *  Use this to attach a border to the wrapped component.
      *
@@ -4682,6 +4702,10 @@ public abstract class UIForAnySwing<I, C extends JComponent> extends UIForAnythi
     /**
      *  Use this to register periodic update actions which should be called
      *  based on the provided {@code delay}! <br>
+     *  All update actions with the same delay share a single timer, and their ticks are aligned
+     *  to a common phase. The update actions of a component are paused while it is part of a window
+     *  but not showing (for example in a hidden tab), and they are unregistered automatically
+     *  once the component is garbage collected. <br>
      *  The following example produces a label which will display the current date.
      *  <pre>{@code
      *      UI.label("")
@@ -4694,24 +4718,7 @@ public abstract class UIForAnySwing<I, C extends JComponent> extends UIForAnythi
      */
     public final I doUpdates( int delay, Action<ComponentDelegate<C, ActionEvent>> onUpdate ) {
         NullUtil.nullArgCheck(onUpdate, "onUpdate", Action.class);
-        return _with( thisComponent -> {
-                   Timer timer = new Timer(delay, e -> {
-                       try {
-                           onUpdate.accept(new ComponentDelegate<>(thisComponent, e));
-                       } catch ( Exception ex ) {
-                           log.error("Error in update action handler!", ex);
-                       }
-                   });
-                   {
-                       java.util.List<Timer> timers = (java.util.List<Timer>) thisComponent.getClientProperty(_TIMERS_KEY);
-                       if ( timers == null ) {
-                           timers = new ArrayList<>();
-                           thisComponent.putClientProperty(_TIMERS_KEY, timers);
-                       }
-                       timers.add(timer);
-                   }
-                   timer.start();
-               })
+        return _with( thisComponent -> UpdateTicker.get().register(delay, thisComponent, onUpdate) )
                ._this();
     }
 
@@ -5152,7 +5159,6 @@ public abstract class UIForAnySwing<I, C extends JComponent> extends UIForAnythi
     }
 
     private <M> void _updateSubViews(C innerComponent, @Nullable AddConstraint attr, ValsDelegate<M> delegate, ModelToViewConverter<M> viewSupplier) {
-        // we simply redo all the components.
         Vals<M> newValues = delegate.newValues();
         Vals<M> oldValues = delegate.oldValues();
         int index = delegate.index().orElse(-1);
@@ -5161,9 +5167,7 @@ public abstract class UIForAnySwing<I, C extends JComponent> extends UIForAnythi
             case SET:
                 if ( index < 0 ) {
                     log.error("Missing index for change type: {}", delegate.change(), new Throwable());
-                    _clearComponentsOf(innerComponent);
-                    for ( int i = 0; i < delegate.currentValues().size(); i++ )
-                        _addComponentAt( i, delegate.currentValues().at(i).orElseNull(), viewSupplier, attr, innerComponent );
+                    _reconcileSubViews(innerComponent, delegate.currentValues(), viewSupplier, attr);
                 } else {
                     for ( int i = 0; i < newValues.size(); i++ ) {
                         int position = i + index;
@@ -5173,9 +5177,7 @@ public abstract class UIForAnySwing<I, C extends JComponent> extends UIForAnythi
                 break;
             case ADD:
                 if ( index < 0 || newValues.any(Val::isEmpty) ) {
-                    _clearComponentsOf(innerComponent);
-                    for ( int i = 0; i < delegate.currentValues().size(); i++ )
-                        _addComponentAt( i, delegate.currentValues().at(i).orElseNull(), viewSupplier, attr, innerComponent );
+                    _reconcileSubViews(innerComponent, delegate.currentValues(), viewSupplier, attr);
                 } else {
                     for ( int i = 0; i < newValues.size(); i++ ) {
                         int position = i + index;
@@ -5186,9 +5188,7 @@ public abstract class UIForAnySwing<I, C extends JComponent> extends UIForAnythi
             case REMOVE:
                 if ( index < 0 ) {
                     log.error("Missing index for change type: {}", delegate.change(), new Throwable());
-                    _clearComponentsOf(innerComponent);
-                    for ( int i = 0; i < delegate.currentValues().size(); i++ )
-                        _addComponentAt( i, delegate.currentValues().at(i).orElseNull(), viewSupplier, attr, innerComponent );
+                    _reconcileSubViews(innerComponent, delegate.currentValues(), viewSupplier, attr);
                 } else {
                     for ( int i = oldValues.size() - 1; i >= 0; i-- ) {
                         int position = i + index;
@@ -5201,12 +5201,11 @@ public abstract class UIForAnySwing<I, C extends JComponent> extends UIForAnythi
             case NONE: break;
             default:
                 log.error("Unknown change type: {}", delegate.change(), new Throwable());
-                // We do a simple rebuild:
-                Vals<M> currentValues = delegate.currentValues();
-                _clearComponentsOf(innerComponent);
-                for ( int i = 0; i < currentValues.size(); i++ )
-                    _addComponentAt( i, currentValues.at(i).orElseNull(), viewSupplier, attr, innerComponent );
+                // We bring the sub-views in line with the current models:
+                _reconcileSubViews(innerComponent, delegate.currentValues(), viewSupplier, attr);
         }
+        // All the changes above are applied in one batch, so we only need to update the layout once:
+        _revalidateAndRepaint(innerComponent);
         if ( innerComponent.getComponentCount() != delegate.currentValues().size() )
             log.warn(
                     "Broken binding to view model list detected! \n" +
@@ -5248,16 +5247,15 @@ public abstract class UIForAnySwing<I, C extends JComponent> extends UIForAnythi
             lastDiffRef.set(diff);
 
             if ( diff == null || ( lastDiff == null || !diff.isDirectSuccessorOf(lastDiff) ) ) {
-                _clearComponentsOf(c);
-                _addAllFromTuple(tupleOfModels, attr, viewSupplier, c);
+                // There is no usable diff, so we figure out the minimal changes ourselves:
+                _reconcileSubViews(c, tupleOfModels, viewSupplier, attr);
             } else {
                 int index = diff.index().orElse(-1);
                 int count = diff.size();
                 switch (diff.change()) {
                     case SET:
                         if ( index < 0 ) {
-                            _clearComponentsOf(c); // We do a simple re-build
-                            _addAllFromTuple(tupleOfModels, attr, viewSupplier, c);
+                            _reconcileSubViews(c, tupleOfModels, viewSupplier, attr);
                         } else {
                             for ( int i = index; i < (index + count); i++ )
                                 _updateComponentAt(i, tupleOfModels.get(i), viewSupplier, attr, c);
@@ -5265,8 +5263,7 @@ public abstract class UIForAnySwing<I, C extends JComponent> extends UIForAnythi
                         break;
                     case ADD:
                         if ( index < 0 ) {
-                            _clearComponentsOf(c); // We do a simple re-build
-                            _addAllFromTuple(tupleOfModels, attr, viewSupplier, c);
+                            _reconcileSubViews(c, tupleOfModels, viewSupplier, attr);
                         } else {
                             for ( int i = index; i < (index + count); i++ )
                                 _addComponentAt(i, tupleOfModels.get(i), viewSupplier, attr, c);
@@ -5274,8 +5271,7 @@ public abstract class UIForAnySwing<I, C extends JComponent> extends UIForAnythi
                         break;
                     case REMOVE:
                         if ( index < 0 ) {
-                            _clearComponentsOf(c); // We do a simple re-build
-                            _addAllFromTuple(tupleOfModels, attr, viewSupplier, c);
+                            _reconcileSubViews(c, tupleOfModels, viewSupplier, attr);
                         } else {
                             for ( int i = (index + count - 1); i >= index; i-- )
                                 _removeComponentAt(i, c);
@@ -5283,8 +5279,7 @@ public abstract class UIForAnySwing<I, C extends JComponent> extends UIForAnythi
                         break;
                     case RETAIN: // Only keep the elements in the range.
                         if ( index < 0 ) {
-                            _clearComponentsOf(c); // We do a simple re-build
-                            _addAllFromTuple(tupleOfModels, attr, viewSupplier, c);
+                            _reconcileSubViews(c, tupleOfModels, viewSupplier, attr);
                         } else {
                             // Remove trailing components:
                             for ( int i = (c.getComponentCount() - 1); i >= (index + count); i-- )
@@ -5300,11 +5295,101 @@ public abstract class UIForAnySwing<I, C extends JComponent> extends UIForAnythi
                         break;
                     default:
                         log.error("Unknown change type: {}", diff.change(), new Throwable());
-                        // We do a simple rebuild:
-                        _clearComponentsOf(c);
-                        _addAllFromTuple(tupleOfModels, attr, viewSupplier, c);
+                        // We bring the sub-views in line with the current models:
+                        _reconcileSubViews(c, tupleOfModels, viewSupplier, attr);
                 }
             }
+            // All the changes above are applied in one batch, so we only need to update the layout once:
+            _revalidateAndRepaint(c);
+    }
+
+    private <M> void _reconcileSubViews( C c, Vals<M> models, ViewSupplier<M> viewSupplier, @Nullable AddConstraint attr ) {
+        List<JComponent> views = new ArrayList<>(models.size());
+        for ( int i = 0; i < models.size(); i++ )
+            views.add(_createSubViewFor(models.at(i).orElseNull(), viewSupplier));
+        _reconcileSubViews(c, views, attr);
+    }
+
+    private <M> void _reconcileSubViews( C c, Tuple<M> models, ViewSupplier<M> viewSupplier, @Nullable AddConstraint attr ) {
+        List<JComponent> views = new ArrayList<>(models.size());
+        for ( int i = 0; i < models.size(); i++ )
+            views.add(_createSubViewFor(models.get(i), viewSupplier));
+        _reconcileSubViews(c, views, attr);
+    }
+
+    /**
+     *  Brings the sub-components of the given component in line with the given list of views
+     *  using as few removals and insertions as possible.
+     *  The views which already are sub-components and whose relative order does not change
+     *  (the longest increasing subsequence of their current indices) stay where they are,
+     *  all other sub-components are removed and the remaining views are inserted at their target positions.
+     *  So when the views are reused by the {@link ModelToViewConverter}, a reordering, insertion or removal
+     *  of a few models only touches the affected components instead of re-building all of them.
+     *  Note that this does not update the layout, which is up to the caller.
+     */
+    private void _reconcileSubViews( C c, List<JComponent> views, @Nullable AddConstraint attr ) {
+        Map<Component, Integer> currentIndices = new IdentityHashMap<>(c.getComponentCount() * 2);
+        for ( int i = 0; i < c.getComponentCount(); i++ )
+            currentIndices.put(c.getComponent(i), i);
+
+        int[] previousIndices = new int[views.size()];
+        Set<JComponent> distinctViews = Collections.newSetFromMap(new IdentityHashMap<>(views.size() * 2));
+        for ( int i = 0; i < views.size(); i++ ) {
+            JComponent view = views.get(i);
+            if ( !distinctViews.add(view) ) {
+                // The same component cannot be in two places at once, so we simply re-build everything:
+                _clearComponentsOf(c);
+                for ( int j = 0; j < views.size(); j++ )
+                    _insertSubView(c, views.get(j), j, attr);
+                return;
+            }
+            Integer previousIndex = currentIndices.get(view);
+            previousIndices[i] = previousIndex == null ? -1 : previousIndex;
+        }
+
+        Set<JComponent> stationary = Collections.newSetFromMap(new IdentityHashMap<>());
+        for ( int i : _longestIncreasingSubsequence(previousIndices) )
+            stationary.add(views.get(i));
+
+        for ( int i = c.getComponentCount() - 1; i >= 0; i-- )
+            if ( !stationary.contains(c.getComponent(i)) )
+                c.remove(i);
+
+        for ( int i = 0; i < views.size(); i++ ) {
+            JComponent view = views.get(i);
+            if ( !stationary.contains(view) )
+                _insertSubView(c, view, i, attr);
+        }
+    }
+
+    /**
+     *  Finds the positions of the longest strictly increasing subsequence
+     *  of the non-negative entries in the given array, in O(n log n) time.
+     */
+    private static int[] _longestIncreasingSubsequence( int[] values ) {
+        int[] tails       = new int[values.length]; // Positions of the smallest tail of every subsequence length.
+        int[] predecessor = new int[values.length];
+        int length = 0;
+        for ( int i = 0; i < values.length; i++ ) {
+            if ( values[i] < 0 )
+                continue;
+            int low = 0, high = length;
+            while ( low < high ) {
+                int mid = ( low + high ) >>> 1;
+                if ( values[tails[mid]] < values[i] ) low = mid + 1;
+                else high = mid;
+            }
+            predecessor[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            if ( low == length )
+                length++;
+        }
+        int[] positions = new int[length];
+        for ( int i = length - 1, position = length > 0 ? tails[length - 1] : -1; i >= 0; i-- ) {
+            positions[i] = position;
+            position = predecessor[position];
+        }
+        return positions;
     }
 
     private <M> void _addAllFromTuple( Tuple<M> tupleOfModels, @Nullable AddConstraint attr, ViewSupplier<M> viewSupplier, C thisComponent ) {
@@ -5360,63 +5445,52 @@ public abstract class UIForAnySwing<I, C extends JComponent> extends UIForAnythi
                 _addComponentsTo(thisComponent, attr, new JPanel()); // We add a dummy component to the list of children.
         }
         // Finally we add a listener to the viewable which will update the component when the viewable changes.
-        _onShow( viewable, thisComponent, (c,v) -> _updateComponentAt(index, v, viewSupplier, attr, c) );
+        _onShow( viewable, thisComponent, (c,v) -> {
+            _updateComponentAt(index, v, viewSupplier, attr, c);
+            _revalidateAndRepaint(c);
+        });
     }
 
     private <M> void _updateComponentAt(
         int index, @Nullable M v, ViewSupplier<M> viewSupplier, @Nullable AddConstraint attr, C c
     ) {
-        JComponent newComponent;
-        if ( v == null ) {
-            newComponent = new JBox();
-        } else {
-            UIForAnySwing<?, ?> view = null;
-            try {
-                view = viewSupplier.createViewFor(v);
-            } catch ( Exception e ) {
-                log.error("Error while creating view for '"+v+"'.", e);
-            }
-            if ( view == null )
-                view = UI.box(); // We add a dummy component to the list of children.
-
-            newComponent = view.get((Class)view.getType());
-        }
+        JComponent newComponent = _createSubViewFor(v, viewSupplier);
         // We remove the old component.
         c.remove(c.getComponent(index));
         // We add the new component.
-        if ( attr == null )
-            c.add(newComponent, index);
-        else
-            c.add(newComponent, attr.toConstraintForLayoutManager(), index);
-        // We update the layout.
-        c.revalidate();
-        c.repaint();
+        _insertSubView(c, newComponent, index, attr);
     }
 
     private <M> void _addComponentAt(
         int index, @Nullable M v, ViewSupplier<M> viewSupplier, @Nullable AddConstraint attr, C thisComponent
     ) {
-        JComponent newComponent;
-        if ( v == null ) {
-            newComponent = new JBox();
-        } else {
-            UIForAnySwing<?, ?> view = null;
-            try {
-                view = viewSupplier.createViewFor(v);
-            } catch ( Exception e ) {
-                log.error("Error while creating view for '"+v+"'.", e);
-            }
-            if ( view == null )
-                view = UI.box(); // We add a dummy component to the list of children.
+        _insertSubView(thisComponent, _createSubViewFor(v, viewSupplier), index, attr);
+    }
+
+    private <M> JComponent _createSubViewFor( @Nullable M v, ViewSupplier<M> viewSupplier ) {
+        if ( v == null )
+            return new JBox();
 
-            newComponent = view.get((Class)view.getType());
+        UIForAnySwing<?, ?> view = null;
+        try {
+            view = viewSupplier.createViewFor(v);
+        } catch ( Exception e ) {
+            log.error("Error while creating view for '"+v+"'.", e);
         }
-        // We add the new component.
+        if ( view == null )
+            view = UI.box(); // We add a dummy component to the list of children.
+
+        return view.get((Class)view.getType());
+    }
+
+    private void _insertSubView( C thisComponent, JComponent subView, int index, @Nullable AddConstraint attr ) {
         if ( attr == null )
-            thisComponent.add(newComponent, index);
+            thisComponent.add(subView, index);
         else
-            thisComponent.add(newComponent, attr.toConstraintForLayoutManager(), index);
-        // We update the layout.
+            thisComponent.add(subView, attr.toConstraintForLayoutManager(), index);
+    }
+
+    private static void _revalidateAndRepaint( JComponent thisComponent ) {
         thisComponent.revalidate();
         thisComponent.repaint();
     }
@@ -5450,9 +5524,6 @@ public abstract class UIForAnySwing<I, C extends JComponent> extends UIForAnythi
                 } else {
                     // We remove the component.
                     thisComponent.remove(component);
-                    // We update the layout.
-                    thisComponent.revalidate();
-                    thisComponent.repaint();
                 }
             }
         }
@@ -5461,9 +5532,6 @@ public abstract class UIForAnySwing<I, C extends JComponent> extends UIForAnythi
     private void _clearComponentsOf( C thisComponent ) {
         // We remove all components.
         thisComponent.removeAll();
-        // We update the layout.
-        thisComponent.revalidate();
-        thisComponent.repaint();
     }
 
     private void _reverseComponentsOf(C thisComponent ) {
@@ -314,6 +314,30 @@ public abstract class UIForAnything<I, C extends E, E extends Component>
      * @return The result of the building process, namely: a type of JComponent.
      */
     public final C get( Class<C> type ) {
+        return _getOnUIThread(type, () -> _state().component());
+    }
+
+    /**
+     *  Creates the given number of components from the declaration of this builder at once.
+     *  This is only possible for builders which create new components, like
+     *  the ones returned by most of the factory methods in the {@link UI} namespace,
+     *  as opposed to builders wrapping an existing component, like {@code UI.of(new JPanel())}. <br>
+     *  Every returned component is built by the entire chain of builder method calls,
+     *  just like a component returned by {@link #get(Class)}, but the chain is only prepared
+     *  once for all of them, which makes this the fastest way of creating many identical
+     *  components, like for example the entries of a list.
+     *
+     * @param type The type class of the component which this builder wraps.
+     * @param count The number of components to create.
+     * @return A list of new components.
+     * @throws IllegalStateException If this builder wraps an existing component.
+     * @throws IllegalArgumentException If the count is negative.
+     */
+    public final List<C> getAll( Class<C> type, int count ) {
+        return _getOnUIThread(type, () -> _state().components(count));
+    }
+
+    private <R> R _getOnUIThread( Class<C> type, Supplier<R> getter ) {
         if ( type != _state().componentType() && !type.isAssignableFrom(_state().componentType()) )
             throw new IllegalArgumentException(
                     "The type of the component wrapped by this builder is '" + _state().componentType() + "', " +
@@ -344,9 +368,9 @@ public abstract class UIForAnything<I, C extends E, E extends Component>
                     new Throwable()
                 );
 
-            return UI.runAndGet(()->_state().component());
+            return UI.runAndGet(getter);
         }
-        return _state().component();
+        return getter.get();
     }
 
     /**
@@ -615,25 +639,29 @@ public abstract class UIForAnything<I, C extends E, E extends Component>
         Objects.requireNonNull(propertyRef);
         Objects.requireNonNull(weakComponent);
         Objects.requireNonNull(displayAction);
+        ViewUpdateCoalescer.Update<T> coalescedUpdate = new ViewUpdateCoalescer.Update<>( v -> {
+            C localComponent = weakComponent.get(); // The pending update may not keep the component alive!
+            if ( localComponent != null )
+                _show( propertyRef, localComponent, displayAction, v );
+        });
         Action<ValDelegate<T>> action = Action.ofWeak(Objects.requireNonNull(weakComponent.get()), (localComponent, delegate)->{
             T v = delegate.currentValue().orElseNull(); // IMPORTANT! We first capture the value and then execute the action in the app thread.
+            if ( ViewUpdateCoalescer.isEnabledFor(localComponent) ) {
+                /*
+                    Only the latest value matters here, so instead of posting
+                    every single change to the EDT, we let the coalescer apply
+                    the most recent one at most once per frame.
+                */
+                coalescedUpdate.offer(v);
+                return;
+            }
             _runInUI(() ->
-                UI.run( () -> {
-                    try {
-                        displayAction.accept(localComponent, v); // Here the captured value is used. This is extremely important!
-                        /*
-                             Since this is happening in another thread we are using the captured property item/value.
-                             The property might have changed in the meantime, but we don't care about that,
-                             we want things to happen in the order they were triggered.
-                         */
-                    } catch ( Exception e ) {
-                        throw new RuntimeException(
-                            "Failed to apply state of property '" + propertyRef.get() + "' to " +
-                            "component '" + localComponent + "'.",
-                            e
-                        );
-                    }
-                })
+                UI.run( () -> _show( propertyRef, localComponent, displayAction, v ) )
+                /*
+                     Since this is happening in another thread we are using the captured property item/value.
+                     The property might have changed in the meantime, but we don't care about that,
+                     we want things to happen in the order they were triggered.
+                 */
             );
         });
         Optional.ofNullable(propertyRef.get()).ifPresent(
@@ -641,6 +669,23 @@ public abstract class UIForAnything<I, C extends E, E extends Component>
         );
     }
 
+    private <T> void _show(
+        Ref<Val<T>>      propertyRef,
+        C                localComponent,
+        BiConsumer<C, T> displayAction,
+        T                value
+    ) {
+        try {
+            displayAction.accept(localComponent, value); // Here the captured value is used. This is extremely important!
+        } catch ( Exception e ) {
+            throw new RuntimeException(
+                "Failed to apply state of property '" + propertyRef.get() + "' to " +
+                "component '" + localComponent + "'.",
+                e
+            );
+        }
+    }
+
     /**
      *  Use this to register a state change listener for the provided property list
      *  which will be executed by the UI thread (see {@link EventProcessor}).
@@ -672,6 +717,12 @@ public abstract class UIForAnything<I, C extends E, E extends Component>
     ) {
         Objects.requireNonNull(properties);
         Objects.requireNonNull(displayAction);
+        /*
+            Unlike single properties, the changes of property lists are never coalesced
+            (see ViewUpdateCoalescer), because they describe structural deltas
+            (like the insertion or removal of items) which the views apply one after another,
+            so every single one of them has to be delivered, in order.
+        */
         Action<ValsDelegate<T>> action = Action.ofWeak(Objects.requireNonNull(weakComponent.get()), (localComponent, delegate)->{
             _runInUI(() ->{
                 displayAction.accept(localComponent, delegate);
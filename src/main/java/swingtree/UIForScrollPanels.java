@@ -53,6 +53,22 @@ public class UIForScrollPanels<P extends JScrollPanels> extends UIForAnyScrollPa
         return new UIForScrollPanels<>(newState);
     }
 
+    /**
+     *  Defines how many entries before and after the visible ones should be materialized
+     *  if the underlying {@link JScrollPanels} is virtualized
+     *  (see {@link UI#virtualScrollPanels(UI.Align, java.awt.Dimension)}).
+     *  A larger overscan makes scrolling smoother at the cost of more live views.
+     *
+     * @param numberOfEntries The number of entries materialized on each side of the visible ones.
+     * @return This builder node, to allow for method chaining.
+     * @throws IllegalArgumentException If the number of entries is negative.
+     */
+    public final UIForScrollPanels<P> withOverscan( int numberOfEntries ) {
+        if ( numberOfEntries < 0 )
+            throw new IllegalArgumentException("The overscan must not be negative, but was " + numberOfEntries + ".");
+        return _with( thisComponent -> thisComponent.setOverscan(numberOfEntries) )._this();
+    }
+
     @Override
     protected void _addComponentTo(P thisComponent, JComponent addedComponent, @Nullable AddConstraint constraints) {
         Objects.requireNonNull(addedComponent);
@@ -443,6 +443,8 @@ public final class UIForTabbedPane<P extends JTabbedPane> extends UIForAnySwing<
              */
             });
 
+            _loadLazyContentsOnSelection(thisComponent, indexFinder, tab);
+
             // Now on to binding:
             tab.title()     .ifPresent( title      -> _onShow(title,      thisComponent, (c,t) -> c.setTitleAt(indexFinder.get(), t)) );
             tab.icon()      .ifPresent( icon       -> _onShow(icon,       thisComponent, (c,i) -> c.setIconAt(indexFinder.get(), i)) );
@@ -933,6 +935,8 @@ public final class UIForTabbedPane<P extends JTabbedPane> extends UIForAnySwing<
              */
         });
 
+        _loadLazyContentsOnSelection(p, indexFinder, tab);
+
         // Now on to binding:
         tab.title().ifPresent(title -> _onShow(title, p, (c, t) -> c.setTitleAt(indexFinder.get(), t)));
         tab.icon().ifPresent(icon -> _onShow(icon, p, (c, i) -> c.setIconAt(indexFinder.get(), i)));
@@ -943,6 +947,38 @@ public final class UIForTabbedPane<P extends JTabbedPane> extends UIForAnySwing<
         tab.headerContents().ifPresent(c -> p.setTabComponentAt(index, _buildTabHeader(tab, mouseListener)));
     }
 
+    /**
+     *  If the contents of the given tab are built lazily (see {@link Tab#addLazily(Supplier)}),
+     *  this informs them about the selection state of the tab, now and whenever it changes,
+     *  so that they are built when the tab is selected and unloaded when it is inactive.
+     *  The contents are only referenced weakly by the listener, which removes itself
+     *  (and unloads the contents) once the tab is no longer part of the pane,
+     *  so that the pane does not keep the subtree of a removed tab alive.
+     */
+    private void _loadLazyContentsOnSelection( P pane, Supplier<Integer> indexFinder, Tab tab ) {
+        tab.contents()
+           .filter( contents -> contents instanceof LazyTabContent )
+           .map( contents -> (LazyTabContent) contents )
+           .ifPresent( lazyContents -> {
+               WeakReference<LazyTabContent> lazyContentsRef = new WeakReference<>(lazyContents);
+               pane.addChangeListener(new ChangeListener() {
+                   @Override
+                   public void stateChanged( ChangeEvent e ) {
+                       LazyTabContent foundContents = lazyContentsRef.get();
+                       int index = indexFinder.get();
+                       if ( foundContents == null || index < 0 ) {
+                           pane.removeChangeListener(this);
+                           if ( foundContents != null )
+                               foundContents.unload();
+                       }
+                       else
+                           foundContents.selectionChanged(index == pane.getSelectedIndex());
+                   }
+               });
+               lazyContents.selectionChanged(_isSuppliedTabIndexSelected(indexFinder, pane.getSelectedIndex()));
+           });
+    }
+
     private static boolean _isSuppliedTabIndexSelected(Supplier<Integer> indexOfCurrent, int newIndex) {
         return newIndex >= 0 && Objects.equals(newIndex, indexOfCurrent.get());
     }
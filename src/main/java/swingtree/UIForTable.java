@@ -5,6 +5,8 @@ import org.slf4j.Logger;
 import sprouts.Event;
 import sprouts.Observable;
 import sprouts.Observer;
+import sprouts.Vals;
+import sprouts.ValsDelegate;
 import swingtree.api.Buildable;
 import swingtree.api.Configurator;
 import swingtree.api.model.BasicTableModel;
@@ -12,9 +14,11 @@ import swingtree.api.model.TableListDataSource;
 import swingtree.api.model.TableMapDataSource;
 
 import javax.swing.*;
+import javax.swing.event.TableModelEvent;
 import javax.swing.table.*;
 import java.awt.Component;
 import java.util.*;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 /**
@@ -732,6 +736,152 @@ public final class UIForTable<T extends JTable> extends UIForAnySwing<UIForTable
     }
 
 
+    /**
+     *  Use this to model the rows of this table based on an observable property list
+     *  of row objects in the form of a {@link Vals} object, where every row object is
+     *  mapped to the cells of its row through the provided {@code cellAt} function. <br>
+     *  Unlike {@link #updateTableOn(sprouts.Event)}, which treats every change as a change of the
+     *  whole table structure, this translates the changes of the {@link Vals}
+     *  into table model events for exactly the affected rows.
+     *  So adding, removing or setting a single row object will only insert, delete or update
+     *  that row in the table, which preserves the column widths, the selection and the sorting
+     *  of the table and only repaints what actually changed. <br>
+     *  Here is an example of how to use this method:
+     *  <pre>{@code
+     *      UI.table()
+     *      .withRows( vm.trades(), Arrays.asList("Symbol", "Price"), (trade, col) ->
+     *          col == 0 ? trade.symbol() : trade.price()
+     *      )
+     *  }</pre>
+     *
+     * @param rows The observable {@link Vals} of row objects which should be displayed by the table.
+     * @param columnNames The names of the columns of the table, which also determine the column count.
+     * @param cellAt A function which receives a row object and a column index and returns the value of the cell.
+     * @return This builder node, for chaining.
+     * @param <R> The type of the row objects.
+     */
+    public final <R> UIForTable<T> withRows(
+        Vals<R> rows,
+        List<String> columnNames,
+        BiFunction<R, Integer, @Nullable Object> cellAt
+    ) {
+        NullUtil.nullArgCheck(rows, "rows", Vals.class);
+        NullUtil.nullArgCheck(columnNames, "columnNames", List.class);
+        NullUtil.nullArgCheck(cellAt, "cellAt", BiFunction.class);
+        ValsTableModel<R> model = new ValsTableModel<>(rows, columnNames, cellAt);
+        return _with( thisComponent -> {
+                    thisComponent.setModel(model);
+                })
+                ._withOnShow( rows, (thisComponent, v) -> {
+                    model.fire(v);
+                })
+                ._this();
+    }
+
+
+    /**
+     *  A table model displaying the row objects of a {@link Vals} property list.
+     *  The changes of the property list arrive on the EDT some time after they happened,
+     *  so the model cannot read the live property list, which may already contain later changes.
+     *  Instead, it keeps an EDT confined copy of the rows, to which every change
+     *  is applied right before the matching table model event is fired,
+     *  so that the row count always agrees with the events (which a row sorter relies on).
+     */
+    private static final class ValsTableModel<R> extends AbstractTableModel
+    {
+        private final List<@Nullable R> _rows = new ArrayList<>(); // Only accessed on the EDT after construction.
+        private final List<String> _columnNames;
+        private final BiFunction<R, Integer, @Nullable Object> _cellAt;
+
+        ValsTableModel( Vals<R> rows, List<String> columnNames, BiFunction<R, Integer, @Nullable Object> cellAt ) {
+            _columnNames = Collections.unmodifiableList(new ArrayList<>(columnNames));
+            _cellAt      = Objects.requireNonNull(cellAt);
+            for ( R row : rows )
+                _rows.add(row);
+        }
+
+        @Override public int getRowCount() { return _rows.size(); }
+
+        @Override public int getColumnCount() { return _columnNames.size(); }
+
+        @Override
+        public @Nullable String getColumnName( int column ) {
+            if ( column < 0 || column >= _columnNames.size() ) return null;
+            return _columnNames.get(column);
+        }
+
+        @Override
+        public @Nullable Object getValueAt( int rowIndex, int columnIndex ) {
+            if ( rowIndex < 0 || rowIndex >= getRowCount() ) return null;
+            if ( columnIndex < 0 || columnIndex >= getColumnCount() ) return null;
+            R row = _rows.get(rowIndex);
+            if ( row == null )
+                return null;
+            try {
+                return _cellAt.apply(row, columnIndex);
+            } catch ( Exception e ) {
+                log.error("Failed to get the value of the cell at row "+rowIndex+" and column "+columnIndex+".", e);
+                return null;
+            }
+        }
+
+        /**
+         *  Applies the change described by the given delegate to the rows of this model
+         *  and fires the table model event for exactly the affected rows.
+         *  This must be called on the EDT, once for every change and in the order of the changes.
+         *
+         * @param v The delegate describing a single change of the bound property list.
+         */
+        void fire( ValsDelegate<R> v ) {
+            int index = v.index().orElse(-1);
+            switch ( v.change() ) {
+                case ADD:
+                    if ( index < 0 || index > _rows.size() ) {
+                        _resetTo(v);
+                        return;
+                    }
+                    int numberOfAdded = 0;
+                    for ( R row : v.newValues() )
+                        _rows.add(index + numberOfAdded++, row);
+                    if ( numberOfAdded > 0 )
+                        fireTableRowsInserted( index, index + numberOfAdded - 1 );
+                    break;
+                case REMOVE:
+                    int numberOfRemoved = v.oldValues().size();
+                    if ( index < 0 || index + numberOfRemoved > _rows.size() ) {
+                        _resetTo(v);
+                        return;
+                    }
+                    if ( numberOfRemoved > 0 ) {
+                        _rows.subList(index, index + numberOfRemoved).clear();
+                        fireTableRowsDeleted( index, index + numberOfRemoved - 1 );
+                    }
+                    break;
+                case SET:
+                    int numberOfSet = v.newValues().size();
+                    if ( index < 0 || index + numberOfSet > _rows.size() ) {
+                        _resetTo(v);
+                        return;
+                    }
+                    int offset = 0;
+                    for ( R row : v.newValues() )
+                        _rows.set(index + offset++, row);
+                    if ( numberOfSet > 0 )
+                        fireTableRowsUpdated( index, index + numberOfSet - 1 );
+                    break;
+                default:
+                    _resetTo(v);
+            }
+        }
+
+        private void _resetTo( ValsDelegate<R> v ) {
+            _rows.clear();
+            for ( R row : v.currentValues() )
+                _rows.add(row);
+            fireTableDataChanged();
+        }
+    }
+
     private static abstract class ListBasedTableModel<E> extends AbstractTableModel
     {
         private final TableListDataSource<E> dataSource;
@@ -761,6 +911,7 @@ public final class UIForTable<T extends JTable> extends UIForAnySwing<UIForTable
     {
         private final TableMapDataSource<E> dataSource;
         private final boolean isEditable;
+        private @Nullable Snapshot<E> snapshot = null; // Is null when the data changed.
 
         MapBasedTableModel(boolean isEditable, TableMapDataSource<E> dataSource) {
             this.isEditable = isEditable;
@@ -773,9 +924,31 @@ public final class UIForTable<T extends JTable> extends UIForAnySwing<UIForTable
             return data;
         }
 
+        /**
+         *  The column names, columns and row count materialized from the data source,
+         *  so that cells can be accessed in constant time instead of iterating over
+         *  the columns of the map for every single cell.
+         *  The snapshot is only refreshed when a {@link TableModelEvent} is fired,
+         *  which is what {@link UIForTable#updateTableOn(sprouts.Event)} does when the data changes.
+         */
+        protected final Snapshot<E> snapshot() {
+            Snapshot<E> current = this.snapshot;
+            if ( current == null ) {
+                current = new Snapshot<>(getData());
+                this.snapshot = current;
+            }
+            return current;
+        }
+
+        @Override
+        public void fireTableChanged( TableModelEvent e ) {
+            this.snapshot = null; // The listeners should see the new state of the data source!
+            super.fireTableChanged(e);
+        }
+
         @Override
         public @Nullable String getColumnName(int column) {
-            List<String> columnNames = new ArrayList<>(getData().keySet());
+            List<String> columnNames = snapshot().columnNames;
             if ( column < 0 || column >= columnNames.size() ) return null;
             return columnNames.get(column);
         }
@@ -791,6 +964,27 @@ public final class UIForTable<T extends JTable> extends UIForAnySwing<UIForTable
 
     }
 
+    private static final class Snapshot<E>
+    {
+        private final List<String> columnNames;
+        private final List<@Nullable List<E>> columns;
+        private final int rowCount;
+
+        private Snapshot( Map<String, List<E>> data ) {
+            this.columnNames = new ArrayList<>(data.size());
+            this.columns     = new ArrayList<>(data.size());
+            int rows = 0;
+            for ( Map.Entry<String, List<E>> entry : data.entrySet() ) {
+                List<E> column = entry.getValue();
+                columnNames.add(entry.getKey());
+                columns.add(column);
+                if ( column != null ) // Again, we don't want null pointer exceptions in UIs.
+                    rows = Math.max(rows, column.size());
+            }
+            this.rowCount = rows;
+        }
+    }
+
     private static class MapBasedColumnMajorTableModel<E> extends MapBasedTableModel<E>
     {
         MapBasedColumnMajorTableModel(boolean isEditable, TableMapDataSource<E> dataSource) {
@@ -798,40 +992,24 @@ public final class UIForTable<T extends JTable> extends UIForAnySwing<UIForTable
         }
 
         @Override
-        public int getRowCount() {
-            Map<String, List<E>> data = getData();
-            return data.values()
-                        .stream()
-                        .filter(Objects::nonNull) // Again, we don't want null pointer exceptions in UIs.
-                        .mapToInt(List::size)
-                        .max()
-                        .orElse(0);
-        }
+        public int getRowCount() { return snapshot().rowCount; }
 
         @Override
-        public int getColumnCount() { return getData().size(); }
+        public int getColumnCount() { return snapshot().columns.size(); }
 
         @Override
         public @Nullable Object getValueAt( int rowIndex, int columnIndex ) {
-            if ( isNotWithinBounds(rowIndex, columnIndex) )
-                return null;
-            List<E> column = getData().values().stream().skip(columnIndex).findFirst().orElse(null);
+            List<E> column = _columnAt(rowIndex, columnIndex);
             if ( column == null )
                 return null;
-            if ( rowIndex < 0 || rowIndex >= column.size() )
-                return null;
             return column.get(rowIndex);
         }
 
         @Override
         public void setValueAt( Object aValue, int rowIndex, int columnIndex ) {
-            if ( isNotWithinBounds(rowIndex, columnIndex) )
-                return;
-            List<E> column = getData().values().stream().skip(columnIndex).findFirst().orElse(null);
+            List<E> column = _columnAt(rowIndex, columnIndex);
             if ( column == null )
                 return;
-            if ( rowIndex < 0 || rowIndex >= column.size() )
-                return;
             try {
                 column.set(rowIndex, (E) aValue);
             } catch (Exception e) {
@@ -839,6 +1017,17 @@ public final class UIForTable<T extends JTable> extends UIForAnySwing<UIForTable
             }
         }
 
+        private @Nullable List<E> _columnAt( int rowIndex, int columnIndex ) {
+            if ( isNotWithinBounds(rowIndex, columnIndex) )
+                return null;
+            List<E> column = snapshot().columns.get(columnIndex);
+            if ( column == null )
+                return null;
+            if ( rowIndex < 0 || rowIndex >= column.size() )
+                return null;
+            return column;
+        }
+
     }
 
 }
@@ -0,0 +1,146 @@
+package swingtree;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import sprouts.Action;
+
+import javax.swing.JComponent;
+import javax.swing.Timer;
+import java.awt.event.ActionEvent;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ *  A shared scheduler for the periodic update actions registered through
+ *  {@link UIForAnySwing#doUpdates(int, Action)}.
+ *  Instead of creating a {@link Timer} for every single component,
+ *  all update actions with the same interval share a single timer.
+ *  The timers are aligned to a common phase (multiples of their interval since the epoch),
+ *  so that the ticks of different intervals coincide as often as possible
+ *  and the EDT is woken up less frequently.<br>
+ *  The components are only weakly referenced, so their update actions are
+ *  unregistered automatically when they are garbage collected.
+ *  And the update actions of components which are part of a window
+ *  but currently not showing (like a component in a hidden tab) are paused.
+ */
+final class UpdateTicker
+{
+    private static final Logger log = LoggerFactory.getLogger(UpdateTicker.class);
+
+    private static final UpdateTicker _INSTANCE = new UpdateTicker();
+
+    static UpdateTicker get() { return _INSTANCE; }
+
+
+    private static final class Registration<C extends JComponent>
+    {
+        private final WeakReference<C> _component;
+        private final Action<ComponentDelegate<C, ActionEvent>> _onUpdate;
+
+        private Registration( C component, Action<ComponentDelegate<C, ActionEvent>> onUpdate ) {
+            _component = new WeakReference<>(component);
+            _onUpdate  = onUpdate;
+        }
+
+        /**
+         * @return {@code false} if the component was garbage collected and the registration can be removed.
+         */
+        private boolean tick( ActionEvent event ) {
+            C component = _component.get();
+            if ( component == null )
+                return false;
+            if ( component.isDisplayable() && !component.isShowing() )
+                return true; // The component is part of a window, but not visible to the user, so we skip the update.
+            try {
+                _onUpdate.accept(new ComponentDelegate<>(component, event));
+            } catch ( Exception ex ) {
+                log.error("Error in update action handler!", ex);
+            }
+            return true;
+        }
+    }
+
+    private final class Group
+    {
+        private final int _interval;
+        private final Timer _timer;
+        private final List<Registration<?>> _registrations = new ArrayList<>();
+
+        private Group( int interval ) {
+            _interval = interval;
+            _timer = new Timer(interval, this::_tick);
+            _timer.setInitialDelay(_phaseDelay(interval));
+            _timer.start();
+        }
+
+        private void _tick( ActionEvent event ) {
+            List<Registration<?>> snapshot;
+            synchronized ( UpdateTicker.this ) {
+                snapshot = new ArrayList<>(_registrations);
+            }
+            List<Registration<?>> collected = new ArrayList<>();
+            for ( Registration<?> registration : snapshot )
+                if ( !registration.tick(event) )
+                    collected.add(registration);
+
+            synchronized ( UpdateTicker.this ) {
+                _registrations.removeAll(collected);
+                if ( _registrations.isEmpty() ) {
+                    _timer.stop();
+                    _groups.remove(_interval, this);
+                }
+            }
+        }
+    }
+
+    private final Map<Integer, Group> _groups = new HashMap<>();
+
+
+    private UpdateTicker() {}
+
+    /**
+     *  Registers the given update action for the given component
+     *  to be called periodically in the given interval on the EDT.
+     *
+     * @param interval The interval in milliseconds between calls of the update action.
+     * @param component The component which is passed to the update action, it is only weakly referenced.
+     * @param onUpdate The update action which should be called periodically.
+     * @param <C> The type of the component.
+     */
+    synchronized <C extends JComponent> void register(
+        int interval, C component, Action<ComponentDelegate<C, ActionEvent>> onUpdate
+    ) {
+        int validInterval = Math.max(1, interval);
+        _groups.computeIfAbsent(validInterval, Group::new)
+               ._registrations.add(new Registration<>(component, onUpdate));
+    }
+
+    /**
+     * @return The number of update actions which are currently registered.
+     */
+    synchronized int registrations() {
+        int count = 0;
+        for ( Group group : _groups.values() )
+            count += group._registrations.size();
+        return count;
+    }
+
+    /**
+     * @return The number of timers which are currently used to call all the registered update actions.
+     */
+    synchronized int timers() {
+        return _groups.size();
+    }
+
+    /**
+     *  Calculates the delay until the next multiple of the given interval since the epoch,
+     *  so that timers with different intervals tick in a common phase.
+     */
+    private static int _phaseDelay( int interval ) {
+        long now = System.currentTimeMillis();
+        return (int) ( interval - ( now % interval ) );
+    }
+}
@@ -0,0 +1,118 @@
+package swingtree;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.swing.JComponent;
+import javax.swing.Timer;
+import java.awt.Component;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ *  Collects the property-to-view updates of bindings which opted into coalescing
+ *  (see {@link SwingTree#isViewUpdateCoalescingEnabled()} and
+ *  {@link UIForAnySwing#withCoalescedViewUpdates(boolean)}),
+ *  and applies only the latest value of every binding at most once per frame on the EDT.
+ *  This prevents a rapidly changing property from flooding the event queue
+ *  with stale updates, which would otherwise make the UI lag behind the model.
+ */
+final class ViewUpdateCoalescer
+{
+    private static final Logger log = LoggerFactory.getLogger(ViewUpdateCoalescer.class);
+
+    /**
+     *  The client property key used to opt a single component into coalesced view updates.
+     */
+    static final String CLIENT_PROPERTY_KEY = "swingtree.coalesceViewUpdates";
+
+    private static final ViewUpdateCoalescer _INSTANCE = new ViewUpdateCoalescer();
+
+    static ViewUpdateCoalescer get() { return _INSTANCE; }
+
+    /**
+     *  Determines whether the updates of the given component should be coalesced,
+     *  either because it is enabled globally or because the component opted into it.
+     */
+    static boolean isEnabledFor( Component component ) {
+        if ( SwingTree.get().isViewUpdateCoalescingEnabled() )
+            return true;
+        if ( component instanceof JComponent )
+            return Boolean.TRUE.equals(((JComponent) component).getClientProperty(CLIENT_PROPERTY_KEY));
+        return false;
+    }
+
+    /**
+     *  Represents the pending update of a single binding between a property and a component.
+     *  Offering a new value replaces the previous one if it was not applied yet.
+     *
+     * @param <T> The type of the value shown by the binding.
+     */
+    static final class Update<T>
+    {
+        private final Consumer<T> _display;
+        private final AtomicBoolean _scheduled = new AtomicBoolean(false);
+        private volatile @Nullable T _latest;
+
+
+        Update( Consumer<T> display ) {
+            _display = display;
+        }
+
+        void offer( T value ) {
+            _latest = value; // Must be published before we check if we are already scheduled!
+            if ( _scheduled.compareAndSet(false, true) )
+                _INSTANCE._enqueue(this);
+        }
+
+        private void _apply() {
+            _scheduled.set(false); // A value offered from now on will be applied in the next frame.
+            _display.accept(_latest);
+        }
+    }
+
+
+    private final Queue<Update<?>> _pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean _frameScheduled = new AtomicBoolean(false);
+
+
+    private ViewUpdateCoalescer() {}
+
+    private void _enqueue( Update<?> update ) {
+        _pending.add(update);
+        if ( _frameScheduled.compareAndSet(false, true) ) {
+            int frameInterval = (int) Math.max(1, SwingTree.get().getDefaultAnimationInterval());
+            Timer frame = new Timer(frameInterval, event -> _flush());
+            frame.setRepeats(false);
+            frame.start();
+        }
+    }
+
+    private void _flush() {
+        _frameScheduled.set(false);
+        /*
+            We only apply the updates which were pending when this frame started.
+            Updates which are offered by the display actions themselves
+            will be applied in the next frame, otherwise we might never return.
+        */
+        int remaining = _pending.size();
+        while ( remaining-- > 0 ) {
+            Update<?> update = _pending.poll();
+            if ( update == null )
+                break;
+            try {
+                update._apply();
+            } catch ( Exception e ) {
+                log.error("Failed to apply a coalesced property update to its view.", e);
+            }
+        }
+    }
+
+    /**
+     * @return The number of bindings which have a pending update waiting for the next frame.
+     */
+    int pendingUpdates() { return _pending.size(); }
+}
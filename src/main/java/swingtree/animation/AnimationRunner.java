@@ -4,8 +4,11 @@ import org.slf4j.Logger;
 import swingtree.style.ComponentExtension;
 
 import javax.swing.JComponent;
+import javax.swing.JRootPane;
+import javax.swing.SwingUtilities;
 import javax.swing.Timer;
 import java.awt.Component;
+import java.awt.Rectangle;
 import java.awt.event.ActionEvent;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
@@ -13,36 +16,83 @@ import java.util.concurrent.TimeUnit;
 /**
  *  This is a singleton class responsible for running {@link RunningAnimation}
  *  instances (which are wrapper classes for {@link Animation} instances)
- *  in a regular interval based on a Swing {@link Timer}.
+ *  in a regular interval based on a single Swing {@link Timer}, the frame clock.
+ *  All running animations are advanced in the same tick of the frame clock,
+ *  which ticks at the smallest interval of all running animations.
+ *  Animations with a larger interval are only advanced on the ticks where they are due.<br>
+ *  The components affected by the animations of a frame are collected
+ *  and repainted together at the end of the frame, where the repaints of
+ *  many components in the same window are merged into a single repaint of their common region.
  *  The timer is started when the first animation is scheduled and stopped when the last animation is finished.
  */
 final class AnimationRunner
 {
     private static final Logger log = org.slf4j.LoggerFactory.getLogger(AnimationRunner.class);
 
-    private static final Map<Integer,AnimationRunner> _INSTANCES = new HashMap<>();
+    /**
+     *  When the dirty components of a window cover at least this fraction of the
+     *  region enclosing all of them, we repaint the enclosing region once instead
+     *  of repainting every component individually.
+     */
+    private static final double MERGED_REPAINT_COVERAGE = 0.5;
+
+    private static final AnimationRunner _INSTANCE = new AnimationRunner();
 
 
     public static void add( RunningAnimation toBeRun ) {
         Objects.requireNonNull(toBeRun);
-        int interval = (int) toBeRun.lifeSpan().lifeTime().getIntervalIn(TimeUnit.MILLISECONDS);
-        AnimationRunner runner = _INSTANCES.computeIfAbsent(interval, it -> new AnimationRunner(interval));
-        runner._add(toBeRun);
+        _INSTANCE._add(toBeRun);
+    }
+
+    static AnimationStats stats() {
+        return _INSTANCE._stats();
+    }
+
+
+    /**
+     *  A running animation together with the interval at which it wants to be advanced.
+     */
+    private static final class Scheduled
+    {
+        private final RunningAnimation running;
+        private final int interval;
+        private long nextRun;
+
+        private Scheduled( RunningAnimation running, int interval, long nextRun ) {
+            this.running  = running;
+            this.interval = interval;
+            this.nextRun  = nextRun;
+        }
     }
 
 
     private final Timer _timer;
 
-    private final List<RunningAnimation> _runningAnimations = new ArrayList<>();
-    private final List<Runnable>         _toBeFinished = new ArrayList<>();
-    private final List<JComponent>       _toBeCleaned = new ArrayList<>();
+    private final List<Scheduled>  _runningAnimations = new ArrayList<>();
+    private final List<Runnable>   _toBeFinished      = new ArrayList<>();
+    private final List<JComponent> _toBeCleaned       = new ArrayList<>();
+    private final Set<Component>   _toBeRepainted     = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    // Frame statistics:
+    private long _frames           = 0;
+    private long _lastFrameNanos   = 0;
+    private long _totalFrameNanos  = 0;
+    private long _maxFrameNanos    = 0;
+    private long _lateFrames       = 0;
+    private long _lastFrameStart   = 0;
+    private long _repaints         = 0;
+    private long _mergedRepaints   = 0;
 
 
-    private AnimationRunner( int delay ) {
-         _timer = new Timer( delay, this::_run );
+    private AnimationRunner() {
+         _timer = new Timer( 16, this::_run );
     }
 
     private void _run( ActionEvent event ) {
+        long frameStart = System.nanoTime();
+        if ( _lastFrameStart != 0 && frameStart - _lastFrameStart > 2 * TimeUnit.MILLISECONDS.toNanos(_timer.getDelay()) )
+            _lateFrames++; // The EDT was too busy to keep up with the frame clock.
+        _lastFrameStart = frameStart;
 
         // We call "Animation.finish(..)" and trigger the last repaint cycle for components with terminated animations:
         for ( Runnable finisher : _toBeFinished )
@@ -59,33 +109,145 @@ final class AnimationRunner
         _toBeCleaned.clear();
 
         if ( _runningAnimations.isEmpty() ) {
+            _repaintDirtyComponents();
             _timer.stop();
-            // We can remove the instance from the map since it's not needed anymore
-            _INSTANCES.remove(_timer.getDelay());
+            _lastFrameStart = 0;
             return;
         }
 
-        for ( RunningAnimation running : _runningAnimations )
-            running.component().ifPresent( component -> {
-                ComponentExtension.from(component).clearAnimations();
-            });
-
         long now = System.currentTimeMillis();
+        /*
+            The timer does not fire with perfect precision, so an animation
+            is considered due if it would be due before the middle of the next frame,
+            otherwise an animation running at the frame interval would skip every other frame.
+        */
+        long dueBefore = now + _timer.getDelay() / 2;
+
+        Set<JComponent> toBeCleared = Collections.newSetFromMap(new IdentityHashMap<>());
+        for ( Scheduled scheduled : _runningAnimations )
+            if ( scheduled.nextRun <= dueBefore )
+                scheduled.running.component().ifPresent(toBeCleared::add);
+
+        for ( JComponent component : toBeCleared )
+            ComponentExtension.from(component).clearAnimations();
 
-        for ( RunningAnimation running : new ArrayList<>(_runningAnimations) )
-            if ( !_runAndCheck(running, now, event) ) {
-                _runningAnimations.remove(running);
-                running.component().ifPresent( _toBeCleaned::add );
+        for ( Scheduled scheduled : new ArrayList<>(_runningAnimations) ) {
+            if ( scheduled.nextRun > dueBefore )
+                continue;
+            scheduled.nextRun = Math.max(scheduled.nextRun + scheduled.interval, now);
+            if ( !_runAndCheck(scheduled.running, now, event) ) {
+                _runningAnimations.remove(scheduled);
+                scheduled.running.component().ifPresent( _toBeCleaned::add );
             }
+        }
+
+        _repaintDirtyComponents();
+        _updateFrameClock();
+
+        long frameNanos = System.nanoTime() - frameStart;
+        _frames++;
+        _lastFrameNanos   = frameNanos;
+        _totalFrameNanos += frameNanos;
+        _maxFrameNanos    = Math.max(_maxFrameNanos, frameNanos);
     }
 
     private void _add( RunningAnimation runningAnimation ) {
         Objects.requireNonNull(runningAnimation, "Null is not a valid animator!");
-        _runningAnimations.add(runningAnimation);
+        int interval = (int) Math.max(1, runningAnimation.lifeSpan().lifeTime().getIntervalIn(TimeUnit.MILLISECONDS));
+        _runningAnimations.add(new Scheduled(runningAnimation, interval, System.currentTimeMillis() + interval));
+        _updateFrameClock();
         if ( !_timer.isRunning() )
             _timer.start();
     }
 
+    /**
+     *  The frame clock ticks at the smallest interval of all running animations.
+     */
+    private void _updateFrameClock() {
+        int smallestInterval = Integer.MAX_VALUE;
+        for ( Scheduled scheduled : _runningAnimations )
+            smallestInterval = Math.min(smallestInterval, scheduled.interval);
+        if ( smallestInterval != Integer.MAX_VALUE && smallestInterval != _timer.getDelay() ) {
+            _timer.setDelay(smallestInterval);
+            _timer.setInitialDelay(smallestInterval);
+        }
+    }
+
+    /**
+     *  Repaints all components which were affected by the animations of the current frame.
+     *  Components which are not visible are styled manually, and the repaints of components
+     *  sharing the same window are merged into one repaint of their enclosing region,
+     *  if they cover a large enough part of it.
+     *  Note that we do not revalidate the components here, because the style engine
+     *  already revalidates a component when a layout affecting part of its style changes.
+     */
+    private void _repaintDirtyComponents() {
+        if ( _toBeRepainted.isEmpty() )
+            return;
+
+        Map<JRootPane, List<Component>> byWindow = new IdentityHashMap<>();
+        for ( Component component : _toBeRepainted ) {
+            if ( component.getParent() == null || !_isVisible(component) ) {
+                if ( component instanceof JComponent )
+                    ComponentExtension.from((JComponent) component).gatherApplyAndInstallStyle(false);
+                /*
+                    There will be no repaint if the component is not visible.
+                    If the paint method encounters a component
+                    without size or parent, it will return early,
+                    and SwingTree code will not be reached.
+                    So we have to regather and apply the style information manually.
+                */
+                component.repaint();
+                _repaints++;
+                continue;
+            }
+            JRootPane rootPane = SwingUtilities.getRootPane(component);
+            if ( rootPane == null ) {
+                component.repaint();
+                _repaints++;
+            }
+            else
+                byWindow.computeIfAbsent(rootPane, it -> new ArrayList<>()).add(component);
+        }
+        _toBeRepainted.clear();
+
+        byWindow.forEach( (rootPane, components) -> {
+            if ( components.size() > 1 ) {
+                Rectangle enclosing = null;
+                double coveredArea = 0;
+                for ( Component component : components ) {
+                    Rectangle bounds = SwingUtilities.convertRectangle(component.getParent(), component.getBounds(), rootPane);
+                    coveredArea += (double) bounds.width * bounds.height;
+                    enclosing = ( enclosing == null ? bounds : enclosing.union(bounds) );
+                }
+                if ( enclosing != null && coveredArea >= MERGED_REPAINT_COVERAGE * enclosing.width * enclosing.height ) {
+                    rootPane.repaint(enclosing);
+                    _repaints++;
+                    _mergedRepaints += components.size();
+                    return;
+                }
+            }
+            for ( Component component : components ) {
+                component.repaint();
+                _repaints++;
+            }
+        });
+    }
+
+    private AnimationStats _stats() {
+        return new AnimationStats(
+                    _runningAnimations.size(),
+                    _timer.isRunning() ? _timer.getDelay() : 0,
+                    _frames,
+                    _lastFrameNanos,
+                    _frames == 0 ? 0 : _totalFrameNanos / _frames,
+                    _maxFrameNanos,
+                    _lateFrames,
+                    _repaints,
+                    _mergedRepaints
+                );
+    }
+
     boolean _runAndCheck( RunningAnimation runningAnimation, long now, ActionEvent event )
     {
         if ( now < runningAnimation.lifeSpan().getStartTimeIn(TimeUnit.MILLISECONDS) )
@@ -118,20 +280,8 @@ final class AnimationRunner
             return false; // There was a component, but it has been garbage collected.
 
         Runnable requestComponentRepaint = () -> {
-                                                if ( component != null ) {
-                                                    if ( component.getParent() == null || !_isVisible(component) ) {
-                                                        ComponentExtension.from((JComponent) component).gatherApplyAndInstallStyle(false);
-                                                        /*
-                                                            There will be no repaint if the component is not visible.
-                                                            If the paint method encounters a component
-                                                            without size or parent, it will return early,
-                                                            and SwingTree code will not be reached.
-                                                            So we have to regather and apply the style information manually.
-                                                         */
-                                                    }
-                                                    component.revalidate();
-                                                    component.repaint();
-                                                }
+                                                if ( component != null )
+                                                    _toBeRepainted.add(component);
                                             };
 
         if ( !shouldContinue ) {
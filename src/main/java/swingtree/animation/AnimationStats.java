@@ -0,0 +1,117 @@
+package swingtree.animation;
+
+import com.google.errorprone.annotations.Immutable;
+
+/**
+ *  An immutable snapshot of the frame statistics of the animation frame clock,
+ *  which advances all running {@link Animation}s of SwingTree in a single tick per frame.
+ *  Use {@link #current()} to get the statistics at the current point in time,
+ *  which is useful for monitoring the health of animation heavy user interfaces.
+ *  <br>
+ *  Note that the frame clock lives on the EDT, so the statistics are
+ *  only guaranteed to be consistent if you take the snapshot on the EDT.
+ */
+@Immutable
+public final class AnimationStats
+{
+    /**
+     * @return A snapshot of the current frame statistics of the animation frame clock.
+     */
+    public static AnimationStats current() {
+        return AnimationRunner.stats();
+    }
+
+    private final int  _runningAnimations;
+    private final int  _frameInterval;
+    private final long _frames;
+    private final long _lastFrameNanos;
+    private final long _averageFrameNanos;
+    private final long _maxFrameNanos;
+    private final long _lateFrames;
+    private final long _repaints;
+    private final long _mergedRepaints;
+
+
+    AnimationStats(
+        int  runningAnimations,
+        int  frameInterval,
+        long frames,
+        long lastFrameNanos,
+        long averageFrameNanos,
+        long maxFrameNanos,
+        long lateFrames,
+        long repaints,
+        long mergedRepaints
+    ) {
+        _runningAnimations = runningAnimations;
+        _frameInterval     = frameInterval;
+        _frames            = frames;
+        _lastFrameNanos    = lastFrameNanos;
+        _averageFrameNanos = averageFrameNanos;
+        _maxFrameNanos     = maxFrameNanos;
+        _lateFrames        = lateFrames;
+        _repaints          = repaints;
+        _mergedRepaints    = mergedRepaints;
+    }
+
+    /**
+     * @return The number of animations which are currently running.
+     */
+    public int runningAnimations() { return _runningAnimations; }
+
+    /**
+     * @return The interval of the frame clock in milliseconds, or 0 if the frame clock is not running.
+     */
+    public int frameInterval() { return _frameInterval; }
+
+    /**
+     * @return The total number of frames in which animations were advanced.
+     */
+    public long frames() { return _frames; }
+
+    /**
+     * @return The time it took to advance the animations of the last frame in nanoseconds.
+     */
+    public long lastFrameNanos() { return _lastFrameNanos; }
+
+    /**
+     * @return The average time it took to advance the animations of a frame in nanoseconds.
+     */
+    public long averageFrameNanos() { return _averageFrameNanos; }
+
+    /**
+     * @return The longest time it took to advance the animations of a frame in nanoseconds.
+     */
+    public long maxFrameNanos() { return _maxFrameNanos; }
+
+    /**
+     * @return The number of frames which started more than two frame intervals after their predecessor,
+     *         which happens when the EDT is too busy to keep up with the frame clock.
+     */
+    public long lateFrames() { return _lateFrames; }
+
+    /**
+     * @return The total number of repaints requested by the frame clock.
+     */
+    public long repaints() { return _repaints; }
+
+    /**
+     * @return The total number of component repaints which were merged into a single repaint of their window region.
+     */
+    public long mergedRepaints() { return _mergedRepaints; }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" +
+                    "runningAnimations=" + _runningAnimations + ", " +
+                    "frameInterval=" + _frameInterval + ", " +
+                    "frames=" + _frames + ", " +
+                    "lastFrameNanos=" + _lastFrameNanos + ", " +
+                    "averageFrameNanos=" + _averageFrameNanos + ", " +
+                    "maxFrameNanos=" + _maxFrameNanos + ", " +
+                    "lateFrames=" + _lateFrames + ", " +
+                    "repaints=" + _repaints + ", " +
+                    "mergedRepaints=" + _mergedRepaints +
+                "]";
+    }
+}
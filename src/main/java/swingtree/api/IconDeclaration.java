@@ -8,6 +8,7 @@ import javax.swing.Icon;
 import javax.swing.ImageIcon;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  *  Primarily designed to be implemented by an {@link Enum} type
@@ -103,6 +104,20 @@ public interface IconDeclaration
         return UI.findIcon(this);
     }
 
+    /**
+     *  This method is used to find the icon resource
+     *  and load it as an {@link ImageIcon} instance on a background thread,
+     *  so that the calling thread does not have to wait for it to be decoded
+     *  (see {@link UI#findIconAsync(IconDeclaration)}).
+     *
+     * @return A {@link CompletableFuture} that is completed with an {@link Optional}
+     *         containing the {@link ImageIcon} if the icon resource was found,
+     *         otherwise an empty {@link Optional}.
+     */
+    default CompletableFuture<Optional<ImageIcon>> findAsync() {
+        return UI.findIconAsync(this);
+    }
+
     /**
      *  Creates and returns an updated {@link IconDeclaration} instance
      *  with a new preferred size for the icon.
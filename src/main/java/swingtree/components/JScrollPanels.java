@@ -69,6 +69,37 @@ public class JScrollPanels extends UI.ScrollPane
         return _construct(align, size, Collections.emptyList(), null, m -> UI.panel());
     }
 
+    /**
+     * Constructs a new virtualized {@link JScrollPanels} instance, which only materializes
+     * the views of those entries which intersect the viewport (plus a small overscan).
+     * The views of entries scrolled out of sight are released,
+     * so that even a list of many thousands of entries only ever has a handful of live component trees.
+     * The scroll extent is computed from the size of the entries, which is either
+     * fixed or an estimate that is refined by measuring the entries once they are materialized.
+     *
+     * @param align The alignment of the entries inside this {@link JScrollPanels} instance.
+     *              The alignment can be either {@link UI.Align#HORIZONTAL} or {@link UI.Align#VERTICAL}.
+     * @param entrySize The (estimated) size of a single entry in this {@link JScrollPanels} instance.
+     * @param entrySizeIsFixed If true, all entries are given exactly the supplied size,
+     *                         otherwise the size is only used as an estimate for entries
+     *                         which were not yet materialized and measured.
+     * @return A new virtualized {@link JScrollPanels} instance.
+     */
+    public static JScrollPanels ofVirtual(
+        UI.Align align, Dimension entrySize, boolean entrySizeIsFixed
+    ) {
+        Objects.requireNonNull(align);
+        Objects.requireNonNull(entrySize);
+        VirtualPanel virtualPanel = new VirtualPanel(align, entrySize, entrySizeIsFixed);
+        JScrollPanels newJScrollPanels = new JScrollPanels(virtualPanel);
+        if ( align == UI.Align.HORIZONTAL )
+            newJScrollPanels.setVerticalScrollBarPolicy(JScrollPane.VERTICAL_SCROLLBAR_NEVER);
+        else
+            newJScrollPanels.setHorizontalScrollBarPolicy(JScrollPane.HORIZONTAL_SCROLLBAR_NEVER);
+
+        return newJScrollPanels;
+    }
+
     private static JScrollPanels _construct(
         UI.Align align,
         @Nullable Dimension shape,
@@ -86,7 +117,8 @@ public class JScrollPanels extends UI.ScrollPane
                                     i,
                                     models.get(i),
                                     viewSupplier,
-                                    constraints
+                                    constraints,
+                                    true
                                 )
                         )
                         .collect(Collectors.toList());
@@ -105,12 +137,17 @@ public class JScrollPanels extends UI.ScrollPane
     }
 
 
-    private final InternalPanel _internal; // Wrapper for the actual UI components
+    private final JBox _internal; // Wrapper for the actual UI components
+    private final @Nullable VirtualPanel _virtual; // Only present in virtualized mode, same instance as the wrapper
 
 
-    private JScrollPanels(InternalPanel listWrapper) {
+    private JScrollPanels(JBox listWrapper) {
         super(listWrapper);
         _internal = listWrapper;
+        VirtualPanel virtualPanel = ( listWrapper instanceof VirtualPanel ? (VirtualPanel) listWrapper : null );
+        _virtual = virtualPanel;
+        if ( virtualPanel != null )
+            getViewport().addChangeListener( e -> virtualPanel._onViewportChanged() );
     }
 
     /**
@@ -119,7 +156,51 @@ public class JScrollPanels extends UI.ScrollPane
      *
      * @return The number of entries which are currently managed by this {@link JScrollPanels}.
      */
-    public int getNumberOfEntries() { return _internal.getComponents().length; }
+    public int getNumberOfEntries() {
+        return _virtual != null ? _virtual._slots.size() : _internal.getComponents().length;
+    }
+
+    /**
+     *  Allows you to check whether this {@link JScrollPanels} is virtualized,
+     *  which means that only the entries intersecting the viewport have a live view.
+     *  See {@link #ofVirtual(UI.Align, Dimension, boolean)} for more information.
+     *
+     * @return True if this {@link JScrollPanels} only materializes the views of visible entries.
+     */
+    public boolean isVirtual() { return _virtual != null; }
+
+    /**
+     *  Allows you to get the number of entries which currently have a live view.
+     *  In the regular mode this is the same as {@link #getNumberOfEntries()},
+     *  whereas in virtualized mode it is only the number of entries intersecting the viewport
+     *  plus the overscan (see {@link #setOverscan(int)}).
+     *
+     * @return The number of entries whose views are currently part of the component tree.
+     */
+    public int getNumberOfMaterializedEntries() { return _internal.getComponents().length; }
+
+    /**
+     *  Defines how many entries before and after the visible ones should be materialized
+     *  in virtualized mode, so that small scroll movements do not immediately
+     *  require the creation of new views. <br>
+     *  This has no effect if this {@link JScrollPanels} is not virtualized.
+     *
+     * @param numberOfEntries The number of entries materialized on each side of the visible ones.
+     * @throws IllegalArgumentException If the number of entries is negative.
+     */
+    public void setOverscan( int numberOfEntries ) {
+        if ( numberOfEntries < 0 )
+            throw new IllegalArgumentException("The overscan must not be negative, but was " + numberOfEntries + ".");
+        if ( _virtual != null ) {
+            _virtual._overscan = numberOfEntries;
+            _virtual.revalidate();
+        }
+    }
+
+    /**
+     * @return The number of entries materialized before and after the visible ones in virtualized mode.
+     */
+    public int getOverscan() { return _virtual != null ? _virtual._overscan : 0; }
 
     /**
      *  Exposes the content panel that contains the actual entry components.
@@ -147,6 +228,10 @@ public class JScrollPanels extends UI.ScrollPane
 
     public <M extends EntryViewModel> void addEntryAt( int index, M entryViewModel, ViewSupplier<M> viewSupplier) {
         Objects.requireNonNull(entryViewModel);
+        if ( _virtual != null ) {
+            _virtual._insert(index, _slotsOf(null, Collections.singletonList(entryViewModel), viewSupplier));
+            return;
+        }
         EntryPanel entryPanel = _createEntryPanel(null, entryViewModel, viewSupplier, index);
         _internal.add(entryPanel, index);
     }
@@ -165,6 +250,10 @@ public class JScrollPanels extends UI.ScrollPane
      */
     public <M extends EntryViewModel> void addEntry( @Nullable AddConstraint constraints, M entryViewModel, ViewSupplier<M> viewSupplier ) {
         Objects.requireNonNull(entryViewModel);
+        if ( _virtual != null ) {
+            _virtual._insert(getNumberOfEntries(), _slotsOf(constraints, Collections.singletonList(entryViewModel), viewSupplier));
+            return;
+        }
         EntryPanel entryPanel = _createEntryPanel(constraints, entryViewModel, viewSupplier, _internal.getComponents().length);
         _internal.add(entryPanel);
         this.validate();
@@ -179,7 +268,7 @@ public class JScrollPanels extends UI.ScrollPane
      */
     public <M extends EntryViewModel> void addAllEntries( @Nullable AddConstraint constraints, Iterable<M> entryViewModels, ViewSupplier<M> viewSupplier ) {
         Objects.requireNonNull(entryViewModels);
-        addAllEntriesAt(_internal.getComponents().length, constraints, entryViewModels, viewSupplier);
+        addAllEntriesAt(getNumberOfEntries(), constraints, entryViewModels, viewSupplier);
     }
 
     /**
@@ -192,6 +281,10 @@ public class JScrollPanels extends UI.ScrollPane
      */
     public <M extends EntryViewModel> void addAllEntriesAt( int index, @Nullable AddConstraint constraints, Iterable<M> entryViewModels, ViewSupplier<M> viewSupplier ) {
         Objects.requireNonNull(entryViewModels);
+        if ( _virtual != null ) {
+            _virtual._insert(index, _slotsOf(constraints, entryViewModels, viewSupplier));
+            return;
+        }
         List<EntryPanel> entryPanels = new ArrayList<>();
         int i = 0;
         for ( M model : entryViewModels ) {
@@ -220,6 +313,10 @@ public class JScrollPanels extends UI.ScrollPane
      */
     public <M extends EntryViewModel> void setAllEntriesAt( int index, @Nullable AddConstraint constraints, Iterable<M> entryViewModels, ViewSupplier<M> viewSupplier ) {
         Objects.requireNonNull(entryViewModels);
+        if ( _virtual != null ) {
+            _virtual._replace(index, _slotsOf(constraints, entryViewModels, viewSupplier));
+            return;
+        }
         List<EntryPanel> entryPanels = new ArrayList<>();
         int i = 0;
         for ( M model : entryViewModels ) {
@@ -245,6 +342,10 @@ public class JScrollPanels extends UI.ScrollPane
      *  Use this to remove all entries.
      */
     public void removeAllEntries() {
+        if ( _virtual != null ) {
+            _virtual._remove(0, _virtual._slots.size());
+            return;
+        }
         _internal.removeAll();
         this.validate();
     }
@@ -254,6 +355,10 @@ public class JScrollPanels extends UI.ScrollPane
      * @param index The index of the entry which ought to be removed.
      */
     public void removeEntryAt( int index ) {
+        if ( _virtual != null ) {
+            _virtual._remove(index, 1);
+            return;
+        }
         _internal.remove(index);
         this.validate();
     }
@@ -264,6 +369,10 @@ public class JScrollPanels extends UI.ScrollPane
      * @param count The number of entries which ought to be removed.
      */
     public void removeEntriesAt( int index, int count ) {
+        if ( _virtual != null ) {
+            _virtual._remove(index, count);
+            return;
+        }
         IntStream.range(0, count).forEach( i -> _internal.remove(index) );
         this.validate();
     }
@@ -279,6 +388,10 @@ public class JScrollPanels extends UI.ScrollPane
      */
     public <M extends EntryViewModel> void addEntryAt( int index, @Nullable AddConstraint attr, M entryViewModel, ViewSupplier<M> viewSupplier ) {
         Objects.requireNonNull(entryViewModel);
+        if ( _virtual != null ) {
+            _virtual._insert(index, _slotsOf(attr, Collections.singletonList(entryViewModel), viewSupplier));
+            return;
+        }
         EntryPanel entryPanel = _createEntryPanel(attr, entryViewModel, viewSupplier, index);
         _internal.add(entryPanel, index);
         this.validate();
@@ -296,6 +409,10 @@ public class JScrollPanels extends UI.ScrollPane
      */
     public <M extends EntryViewModel> void setEntryAt( int index, @Nullable AddConstraint attr, M entryViewModel, ViewSupplier<M> viewSupplier ) {
         Objects.requireNonNull(entryViewModel);
+        if ( _virtual != null ) {
+            _virtual._replace(index, _slotsOf(attr, Collections.singletonList(entryViewModel), viewSupplier));
+            return;
+        }
         EntryPanel entryPanel = _createEntryPanel(attr, entryViewModel, viewSupplier, index);
         // We first remove the old entry panel and then add the new one.
         // This is necessary because the layout manager does not allow to replace
@@ -345,6 +462,8 @@ public class JScrollPanels extends UI.ScrollPane
 
     /**
      *  Use this to iterate over all panel list entries.
+     *  Note that in virtualized mode (see {@link #isVirtual()}) only the
+     *  entries which are currently materialized are visited.
      *
      * @param action The action which ought to be applied to all {@link JScrollPanels} entries.
      */
@@ -380,6 +499,8 @@ public class JScrollPanels extends UI.ScrollPane
      * @param <T> The type of the entry which ought to be selected.
      */
     public <T extends JComponent> void setSelectedFor(Class<T> type, Predicate<T> condition) {
+        if ( _virtual != null )
+            _virtual._deselectReleased();
         forEachEntry( e -> e.setEntrySelected(false) );
         forEachEntry(type, e -> {
             if ( condition.test((T) e.getLastState()) ) e.setEntrySelected(true);
@@ -398,10 +519,24 @@ public class JScrollPanels extends UI.ScrollPane
                         index,
                         entryProvider,
                         viewSupplier,
-                        constraints
+                        constraints,
+                        true
                     );
     }
 
+    private static <M extends EntryViewModel> List<EntrySlot> _slotsOf(
+        @Nullable AddConstraint constraints,
+        Iterable<M> entryViewModels,
+        ViewSupplier<M> viewSupplier
+    ) {
+        List<EntrySlot> slots = new ArrayList<>();
+        for ( M model : entryViewModels ) {
+            Objects.requireNonNull(model);
+            slots.add(new EntrySlot(constraints, model, (ViewSupplier<EntryViewModel>) (ViewSupplier) viewSupplier));
+        }
+        return slots;
+    }
+
     /**
      *  This panel holds the list panels.
      *  It wraps {@link EntryPanel} instances which themselves
@@ -495,6 +630,338 @@ public class JScrollPanels extends UI.ScrollPane
         @Override public boolean getScrollableTracksViewportHeight() { return false; }
     }
 
+    /**
+     *  The lightweight description of an entry in virtualized mode,
+     *  which is only turned into an {@link EntryPanel} when it intersects the viewport.
+     */
+    private static final class EntrySlot
+    {
+        private final @Nullable AddConstraint _constraints;
+        private final EntryViewModel _model;
+        private final ViewSupplier<EntryViewModel> _viewSupplier;
+        private int _measuredExtent = 0; // 0 means not measured yet
+        private boolean _isObserved = false;
+        private @Nullable EntryPanel _view;
+
+
+        private EntrySlot(
+            @Nullable AddConstraint constraints,
+            EntryViewModel model,
+            ViewSupplier<EntryViewModel> viewSupplier
+        ) {
+            _constraints  = constraints;
+            _model        = model;
+            _viewSupplier = viewSupplier;
+        }
+    }
+
+    /**
+     *  The content panel of a virtualized {@link JScrollPanels}.
+     *  Instead of holding an {@link EntryPanel} for every entry, it holds cheap {@link EntrySlot}s
+     *  and only materializes the views of the slots which intersect the visible area
+     *  (extended by the overscan), while the views of slots outside of it are released.
+     *  The entries are positioned absolutely based on the prefix sums of their extents,
+     *  which are either fixed or estimated until the entry was materialized and measured.
+     */
+    private static final class VirtualPanel extends JBox implements Scrollable
+    {
+        private static final int GAP = 5;
+
+        private final UI.Align _type;
+        private final Dimension _entrySize;
+        private final boolean _entrySizeIsFixed;
+        private final List<EntrySlot> _slots = new ArrayList<>();
+        private int _overscan = 2;
+        private int _first = 0; // Index of the first materialized slot.
+        private int _last = -1; // Index of the last materialized slot, the window is empty if smaller than _first.
+        private int @Nullable[] _offsets; // The start offset of every slot, the last element is the total extent.
+
+
+        private VirtualPanel( UI.Align type, Dimension entrySize, boolean entrySizeIsFixed ) {
+            super((LayoutManager) null);
+            _type             = type;
+            _entrySize        = new Dimension(Math.max(1, entrySize.width), Math.max(1, entrySize.height));
+            _entrySizeIsFixed = entrySizeIsFixed;
+        }
+
+        private boolean _isVertical() { return _type != UI.Align.HORIZONTAL; }
+
+        private int _estimatedExtent() {
+            return _isVertical() ? _entrySize.height : _entrySize.width;
+        }
+
+        void _insert( int index, List<EntrySlot> slots ) {
+            int count = slots.size();
+            _slots.addAll(index, slots);
+            // The materialized views are kept, we only move the window along with the slots behind the insertion:
+            if ( _first <= _last ) {
+                if ( index <= _first ) {
+                    _first += count;
+                    _last  += count;
+                }
+                else if ( index <= _last )
+                    _last += count; // The new slots in between are materialized by the next layout.
+            }
+            _updatePositionsFrom(index + count);
+            _invalidateExtents();
+        }
+
+        void _replace( int index, List<EntrySlot> slots ) {
+            for ( int i = 0; i < slots.size(); i++ )
+                _release(_slots.set(index + i, slots.get(i)));
+            _invalidateExtents();
+        }
+
+        void _remove( int index, int count ) {
+            List<EntrySlot> removed = _slots.subList(index, index + count);
+            removed.forEach(this::_release);
+            removed.clear();
+            if ( _first <= _last ) {
+                int end = index + count; // Exclusive end of the removed range.
+                if ( _first >= end )
+                    _first -= count;
+                else if ( _first > index )
+                    _first = index;
+                if ( _last >= end )
+                    _last -= count;
+                else if ( _last >= index )
+                    _last = index - 1;
+            }
+            _updatePositionsFrom(index);
+            _invalidateExtents();
+        }
+
+        /**
+         *  Informs the materialized views starting at the given slot index about their new position
+         *  after slots were inserted or removed in front of them.
+         */
+        private void _updatePositionsFrom( int index ) {
+            for ( int i = Math.max(index, _first); i <= _last && i < _slots.size(); i++ ) {
+                EntryPanel view = _slots.get(i)._view;
+                if ( view != null )
+                    view._updatePosition(i);
+            }
+        }
+
+        private void _invalidateExtents() {
+            _offsets = null;
+            revalidate();
+            repaint();
+        }
+
+        /**
+         *  Clears the selection flag of the view models of all entries which currently have no view,
+         *  so that only one entry is selected, even if the previously selected one was scrolled out of sight.
+         */
+        void _deselectReleased() {
+            for ( int i = 0; i < _slots.size(); i++ ) {
+                EntrySlot slot = _slots.get(i);
+                if ( slot._view == null && slot._model.isSelected().is(true) )
+                    slot._model.isSelected().set(From.VIEW, false);
+            }
+        }
+
+        private List<EntryPanel> _siblings() {
+            _deselectReleased();
+            return _entriesIn(getComponents());
+        }
+
+        /**
+         *  Computes the offsets of all entries, where the extent of entries which were not measured yet
+         *  is estimated as the average extent of the measured ones (or the supplied entry size).
+         */
+        private int[] _offsets() {
+            int[] offsets = _offsets;
+            if ( offsets != null && offsets.length == _slots.size() + 1 )
+                return offsets;
+            int estimate = _estimatedExtent();
+            if ( !_entrySizeIsFixed ) {
+                long sum = 0;
+                int measured = 0;
+                for ( EntrySlot slot : _slots )
+                    if ( slot._measuredExtent > 0 ) {
+                        sum += slot._measuredExtent;
+                        measured++;
+                    }
+                if ( measured > 0 )
+                    estimate = (int) Math.max(1, sum / measured);
+            }
+            offsets = new int[_slots.size() + 1];
+            int offset = GAP;
+            for ( int i = 0; i < _slots.size(); i++ ) {
+                offsets[i] = offset;
+                int measured = _slots.get(i)._measuredExtent;
+                offset += ( !_entrySizeIsFixed && measured > 0 ? measured : estimate ) + GAP;
+            }
+            offsets[_slots.size()] = offset;
+            _offsets = offsets;
+            return offsets;
+        }
+
+        private static int _indexAt( int[] offsets, int count, int position ) {
+            int found = Arrays.binarySearch(offsets, 0, count, position);
+            int index = ( found >= 0 ? found : -found - 2 );
+            return Math.max(0, Math.min(count - 1, index));
+        }
+
+        private Rectangle _visibleArea() {
+            Rectangle visible = getVisibleRect();
+            if ( visible.width <= 0 || visible.height <= 0 ) {
+                // Not laid out yet, so we assume that the start of the list will be visible.
+                Dimension viewport = getPreferredScrollableViewportSize();
+                Container parent = getParent();
+                if ( parent != null && parent.getWidth() > 0 && parent.getHeight() > 0 )
+                    viewport = parent.getSize();
+                visible = new Rectangle(0, 0, viewport.width, viewport.height);
+            }
+            return visible;
+        }
+
+        /**
+         *  Determines the range of slots which ought to be materialized,
+         *  which are the ones intersecting the visible area plus the overscan.
+         */
+        private int[] _window() {
+            int count = _slots.size();
+            if ( count == 0 )
+                return new int[]{ 0, -1 };
+            int[] offsets = _offsets();
+            Rectangle visible = _visibleArea();
+            int start = _isVertical() ? visible.y : visible.x;
+            int end   = start + ( _isVertical() ? visible.height : visible.width );
+            int first = Math.max(0, _indexAt(offsets, count, start) - _overscan);
+            int last  = Math.min(count - 1, _indexAt(offsets, count, end) + _overscan);
+            return new int[]{ first, last };
+        }
+
+        void _onViewportChanged() {
+            int[] window = _window();
+            if ( window[0] != _first || window[1] != _last ) {
+                revalidate();
+                repaint();
+            }
+        }
+
+        @Override
+        public void doLayout() {
+            int[] window = _window();
+            int first = window[0];
+            int last  = window[1];
+            // We release the views which are no longer in the window:
+            for ( int i = _first; i <= _last && i < _slots.size(); i++ )
+                if ( i < first || i > last )
+                    _release(_slots.get(i));
+
+            _first = first;
+            _last  = last;
+            boolean extentsChanged = false;
+            for ( int i = first; i <= last; i++ ) {
+                EntrySlot slot = _slots.get(i);
+                if ( slot._view == null )
+                    _materialize(slot, i);
+                if ( !_entrySizeIsFixed && slot._view != null ) {
+                    Dimension preferred = slot._view.getPreferredSize();
+                    int extent = Math.max(1, _isVertical() ? preferred.height : preferred.width);
+                    if ( extent != slot._measuredExtent ) {
+                        slot._measuredExtent = extent;
+                        extentsChanged = true;
+                    }
+                }
+            }
+            if ( extentsChanged ) {
+                _offsets = null;
+                // The preferred size of this panel has changed, which our ancestors have to know about:
+                SwingUtilities.invokeLater(this::revalidate);
+            }
+            int[] offsets = _offsets();
+            for ( int i = first; i <= last; i++ ) {
+                EntryPanel view = _slots.get(i)._view;
+                if ( view == null )
+                    continue;
+                int offset = offsets[i];
+                int extent = offsets[i + 1] - offset - GAP;
+                if ( _isVertical() )
+                    view.setBounds(GAP, offset, Math.max(_entrySize.width, getWidth() - 2 * GAP), extent);
+                else
+                    view.setBounds(offset, GAP, extent, Math.max(_entrySize.height, getHeight() - 2 * GAP));
+            }
+        }
+
+        private void _materialize( EntrySlot slot, int index ) {
+            EntryPanel view = new EntryPanel(this::_siblings, index, slot._model, slot._viewSupplier, slot._constraints, false);
+            view.addMouseListener(
+                new MouseAdapter() {
+                    @Override
+                    public void mouseClicked(MouseEvent e) {
+                        _siblings().forEach( entry -> entry.setEntrySelected(false) );
+                        view.setEntrySelected(true);
+                    }
+                }
+            );
+            if ( !slot._isObserved ) {
+                slot._isObserved = true;
+                Viewable.cast(slot._model.isSelected()).onChange(From.VIEW_MODEL, it -> {
+                    EntryPanel current = slot._view;
+                    if ( current != null )
+                        current._selectThis(this::_siblings);
+                });
+            }
+            slot._view = view;
+            add(view);
+        }
+
+        private void _release( EntrySlot slot ) {
+            EntryPanel view = slot._view;
+            if ( view != null ) {
+                slot._view = null;
+                remove(view);
+            }
+        }
+
+        @Override
+        public Dimension getPreferredScrollableViewportSize() {
+            return new Dimension(_entrySize.width + 2 * GAP, _entrySize.height + 2 * GAP);
+        }
+
+        @Override
+        public Dimension getPreferredSize() {
+            int[] offsets = _offsets();
+            int total = offsets[offsets.length - 1];
+            Container parent = getParent();
+            if ( _isVertical() )
+                return new Dimension(
+                            Math.max(_entrySize.width + 2 * GAP, parent == null ? 0 : parent.getWidth()),
+                            total
+                        );
+            else
+                return new Dimension(
+                            total,
+                            Math.max(_entrySize.height + 2 * GAP, parent == null ? 0 : parent.getHeight())
+                        );
+        }
+
+        @Override
+        public int getScrollableUnitIncrement(
+                Rectangle visibleRect, int orientation, int direction
+        ) {
+            return _incrementFrom(orientation);
+        }
+
+        @Override
+        public int getScrollableBlockIncrement(
+                Rectangle visibleRect, int orientation, int direction
+        ) {
+            return orientation == JScrollBar.HORIZONTAL ? visibleRect.width : visibleRect.height;
+        }
+
+        private int _incrementFrom( int orientation ) {
+            return orientation == JScrollBar.HORIZONTAL ? _entrySize.width + GAP : _entrySize.height + GAP;
+        }
+
+        @Override public boolean getScrollableTracksViewportWidth()  { return false; }
+        @Override public boolean getScrollableTracksViewportHeight() { return false; }
+    }
+
     /**
      *  Filters the entry panels from the provided components array.
      */
@@ -520,6 +987,7 @@ public class JScrollPanels extends UI.ScrollPane
         private final EntryViewModel _viewable;
         private boolean _isSelected;
         private JComponent _lastState;
+        private int _position;
 
 
         private <M extends EntryViewModel> EntryPanel(
@@ -527,15 +995,17 @@ public class JScrollPanels extends UI.ScrollPane
             int position,
             M provider,
             ViewSupplier<M> viewSupplier,
-            @Nullable AddConstraint constraints
+            @Nullable AddConstraint constraints,
+            boolean observeSelection
         ) {
             Objects.requireNonNull(components);
             Objects.requireNonNull(provider);
             // We make the entry panel fit the outer (public) scroll panel.
             this.setLayout(new MigLayout("fill, insets 0", "[grow]"));
             _viewable = provider;
+            _position = position;
             _provider = isSelected -> {
-                                provider.position().set(From.VIEW, position);
+                                provider.position().set(From.VIEW, _position);
                                 provider.isSelected().set(From.VIEW, isSelected);
                                 UIForAnySwing<?,?> view = null;
                                 try {
@@ -549,7 +1019,8 @@ public class JScrollPanels extends UI.ScrollPane
                             };
             _lastState = _provider.apply(false);
             this.add(_lastState, constraints != null ? constraints.toConstraintForLayoutManager() : "grow" );
-            Viewable.cast(_viewable.isSelected()).onChange(From.VIEW_MODEL, it -> _selectThis(components) );
+            if ( observeSelection )
+                Viewable.cast(_viewable.isSelected()).onChange(From.VIEW_MODEL, it -> _selectThis(components) );
             if ( _viewable.isSelected().is(true) )
                 _selectThis(components);
             _viewable.position().set(From.VIEW, position);
@@ -567,6 +1038,11 @@ public class JScrollPanels extends UI.ScrollPane
             );
         }
 
+        private void _updatePosition( int position ) {
+            _position = position;
+            _viewable.position().set(From.VIEW, position);
+        }
+
         public JComponent getLastState() { return _lastState; }
 
         public boolean isEntrySelected() { return _isSelected; }
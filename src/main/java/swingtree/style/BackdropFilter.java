@@ -0,0 +1,335 @@
+package swingtree.style;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import swingtree.layout.Size;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.awt.image.ConvolveOp;
+import java.awt.image.DataBufferInt;
+import java.awt.image.Kernel;
+import java.util.Arrays;
+
+/**
+ *  Renders the {@link FilterConf} of a component, which is applied to the rendering of its parent
+ *  (the backdrop of the component), like for example a frosted glass effect. <br>
+ *  Instead of filtering the entire parent rendering, only the region behind the component
+ *  (plus the extent of the blur and convolution kernels) is processed.
+ *  Large blur radii are approximated using 3 passes of a separable box blur,
+ *  whose cost does not depend on the radius, and all intermediate images are reused.
+ *  The filtered region is also kept until the pixels of the parent behind the component,
+ *  the filter or the geometry of the component change, in which case it is filtered again.
+ *  <p>
+ *  Every component with a parent filter owns its own instance of this,
+ *  which is only ever used on the EDT.
+ */
+final class BackdropFilter
+{
+    private static final Logger log = LoggerFactory.getLogger(BackdropFilter.class);
+
+    /**
+     *  Below this radius, a true gaussian kernel is cheap enough and looks slightly better,
+     *  above it the blur is approximated by 3 box blurs, which are O(1) per pixel.
+     */
+    private static final float BOX_BLUR_THRESHOLD = 6f;
+    private static final int   BOX_BLUR_PASSES    = 3;
+
+    private @Nullable BufferedImage _source   = null;
+    private @Nullable BufferedImage _filtered = null;
+    private @Nullable BufferedImage _scratch  = null;
+    private int @Nullable []        _lastSourcePixels = null;
+    private int @Nullable []        _blurScratch      = null;
+    private @Nullable FilterConf    _lastFilter       = null;
+    private @Nullable Rectangle     _lastRegion       = null;
+    private @Nullable Size          _lastSize         = null;
+    private long                    _filterPasses     = 0;
+
+
+    /**
+     *  Filters the region of the parent rendering behind the component and renders it onto the component.
+     *
+     * @param filterConf The filter which should be applied to the parent rendering.
+     * @param parentRendering The full rendering of the parent of the component.
+     * @param g2d The graphics context of the component.
+     * @param offsetX The x position of the component within its parent.
+     * @param offsetY The y position of the component within its parent.
+     * @param boxModelConf The box model of the component, which defines its size and areas.
+     */
+    void render(
+        FilterConf    filterConf,
+        BufferedImage parentRendering,
+        Graphics2D    g2d,
+        int           offsetX,
+        int           offsetY,
+        BoxModelConf  boxModelConf
+    ) {
+        final Size       size   = boxModelConf.size();
+        final float      width  = size.width().orElse(0f);
+        final float      height = size.height().orElse(0f);
+        final Offset     center = filterConf.offset();
+        final Scale      scale  = filterConf.scale();
+        final KernelConf kernel = filterConf.kernel();
+        final float      blur   = filterConf.blur();
+
+        AffineTransform scaling = null;
+        if ( !center.equals(Offset.none()) || !scale.equals(Scale.none()) ) {
+            if ( scale.equals(Scale.none()) ) {
+                offsetX += (int) center.x();
+                offsetY += (int) center.y();
+            } else {
+                scaling = new AffineTransform();
+                float vx = center.x() + offsetX + width / 2f;
+                float vy = center.y() + offsetY + height / 2f;
+                scaling.translate(vx, vy);
+                scaling.scale(scale.x(), scale.y());
+                scaling.translate(-vx, -vy);
+            }
+        }
+
+        // The region of the (scaled) parent rendering which we need, in parent coordinates:
+        int padding = (int) Math.ceil(Math.max(blur, 0)) + _kernelExtent(kernel) + 1;
+        Rectangle region = new Rectangle(
+                                offsetX - padding,
+                                offsetY - padding,
+                                (int) Math.ceil(width)  + padding * 2,
+                                (int) Math.ceil(height) + padding * 2
+                            )
+                            .intersection(new Rectangle(0, 0, parentRendering.getWidth(), parentRendering.getHeight()));
+
+        if ( region.isEmpty() )
+            return;
+
+        BufferedImage filtered = _filter(filterConf, parentRendering, region, scaling, kernel, blur, boxModelConf);
+
+        Shape oldClip = g2d.getClip();
+        try {
+            ComponentAreas areas = boxModelConf.areas();
+            Shape newClip = areas.get(filterConf.area());
+            g2d.setClip(newClip);
+            g2d.drawImage(filtered, region.x - offsetX, region.y - offsetY, null);
+        } catch (Exception e) {
+            log.error("Failed to successfully render filtered parent buffer!", e);
+        } finally {
+            g2d.setClip(oldClip);
+        }
+    }
+
+    private BufferedImage _filter(
+        FilterConf                filterConf,
+        BufferedImage             parentRendering,
+        Rectangle                 region,
+        @Nullable AffineTransform scaling,
+        KernelConf                kernel,
+        float                     blur,
+        BoxModelConf              boxModelConf
+    ) {
+        BufferedImage source = _source = _reuse(_source, region.width, region.height);
+        Graphics2D g2d = source.createGraphics();
+        try {
+            // We copy (and scale if necessary) the region of the parent into our own buffer:
+            g2d.setComposite(AlphaComposite.Src);
+            g2d.translate(-region.x, -region.y);
+            if ( scaling != null ) {
+                g2d.setComposite(AlphaComposite.Clear);
+                g2d.fillRect(region.x, region.y, region.width, region.height);
+                g2d.setComposite(AlphaComposite.Src);
+                g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g2d.transform(scaling);
+            }
+            g2d.drawImage(parentRendering, 0, 0, null);
+        } finally {
+            g2d.dispose();
+        }
+
+        int[] sourcePixels = _pixelsOf(source);
+        BufferedImage filtered = _filtered;
+        if (
+            filtered != null &&
+            filterConf.equals(_lastFilter) &&
+            region.equals(_lastRegion) &&
+            boxModelConf.size().equals(_lastSize) &&
+            Arrays.equals(sourcePixels, _lastSourcePixels)
+        )
+            return filtered; // Nothing changed behind the component, so we can reuse the last result!
+
+        _lastFilter       = filterConf;
+        _lastRegion       = region;
+        _lastSize         = boxModelConf.size();
+        _lastSourcePixels = _copy(sourcePixels, _lastSourcePixels);
+        _filterPasses++;
+
+        BufferedImage current = source;
+        BufferedImage other   = _scratch = _reuse(_scratch, region.width, region.height);
+        if ( !kernel.equals(KernelConf.none()) ) {
+            new ConvolveOp(kernel.toAwtKernel(), ConvolveOp.EDGE_NO_OP, null).filter(current, other);
+            BufferedImage swap = current;
+            current = other;
+            other   = swap;
+        }
+        if ( blur > 0 ) {
+            if ( blur < BOX_BLUR_THRESHOLD ) {
+                new ConvolveOp(_makeKernel(blur, false), ConvolveOp.EDGE_NO_OP, null).filter(current, other);
+                new ConvolveOp(_makeKernel(blur, true),  ConvolveOp.EDGE_NO_OP, null).filter(other, current);
+            } else {
+                int[] pixels = _pixelsOf(current);
+                int[] scratch = _blurScratch;
+                if ( scratch == null || scratch.length < pixels.length )
+                    scratch = _blurScratch = new int[pixels.length];
+                boxBlur(pixels, scratch, region.width, region.height, blur);
+            }
+        }
+
+        // The result must survive the next frame, which overwrites the other buffers:
+        BufferedImage result = _filtered = _reuse(_filtered, region.width, region.height);
+        System.arraycopy(_pixelsOf(current), 0, _pixelsOf(result), 0, region.width * region.height);
+        return result;
+    }
+
+    private static int _kernelExtent( KernelConf kernel ) {
+        if ( kernel.equals(KernelConf.none()) )
+            return 0;
+        Kernel awtKernel = kernel.toAwtKernel();
+        return Math.max(awtKernel.getWidth(), awtKernel.getHeight()) / 2;
+    }
+
+    private static BufferedImage _reuse( @Nullable BufferedImage image, int width, int height ) {
+        if ( image != null && image.getWidth() == width && image.getHeight() == height )
+            return image;
+        // Premultiplied alpha is needed to blur transparent pixels without dark fringes:
+        return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+    }
+
+    private static int[] _pixelsOf( BufferedImage image ) {
+        return ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+    }
+
+    private static int[] _copy( int[] pixels, int @Nullable [] target ) {
+        if ( target == null || target.length != pixels.length )
+            return pixels.clone();
+        System.arraycopy(pixels, 0, target, 0, pixels.length);
+        return target;
+    }
+
+    /**
+     *  Approximates a gaussian blur with the given radius (where the standard deviation
+     *  is a third of the radius, like for the kernel used for small radii) using 3 successive box blurs,
+     *  each of which is split into a horizontal and a vertical pass with a sliding window.
+     *
+     * @param pixels The premultiplied ARGB pixels which are blurred in place.
+     * @param scratch A buffer at least as large as the pixels array.
+     * @param width The width of the image.
+     * @param height The height of the image.
+     * @param radius The blur radius.
+     */
+    static void boxBlur( int[] pixels, int[] scratch, int width, int height, float radius ) {
+        for ( int boxSize : _boxSizesForGauss(radius / 3f, BOX_BLUR_PASSES) ) {
+            int boxRadius = ( boxSize - 1 ) / 2;
+            if ( boxRadius <= 0 )
+                continue;
+            _boxBlurHorizontal(pixels, scratch, width, height, boxRadius);
+            _boxBlurVertical(scratch, pixels, width, height, boxRadius);
+        }
+    }
+
+    /**
+     *  Calculates the sizes of the boxes which approximate a gaussian
+     *  with the given standard deviation when applied n times.
+     */
+    private static int[] _boxSizesForGauss( float sigma, int n ) {
+        double idealWidth = Math.sqrt( ( 12 * sigma * sigma / n ) + 1 );
+        int lowerWidth = (int) Math.floor(idealWidth);
+        if ( lowerWidth % 2 == 0 )
+            lowerWidth--;
+        int upperWidth = lowerWidth + 2;
+        double idealM = ( 12 * sigma * sigma - n * lowerWidth * lowerWidth - 4 * n * lowerWidth - 3 * n ) / ( -4.0 * lowerWidth - 4 );
+        long m = Math.round(idealM);
+        int[] sizes = new int[n];
+        for ( int i = 0; i < n; i++ )
+            sizes[i] = i < m ? lowerWidth : upperWidth;
+        return sizes;
+    }
+
+    private static void _boxBlurHorizontal( int[] source, int[] target, int width, int height, int radius ) {
+        int window = radius * 2 + 1;
+        int half   = window / 2;
+        for ( int y = 0; y < height; y++ ) {
+            int row = y * width;
+            int a = 0, r = 0, g = 0, b = 0;
+            for ( int i = -radius; i <= radius; i++ ) {
+                int pixel = source[row + Math.min(Math.max(i, 0), width - 1)];
+                a += pixel >>> 24; r += ( pixel >> 16 ) & 0xFF; g += ( pixel >> 8 ) & 0xFF; b += pixel & 0xFF;
+            }
+            for ( int x = 0; x < width; x++ ) {
+                target[row + x] = ( ( a + half ) / window ) << 24 | ( ( r + half ) / window ) << 16 | ( ( g + half ) / window ) << 8 | ( ( b + half ) / window );
+                int leaving  = source[row + Math.max(x - radius, 0)];
+                int entering = source[row + Math.min(x + radius + 1, width - 1)];
+                a += ( entering >>> 24 )         - ( leaving >>> 24 );
+                r += ( ( entering >> 16 ) & 0xFF ) - ( ( leaving >> 16 ) & 0xFF );
+                g += ( ( entering >> 8 ) & 0xFF )  - ( ( leaving >> 8 ) & 0xFF );
+                b += ( entering & 0xFF )         - ( leaving & 0xFF );
+            }
+        }
+    }
+
+    private static void _boxBlurVertical( int[] source, int[] target, int width, int height, int radius ) {
+        int window = radius * 2 + 1;
+        int half   = window / 2;
+        for ( int x = 0; x < width; x++ ) {
+            int a = 0, r = 0, g = 0, b = 0;
+            for ( int i = -radius; i <= radius; i++ ) {
+                int pixel = source[Math.min(Math.max(i, 0), height - 1) * width + x];
+                a += pixel >>> 24; r += ( pixel >> 16 ) & 0xFF; g += ( pixel >> 8 ) & 0xFF; b += pixel & 0xFF;
+            }
+            for ( int y = 0; y < height; y++ ) {
+                target[y * width + x] = ( ( a + half ) / window ) << 24 | ( ( r + half ) / window ) << 16 | ( ( g + half ) / window ) << 8 | ( ( b + half ) / window );
+                int leaving  = source[Math.max(y - radius, 0) * width + x];
+                int entering = source[Math.min(y + radius + 1, height - 1) * width + x];
+                a += ( entering >>> 24 )         - ( leaving >>> 24 );
+                r += ( ( entering >> 16 ) & 0xFF ) - ( ( leaving >> 16 ) & 0xFF );
+                g += ( ( entering >> 8 ) & 0xFF )  - ( ( leaving >> 8 ) & 0xFF );
+                b += ( entering & 0xFF )         - ( leaving & 0xFF );
+            }
+        }
+    }
+
+    private static Kernel _makeKernel( float radius, boolean transpose ) {
+        final int maxRadius = (int)Math.ceil(radius);
+        final int rows = maxRadius * 2 + 1;
+        final float[] matrix = new float[rows];
+        final float sigma = radius / 3;
+        final float sigma22 = 2*sigma*sigma;
+        final float sigmaPi2 = (float) ( 2 * Math.PI * sigma );
+        final float sqrtSigmaPi2 = (float)Math.sqrt(sigmaPi2);
+        final float radius2 = radius*radius;
+
+        float total = 0;
+        int   index = 0;
+
+        for (int row = -maxRadius; row <= maxRadius; row++) {
+            float distance = row*row;
+            if (distance > radius2)
+                matrix[index] = 0;
+            else
+                matrix[index] = (float)Math.exp(-distance/sigma22) / sqrtSigmaPi2;
+            total += matrix[index];
+            index++;
+        }
+        for ( int i = 0; i < rows; i++ )
+            matrix[i] /= total;
+
+        return new Kernel( transpose ? 1 : rows, transpose ? rows : 1, matrix );
+    }
+
+    /**
+     * @return The number of times the backdrop actually had to be filtered,
+     *         as opposed to reusing the previous result.
+     */
+    long filterPasses() { return _filterPasses; }
+}
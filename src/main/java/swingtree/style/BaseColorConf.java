@@ -8,6 +8,7 @@ import java.util.Objects;
 import java.util.Optional;
 
 @Immutable
+@SuppressWarnings("Immutable")
 final class BaseColorConf
 {
     private static final BaseColorConf _NONE = new BaseColorConf(null, null, BorderColorsConf.none());
@@ -18,6 +19,9 @@ final class BaseColorConf
     private final @Nullable Color  _backgroundColor;
     private final BorderColorsConf _borderColors;
 
+    private boolean _wasAlreadyHashed = false;
+    private int     _hashCode         = 0; // cached hash code
+
     static BaseColorConf of(
         @Nullable Color  foundationColor,
         @Nullable Color  backgroundColor,
@@ -57,7 +61,14 @@ final class BaseColorConf
 
 
     @Override
-    public int hashCode() { return Objects.hash(_foundationColor, _backgroundColor, _borderColors); }
+    public int hashCode() {
+        if ( _wasAlreadyHashed )
+            return _hashCode;
+
+        _hashCode = Objects.hash(_foundationColor, _backgroundColor, _borderColors);
+        _wasAlreadyHashed = true;
+        return _hashCode;
+    }
 
     @Override
     public boolean equals( Object obj ) {
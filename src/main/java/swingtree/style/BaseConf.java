@@ -46,6 +46,9 @@ final class BaseConf
     private final @Nullable Cursor        _cursor;
     private final UI.ComponentOrientation _orientation;
 
+    private boolean _wasAlreadyHashed = false;
+    private int     _hashCode         = 0; // cached hash code
+
 
     private BaseConf(
         @Nullable ImageIcon     icon,
@@ -131,7 +134,14 @@ final class BaseConf
     }
 
     @Override
-    public int hashCode() { return Objects.hash(_icon, _fit, _backgroundColor, _foundationColor, _foregroundColor, _cursor, _orientation); }
+    public int hashCode() {
+        if ( _wasAlreadyHashed )
+            return _hashCode;
+
+        _hashCode = Objects.hash(_icon, _fit, _backgroundColor, _foundationColor, _foregroundColor, _cursor, _orientation);
+        _wasAlreadyHashed = true;
+        return _hashCode;
+    }
 
     @Override
     @SuppressWarnings("ReferenceEquality")
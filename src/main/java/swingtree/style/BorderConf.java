@@ -14,6 +14,7 @@ import java.util.Optional;
  *  a new instance of this class with the updated state.
  */
 @Immutable
+@SuppressWarnings("Immutable")
 final class BorderConf
 {
     private static final BorderConf _NONE = new BorderConf(
@@ -65,6 +66,9 @@ final class BorderConf
 
     private final BorderColorsConf _borderColors;
 
+    private boolean _wasAlreadyHashed = false;
+    private int     _hashCode         = 0; // cached hash code
+
 
     private BorderConf(
         Arc              topLeftArc,
@@ -338,6 +342,9 @@ final class BorderConf
 
     @Override
     public int hashCode() {
+        if ( _wasAlreadyHashed )
+            return _hashCode;
+
         int hash = 7;
         hash = 97 * hash + _topLeftArc.hashCode();
         hash = 97 * hash + _topRightArc.hashCode();
@@ -347,7 +354,9 @@ final class BorderConf
         hash = 97 * hash + _margin.hashCode();
         hash = 97 * hash + _padding.hashCode();
         hash = 97 * hash + ( _borderColors != null ? _borderColors.hashCode() : 0 );
-        return hash;
+        _hashCode = hash;
+        _wasAlreadyHashed = true;
+        return _hashCode;
     }
 
     @Override
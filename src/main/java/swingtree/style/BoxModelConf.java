@@ -14,6 +14,7 @@ import java.util.Optional;
  *  a new instance of this class with the updated state.
  */
 @Immutable
+@SuppressWarnings("Immutable")
 final class BoxModelConf
 {
     private static final BoxModelConf _NONE = new BoxModelConf(
@@ -90,6 +91,9 @@ final class BoxModelConf
 
     private final Size    _size;
 
+    private boolean _wasAlreadyHashed = false;
+    private int     _hashCode         = 0; // cached hash code
+
 
     private BoxModelConf(
         Arc     topLeftArc,
@@ -150,6 +154,18 @@ final class BoxModelConf
     
     public Size size() { return _size; }
 
+    BoxModelConf withSize( Size size ) {
+        if ( _size.equals(size) )
+            return this;
+        return BoxModelConf.of(
+                    _topLeftArc,   _topRightArc,
+                    _bottomLeftArc, _bottomRightArc,
+                    _borderWidths, _margin,
+                    _padding,      _baseOutline,
+                    size
+                );
+    }
+
     BoxModelConf withArcWidthAt(UI.Corner corner, double borderArcWidth ) {
         if ( corner == UI.Corner.EVERY )
             return this.withArcWidth(borderArcWidth);
@@ -236,6 +252,9 @@ final class BoxModelConf
 
     @Override
     public int hashCode() {
+        if ( _wasAlreadyHashed )
+            return _hashCode;
+
         int hash = 7;
         hash = 97 * hash + _topLeftArc.hashCode();
         hash = 97 * hash + _topRightArc.hashCode();
@@ -246,7 +265,9 @@ final class BoxModelConf
         hash = 97 * hash + _padding.hashCode();
         hash = 97 * hash + _baseOutline.hashCode();
         hash = 97 * hash + _size.hashCode();
-        return hash;
+        _hashCode = hash;
+        _wasAlreadyHashed = true;
+        return _hashCode;
     }
 
     @Override
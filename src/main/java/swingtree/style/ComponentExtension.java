@@ -78,6 +78,7 @@ public final class ComponentExtension<C extends JComponent>
 
     private PaintStep _lastPaintStep = PaintStep.UNDEFINED;
     private @Nullable BufferedImage _bufferedImage = null;
+    private @Nullable BackdropFilter _backdropFilter = null;
 
     private @Nullable Function<Position, DragAwayComponentConf<C>> _dragAwayConfigurator = null;
 
@@ -478,8 +479,29 @@ public final class ComponentExtension<C extends JComponent>
         _applyStyleToComponentState(styleConf, force);
     }
 
+    /**
+     *  Marks the currently resolved style of this component as dirty, so that
+     *  the next paint cycle runs the full style resolution again.
+     *  This is only relevant if style caching is enabled (see {@link swingtree.SwingTree#isStyleCachingEnabled()}),
+     *  and you need it when the {@link Styler}s of the component depend on state which
+     *  is not tracked by the style engine, like the properties of a view model.
+     */
+    public void invalidateStyle() {
+        _styleSource.invalidate();
+    }
+
+    /**
+     *  Marks the currently resolved styles of all components as dirty, so that
+     *  the next paint cycle of every component runs the full style resolution again.
+     *  This is only relevant if style caching is enabled (see {@link swingtree.SwingTree#isStyleCachingEnabled()}),
+     *  and it is useful when global state read by your {@link Styler}s changed, like the current theme.
+     */
+    public static void invalidateAllStyles() {
+        StyleSource.invalidateAll();
+    }
+
     void gatherApplyAndInstallStyleConfig() {
-        _applyStyleToComponentState(gatherStyle(), false);
+        _applyStyleToComponentState(_styleSource.cachedOrGatheredStyleFor(_owner), false);
     }
 
     private void _applyStyleToComponentState( StyleConf newStyle, boolean force )
@@ -515,7 +537,7 @@ public final class ComponentExtension<C extends JComponent>
             if ( isNewPaintCycle && step == PaintStep.BACKGROUND && _hasChildWithParentFilter() ) {
                 int w = _owner.getWidth();
                 int h = _owner.getHeight();
-                _bufferedImage = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+                _bufferedImage = _wipedBuffer(_bufferedImage, w, h);
                 _renderInto(_bufferedImage, step, graphics, superPaint);
             } else if ( _bufferedImage != null && step == PaintStep.BORDER ) {
                 _renderInto(_bufferedImage, step, graphics, superPaint);
@@ -527,6 +549,23 @@ public final class ComponentExtension<C extends JComponent>
         }
     }
 
+    /**
+     *  The buffer is needed in every paint cycle of a parent of components with parent filters,
+     *  so instead of allocating a new one every time, we reuse it as long as the size stays the same.
+     */
+    private static BufferedImage _wipedBuffer( @Nullable BufferedImage buffer, int width, int height ) {
+        if ( buffer == null || buffer.getWidth() != width || buffer.getHeight() != height )
+            return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = buffer.createGraphics();
+        try {
+            g2d.setComposite(AlphaComposite.Clear);
+            g2d.fillRect(0, 0, width, height);
+        } finally {
+            g2d.dispose();
+        }
+        return buffer;
+    }
+
     private void _renderInto(BufferedImage buffer, PaintStep step, Graphics graphics, Consumer<Graphics2D> superPaint ) {
         Graphics2D bufferGraphics = buffer.createGraphics();
         StyleUtil.transferConfigurations((Graphics2D) graphics, bufferGraphics);
@@ -636,8 +675,19 @@ public final class ComponentExtension<C extends JComponent>
                                             .map(e -> e._bufferedImage)
                                             .orElse(null);
 
+            BackdropFilter backdropFilter = _backdropFilter;
+            if ( parentRendering != null && backdropFilter == null )
+                backdropFilter = _backdropFilter = new BackdropFilter();
+            else if ( parentRendering == null )
+                backdropFilter = _backdropFilter = null; // We release the buffers of the filter if they are no longer needed.
+
             // Location relative to the parent:
-            _styleEngine.renderBackgroundStyle(internalGraphics, parentRendering, _owner.getX(), _owner.getY());
+            _styleEngine.renderBackgroundStyle(
+                                internalGraphics,
+                                parentRendering,
+                                backdropFilter,
+                                _owner.getX(), _owner.getY()
+                            );
 
             if ( lookAndFeelPainting != null ) {
                 Shape contentClip = _styleEngine.componentAreaIfCalculated(UI.ComponentArea.BODY).orElse(null);
@@ -0,0 +1,55 @@
+package swingtree.style;
+
+import org.jspecify.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ *  A weak, thread safe pool of canonical instances of an immutable config type,
+ *  which makes sure that equal configs share the same identity.
+ *  Many components are usually styled identically, so interning their configs
+ *  deduplicates memory, and equality checks between interned configs
+ *  (like the ones which decide whether a style needs to be installed again)
+ *  become cheap reference comparisons. <br>
+ *  The canonical instances are only weakly referenced, so they are removed
+ *  from the pool once no component uses them anymore.
+ *
+ * @param <C> The type of the immutable configs, which must implement
+ *            {@link Object#equals(Object)} and {@link Object#hashCode()} (ideally with a cached hash code).
+ */
+final class ConfInterner<C>
+{
+    private final Map<C, WeakReference<C>> _pool = new WeakHashMap<>();
+
+
+    /**
+     *  Returns the canonical instance which is equal to the given config,
+     *  or registers the given config as the canonical instance if there is none yet.
+     *
+     * @param conf The config which should be interned.
+     * @return The canonical instance equal to the given config.
+     */
+    synchronized C intern( C conf ) {
+        C canonical = find(conf);
+        if ( canonical != null )
+            return canonical;
+        _pool.put(conf, new WeakReference<>(conf));
+        return conf;
+    }
+
+    /**
+     * @param conf The config whose canonical instance should be looked up.
+     * @return The canonical instance equal to the given config, or null if it was not interned yet.
+     */
+    synchronized @Nullable C find( C conf ) {
+        WeakReference<C> reference = _pool.get(conf);
+        return reference == null ? null : reference.get();
+    }
+
+    /**
+     * @return The number of canonical instances which are currently in the pool.
+     */
+    synchronized int size() { return _pool.size(); }
+}
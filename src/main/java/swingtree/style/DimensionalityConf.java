@@ -13,6 +13,7 @@ import java.util.Optional;
  *  to determine the actual size of the component in the layout.
  **/
 @Immutable
+@SuppressWarnings("Immutable")
 final class DimensionalityConf
 {
     private static final DimensionalityConf _NONE = new DimensionalityConf(
@@ -47,6 +48,9 @@ final class DimensionalityConf
     private final Size _preferredSize;
     private final Size _size;
 
+    private boolean _wasAlreadyHashed = false;
+    private int     _hashCode         = 0; // cached hash code
+
 
     private DimensionalityConf(
         Size minSize,
@@ -180,7 +184,12 @@ final class DimensionalityConf
 
     @Override
     public final int hashCode() {
-        return Objects.hash(_minSize, _maxSize, _preferredSize, _size);
+        if ( _wasAlreadyHashed )
+            return _hashCode;
+
+        _hashCode = Objects.hash(_minSize, _maxSize, _preferredSize, _size);
+        _wasAlreadyHashed = true;
+        return _hashCode;
     }
 
 }
@@ -96,6 +96,9 @@ public final class FilterConf
     private final Scale            _scale;
     private final float            _blur;
 
+    private boolean _wasAlreadyHashed = false;
+    private int     _hashCode         = 0; // cached hash code
+
     FilterConf(
         KernelConf       kernel,
         UI.ComponentArea area,
@@ -245,7 +248,12 @@ public final class FilterConf
 
     @Override
     public int hashCode() {
-        return Objects.hash(_kernel, _area, _offset, _scale, _blur);
+        if ( _wasAlreadyHashed )
+            return _hashCode;
+
+        _hashCode = Objects.hash(_kernel, _area, _offset, _scale, _blur);
+        _wasAlreadyHashed = true;
+        return _hashCode;
     }
 
     @Override
@@ -14,6 +14,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  *  An immutable, wither-like method based config API for font styles
@@ -172,6 +173,16 @@ public final class FontConf
 {
     private static final Logger log = org.slf4j.LoggerFactory.getLogger(FontConf.class);
 
+    private static final int MAX_DERIVED_FONTS = 512;
+
+    /**
+     *  Text is rendered very frequently, and deriving a font from a map of attributes
+     *  is expensive, so the derived fonts are interned here.
+     *  Returning the same font instance also allows the JDK to reuse its
+     *  glyph and metrics caches, which are keyed by font.
+     */
+    private static final Map<DerivedFontKey, Font> _DERIVED_FONTS = new ConcurrentHashMap<>();
+
     private static final FontConf _NONE = new FontConf(
                                                         "",    // Font name (family)
                                                         0,     // size
@@ -259,6 +270,9 @@ public final class FontConf
     private final UI.HorizontalAlignment    _horizontalAlignment;
     private final UI.VerticalAlignment      _verticalAlignment;
 
+    private boolean _wasAlreadyHashed = false;
+    private int     _hashCode         = 0; // cached hash code
+
 
     private FontConf(
         String                    name,
@@ -852,15 +866,69 @@ public final class FontConf
         return _createDerivedFrom(existingFont, boxModel);
     }
 
-    private Optional<Font> _createDerivedFrom( Font existingFont, Object boxModelOrComponent )
+    private Optional<Font> _createDerivedFrom( @Nullable Font existingFont, Object boxModelOrComponent )
     {
         if ( this.equals(_NONE) )
             return Optional.empty();
 
-        boolean isChange = false;
-
         if ( existingFont == null )
-            existingFont = new JLabel().getFont();
+            existingFont = _defaultFont();
+
+        boolean paintsResolved = true;
+        Paint paint = null;
+        Paint backgroundPaint = null;
+        if ( !_paint.equals(FontPaintConf.none()) ) {
+            try {
+                paint = _paintFor(_paint, boxModelOrComponent);
+            } catch ( Exception e ) {
+                paintsResolved = false;
+                log.error("Failed to create paint from paint config: "+_paint, e);
+            }
+        }
+        if ( !_backgroundPaint.equals(FontPaintConf.none()) ) {
+            try {
+                backgroundPaint = _paintFor(_backgroundPaint, boxModelOrComponent);
+            } catch ( Exception e ) {
+                paintsResolved = false;
+                log.error("Failed to create paint from paint config: "+_backgroundPaint, e);
+            }
+        }
+        /*
+            Gradients and other paints depend on the size of the component and do not
+            implement equality, so only fonts with plain (or no) colors are cached.
+        */
+        if ( !paintsResolved || !_isCacheable(paint) || !_isCacheable(backgroundPaint) )
+            return _derive(existingFont, paint, backgroundPaint);
+
+        DerivedFontKey key = new DerivedFontKey(existingFont, this, paint, backgroundPaint);
+        Font derived = _DERIVED_FONTS.get(key);
+        if ( derived == null ) {
+            // The base font itself is stored to remember that it does not need to be derived.
+            derived = _derive(existingFont, paint, backgroundPaint).orElse(existingFont);
+            if ( _DERIVED_FONTS.size() >= MAX_DERIVED_FONTS )
+                _DERIVED_FONTS.clear(); // Rarely happens, there are usually only a handful of distinct fonts.
+            Font existing = _DERIVED_FONTS.putIfAbsent(key, derived);
+            if ( existing != null )
+                derived = existing;
+        }
+        return derived == existingFont ? Optional.empty() : Optional.of(derived);
+    }
+
+    private static @Nullable Paint _paintFor( FontPaintConf paintConf, Object boxModelOrComponent ) {
+        if ( boxModelOrComponent instanceof BoxModelConf )
+            return paintConf.getFor((BoxModelConf) boxModelOrComponent);
+        else if ( boxModelOrComponent instanceof JComponent )
+            return paintConf.getFor((JComponent) boxModelOrComponent);
+        return null;
+    }
+
+    private static boolean _isCacheable( @Nullable Paint paint ) {
+        return paint == null || paint instanceof Color;
+    }
+
+    private Optional<Font> _derive( Font existingFont, @Nullable Paint paint, @Nullable Paint backgroundPaint )
+    {
+        boolean isChange = false;
 
         Map<TextAttribute, Object> currentAttributes = (Map<TextAttribute, Object>) existingFont.getAttributes();
         Map<TextAttribute, Object> attributes = new HashMap<>();
@@ -898,32 +966,12 @@ public final class FontConf
             attributes.put(TextAttribute.FAMILY, _familyName);
         }
         if ( !_paint.equals(FontPaintConf.none()) ) {
-            try {
-                Paint paint = null;
-                if ( boxModelOrComponent instanceof BoxModelConf )
-                    paint = _paint.getFor((BoxModelConf) boxModelOrComponent);
-                else if ( boxModelOrComponent instanceof JComponent )
-                    paint = _paint.getFor((JComponent) boxModelOrComponent);
-
-                isChange = isChange || !Objects.equals(paint, currentAttributes.get(TextAttribute.FOREGROUND));
-                attributes.put(TextAttribute.FOREGROUND, paint);
-            } catch ( Exception e ) {
-                log.error("Failed to create paint from paint config: "+_paint, e);
-            }
+            isChange = isChange || !Objects.equals(paint, currentAttributes.get(TextAttribute.FOREGROUND));
+            attributes.put(TextAttribute.FOREGROUND, paint);
         }
         if ( !_backgroundPaint.equals(FontPaintConf.none()) ) {
-            try {
-                Paint backgroundPaint = null;
-                if ( boxModelOrComponent instanceof BoxModelConf )
-                    backgroundPaint = _backgroundPaint.getFor((BoxModelConf) boxModelOrComponent);
-                else if ( boxModelOrComponent instanceof JComponent )
-                    backgroundPaint = _backgroundPaint.getFor((JComponent) boxModelOrComponent);
-
-                isChange = isChange || !Objects.equals(backgroundPaint, currentAttributes.get(TextAttribute.BACKGROUND));
-                attributes.put(TextAttribute.BACKGROUND, backgroundPaint);
-            } catch ( Exception e ) {
-                log.error("Failed to create paint from paint config: "+_backgroundPaint, e);
-            }
+            isChange = isChange || !Objects.equals(backgroundPaint, currentAttributes.get(TextAttribute.BACKGROUND));
+            attributes.put(TextAttribute.BACKGROUND, backgroundPaint);
         }
         if ( isChange )
             return Optional.of(existingFont.deriveFont(attributes));
@@ -931,6 +979,61 @@ public final class FontConf
             return Optional.empty();
     }
 
+    /**
+     *  The font of a plain {@link JLabel} according to the current look and feel,
+     *  which is used as a base when a component does not have a font yet.
+     *  It is looked up in the {@link UIManager} instead of creating a throwaway label for every call.
+     */
+    private static Font _defaultFont() {
+        Font font = UIManager.getFont("Label.font");
+        if ( font == null )
+            font = new JLabel().getFont();
+        if ( font == null )
+            font = new Font(Font.DIALOG, Font.PLAIN, UI.scale(12));
+        return font;
+    }
+
+    /**
+     *  The identity of a font derived from a base font through a {@link FontConf},
+     *  which includes the resolved colors because they are stored in the derived font.
+     *  Note that the UI scale is already part of the font config (see {@link #_scale(double)}).
+     */
+    private static final class DerivedFontKey
+    {
+        private final Font           _base;
+        private final FontConf       _conf;
+        private final @Nullable Paint _paint;
+        private final @Nullable Paint _backgroundPaint;
+        private final int            _hash;
+
+        DerivedFontKey( Font base, FontConf conf, @Nullable Paint paint, @Nullable Paint backgroundPaint ) {
+            _base            = base;
+            _conf            = conf;
+            _paint           = paint;
+            _backgroundPaint = backgroundPaint;
+            _hash            = Objects.hash(base, conf, paint, backgroundPaint);
+        }
+
+        @Override public int hashCode() { return _hash; }
+
+        @Override
+        public boolean equals( Object obj ) {
+            if ( obj == this ) return true;
+            if ( !(obj instanceof DerivedFontKey) ) return false;
+            DerivedFontKey rhs = (DerivedFontKey) obj;
+            return _hash == rhs._hash                          &&
+                   _base.equals(rhs._base)                     &&
+                   _conf.equals(rhs._conf)                     &&
+                   Objects.equals(_paint, rhs._paint)          &&
+                   Objects.equals(_backgroundPaint, rhs._backgroundPaint);
+        }
+    }
+
+    /**
+     * @return The number of derived fonts which are currently cached.
+     */
+    static int numberOfCachedDerivedFonts() { return _DERIVED_FONTS.size(); }
+
     FontConf _scale(double scale ) {
         if ( scale == 1.0 )
             return this;
@@ -957,6 +1060,9 @@ public final class FontConf
     @Override
     public int hashCode()
     {
+        if ( _wasAlreadyHashed )
+            return _hashCode;
+
         int hash = 7;
         hash = 97 * hash + Objects.hashCode(_familyName);
         hash = 97 * hash + _size;
@@ -970,7 +1076,9 @@ public final class FontConf
         hash = 97 * hash + Objects.hashCode(_backgroundPaint);
         hash = 97 * hash + Objects.hashCode(_horizontalAlignment);
         hash = 97 * hash + Objects.hashCode(_verticalAlignment);
-        return hash;
+        _hashCode = hash;
+        _wasAlreadyHashed = true;
+        return _hashCode;
     }
 
     @Override
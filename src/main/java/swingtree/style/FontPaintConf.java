@@ -49,6 +49,9 @@ final class FontPaintConf
     private final @Nullable NoiseConf _noise;
     private final @Nullable GradientConf _gradient;
 
+    private boolean _wasAlreadyHashed = false;
+    private int     _hashCode         = 0; // cached hash code
+
 
     FontPaintConf(
         @Nullable Color color,
@@ -150,7 +153,12 @@ final class FontPaintConf
 
     @Override
     public int hashCode() {
-        return Objects.hash(_color, _paint, _noise, _gradient);
+        if ( _wasAlreadyHashed )
+            return _hashCode;
+
+        _hashCode = Objects.hash(_color, _paint, _noise, _gradient);
+        _wasAlreadyHashed = true;
+        return _hashCode;
     }
 
     @Override
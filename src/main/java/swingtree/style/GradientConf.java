@@ -208,6 +208,9 @@ public final class GradientConf implements Simplifiable<GradientConf>
     private final float[]              _fractions;
     private final UI.Cycle             _cycle;
 
+    private boolean _wasAlreadyHashed = false;
+    private int     _hashCode         = 0; // cached hash code
+
 
     private GradientConf(
         UI.Span span,
@@ -577,7 +580,10 @@ public final class GradientConf implements Simplifiable<GradientConf>
 
     @Override
     public int hashCode() {
-        return Objects.hash(
+        if ( _wasAlreadyHashed )
+            return _hashCode;
+
+        _hashCode = Objects.hash(
                 _span,
                 _type,
                 Arrays.hashCode(_colors),
@@ -590,6 +596,8 @@ public final class GradientConf implements Simplifiable<GradientConf>
                 Arrays.hashCode(_fractions),
                 _cycle
             );
+        _wasAlreadyHashed = true;
+        return _hashCode;
     }
 
     @Override
@@ -215,6 +215,9 @@ public final class ImageConf implements Simplifiable<ImageConf>
     private final Offset              _offset;
     private final UI.ComponentArea    _clipArea;
 
+    private boolean _wasAlreadyHashed = false;
+    private int     _hashCode         = 0; // cached hash code
+
 
     private ImageConf(
         @Nullable Color      primer,
@@ -671,7 +674,12 @@ public final class ImageConf implements Simplifiable<ImageConf>
 
     @Override
     public int hashCode() {
-        return Objects.hash(_primer, _image, _placement, _repeat, _fitMode, _size, _opacity, _padding, _offset, _clipArea);
+        if ( _wasAlreadyHashed )
+            return _hashCode;
+
+        _hashCode = Objects.hash(_primer, _image, _placement, _repeat, _fitMode, _size, _opacity, _padding, _offset, _clipArea);
+        _wasAlreadyHashed = true;
+        return _hashCode;
     }
 
     @Override
@@ -0,0 +1,180 @@
+package swingtree.style;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.swing.ImageIcon;
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ *  The image scaling engine used by the {@link ScalableImageIcon} and {@link swingtree.UI#scaleIconTo}.
+ *  Instead of {@link Image#getScaledInstance(int, int, int)}, which goes through the slow
+ *  {@link java.awt.image.ImageProducer} based area averaging filter and produces images
+ *  which have to be converted again whenever they are painted,
+ *  this produces {@link BufferedImage}s compatible with the screen.
+ *  Large reductions are done progressively in multiple bilinear steps which halve the size,
+ *  followed by a final bicubic step, which gives a quality close to area averaging
+ *  at a fraction of the cost.
+ *  <p>
+ *  The scaled variants of an image are cached per source image and target size,
+ *  where the source images are only weakly referenced and only the most recently used
+ *  variants of every source are kept.
+ */
+public final class ImageScaler
+{
+    private static final Logger log = LoggerFactory.getLogger(ImageScaler.class);
+
+    private static final int MAX_VARIANTS_PER_SOURCE = 8;
+
+    private static final Map<Image, Map<Long, BufferedImage>> _VARIANTS = new WeakHashMap<>();
+
+
+    private ImageScaler() {} // This is a utility class!
+
+    /**
+     *  Scales the image of the given icon to the given size and wraps the result in a new {@link ImageIcon}.
+     *  The scaled image is taken from the cache if it was already scaled to this size before.
+     *
+     * @param icon The icon whose image should be scaled.
+     * @param width The target width in pixels, which must be positive.
+     * @param height The target height in pixels, which must be positive.
+     * @return A new icon with the scaled image, or the given icon if it already has the requested size.
+     */
+    public static ImageIcon scaledIcon( ImageIcon icon, int width, int height ) {
+        if ( icon.getIconWidth() == width && icon.getIconHeight() == height )
+            return icon;
+        Image source = icon.getImage();
+        if ( source == null )
+            return icon;
+        return new ImageIcon(scaled(source, width, height));
+    }
+
+    /**
+     *  Scales the given image to the given size, or returns a cached variant
+     *  of the image with this size if it was already scaled before.
+     *
+     * @param source The source image, which must be fully loaded.
+     * @param width The target width in pixels, which must be positive.
+     * @param height The target height in pixels, which must be positive.
+     * @return A (possibly cached) compatible {@link BufferedImage} with the requested size,
+     *         which must not be modified.
+     * @throws IllegalArgumentException If the width or height is not positive.
+     */
+    public static BufferedImage scaled( Image source, int width, int height ) {
+        if ( width <= 0 || height <= 0 )
+            throw new IllegalArgumentException("Cannot scale an image to a size of " + width + "x" + height + ".");
+        long sizeKey = ( (long) width << 32 ) | ( height & 0xFFFFFFFFL );
+        synchronized ( _VARIANTS ) {
+            Map<Long, BufferedImage> variants = _VARIANTS.get(source);
+            BufferedImage cached = variants == null ? null : variants.get(sizeKey);
+            if ( cached != null )
+                return cached;
+        }
+        // We do the expensive scaling outside the lock, so that other images can be scaled concurrently:
+        BufferedImage scaled = _scale(source, width, height);
+        synchronized ( _VARIANTS ) {
+            Map<Long, BufferedImage> variants = _VARIANTS.computeIfAbsent(source, s -> new LinkedHashMap<>(8, 0.75f, true));
+            BufferedImage existing = variants.get(sizeKey);
+            if ( existing != null )
+                return existing;
+            variants.put(sizeKey, scaled);
+            Iterator<Long> leastRecentlyUsed = variants.keySet().iterator();
+            while ( variants.size() > MAX_VARIANTS_PER_SOURCE && leastRecentlyUsed.hasNext() ) {
+                leastRecentlyUsed.next();
+                leastRecentlyUsed.remove();
+            }
+        }
+        return scaled;
+    }
+
+    private static BufferedImage _scale( Image source, int width, int height ) {
+        BufferedImage current = _toCompatible(source);
+        int currentWidth  = current.getWidth();
+        int currentHeight = current.getHeight();
+        /*
+            Bilinear and bicubic interpolation only sample the neighbouring pixels,
+            so reducing an image by more than half in one step skips pixels and causes aliasing.
+            This is why we halve the image in steps until we are close to the target size.
+        */
+        while ( currentWidth / 2 >= width && currentHeight / 2 >= height ) {
+            currentWidth  /= 2;
+            currentHeight /= 2;
+            current = _draw(current, currentWidth, currentHeight, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        }
+        if ( currentWidth != width || currentHeight != height )
+            current = _draw(current, width, height, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        return current;
+    }
+
+    private static BufferedImage _toCompatible( Image source ) {
+        if ( source instanceof BufferedImage ) {
+            BufferedImage image = (BufferedImage) source;
+            if ( image.getType() == BufferedImage.TYPE_INT_ARGB || image.getType() == BufferedImage.TYPE_INT_ARGB_PRE )
+                return image;
+        }
+        int width  = Math.max(1, source.getWidth(null));
+        int height = Math.max(1, source.getHeight(null));
+        BufferedImage image = _createImage(width, height);
+        Graphics2D g2d = image.createGraphics();
+        try {
+            g2d.setComposite(AlphaComposite.Src);
+            g2d.drawImage(source, 0, 0, null);
+        } finally {
+            g2d.dispose();
+        }
+        return image;
+    }
+
+    private static BufferedImage _draw( BufferedImage source, int width, int height, Object interpolation ) {
+        BufferedImage target = _createImage(width, height);
+        Graphics2D g2d = target.createGraphics();
+        try {
+            g2d.setComposite(AlphaComposite.Src);
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation);
+            g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g2d.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g2d.dispose();
+        }
+        return target;
+    }
+
+    private static BufferedImage _createImage( int width, int height ) {
+        GraphicsConfiguration configuration = _screenConfiguration();
+        if ( configuration != null )
+            return configuration.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+        return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+    }
+
+    private static @Nullable GraphicsConfiguration _screenConfiguration() {
+        if ( GraphicsEnvironment.isHeadless() )
+            return null;
+        try {
+            return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+        } catch ( Exception e ) {
+            log.debug("Failed to access the default screen configuration for creating compatible images.", e);
+            return null;
+        }
+    }
+
+    /**
+     *  Removes all cached image variants.
+     */
+    static void clearCache() {
+        synchronized ( _VARIANTS ) {
+            _VARIANTS.clear();
+        }
+    }
+}
@@ -57,6 +57,9 @@ final class KernelConf
     private final int     _height;
     private final float[] _data;
 
+    private boolean _wasAlreadyHashed = false;
+    private int     _hashCode         = 0; // cached hash code
+
 
     private KernelConf( int width, int height, float[] data ) {
         _width  = width;
@@ -111,9 +114,14 @@ final class KernelConf
 
     @Override
     public int hashCode() {
+        if ( _wasAlreadyHashed )
+            return _hashCode;
+
         int result = Objects.hash(_width, _height);
         result = 31 * result + Arrays.hashCode(_data);
-        return result;
+        _hashCode = result;
+        _wasAlreadyHashed = true;
+        return _hashCode;
     }
 
     @Override
@@ -3,6 +3,7 @@ package swingtree.style;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import swingtree.SwingTree;
 import swingtree.UI;
 import swingtree.layout.Size;
 
@@ -10,9 +11,10 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.WeakHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 
@@ -24,7 +26,10 @@ import java.util.function.Supplier;
  *  as a key data structure for caching.
  *  <br>
  *  Instances of this exist for every component (inside their style engine) and are used to
- *  safely do cache based rendering of the component's style.
+ *  safely do cache based rendering of the component's style. <br>
+ *  The cached images are shared between components through a global, thread safe
+ *  and memory budgeted cache which evicts the least recently used images
+ *  once the budget is exceeded (see {@link SwingTree#getLayerCacheMemoryBudget()}).
  */
 final class LayerCache
 {
@@ -35,6 +40,7 @@ final class LayerCache
     private static final int    PIXELS_PER_UNIT_OF_AGGRESSIVENESS    = 256 * 256; // Determines how many pixels a single unit of cache aggressiveness can cache
     private static final double EAGER_ALLOCATION_FRIENDLINESS        = 0.1; // Has to be between 0 and 1!
     private static final int    MAX_CACHE_HIT_COUNT                  = 12;
+    private static final int    BYTES_PER_PIXEL                      = 4; // We use TYPE_INT_ARGB images!
 
     static int CACHE_AGGRESSIVENESS_OVERRIDE = -1;
 
@@ -48,8 +54,49 @@ final class LayerCache
     private static int DYNAMIC_CACHE_CAP() {
         return Math.min(MAX_CACHE_ENTRIES, MAX_CACHE_ENTRIES_PER_AGGRESSIVENESS * DYNAMIC_CACHE_AGGRESSIVENESS());
     }
+    // The maximum number of bytes the images of the global cache may occupy:
+    private static long CACHE_MEMORY_BUDGET() {
+        long configuredBudget = SwingTree.get().getLayerCacheMemoryBudget();
+        if ( configuredBudget >= 0 )
+            return configuredBudget;
+        // On average, we expect an entry to cover about a quarter of a unit of aggressiveness:
+        long bytesPerEntry = (long) PIXELS_PER_UNIT_OF_AGGRESSIVENESS * BYTES_PER_PIXEL / 4;
+        return Math.min(Runtime.getRuntime().maxMemory() / 8, (long) Math.max(1, DYNAMIC_CACHE_CAP()) * bytesPerEntry);
+    }
+
+    private static final GlobalCache _CACHE = new GlobalCache();
+
+    /**
+     * @return The number of times a cached image was found in the global cache.
+     */
+    static long globalCacheHits() { return _CACHE.hits(); }
+
+    /**
+     * @return The number of times no cached image was found in the global cache.
+     */
+    static long globalCacheMisses() { return _CACHE.misses(); }
 
-    private static final Map<LayerRenderConf, CachedImage> _CACHE = new WeakHashMap<>();
+    /**
+     * @return The number of cached images which were evicted from the global cache to stay within its memory budget.
+     */
+    static long globalCacheEvictions() { return _CACHE.evictions(); }
+
+    /**
+     * @return The number of bytes currently accounted for by the images in the global cache.
+     */
+    static long globalCacheBytes() { return _CACHE.bytes(); }
+
+    /**
+     * @return The number of entries in the global cache.
+     */
+    static int globalCacheSize() { return _CACHE.size(); }
+
+    /**
+     *  Removes all entries from the global cache.
+     *  Components which are currently using a cached image will keep using it
+     *  until their style changes.
+     */
+    static void clearGlobalCache() { _CACHE.clear(); }
 
 
     private final UI.Layer        _layer;
@@ -74,29 +121,27 @@ final class LayerCache
         return _localCache != null;
     }
 
-    private void _allocateOrGetCachedBuffer( LayerRenderConf layerRenderConf )
+    private void _allocateOrGetCachedBuffer( LayerRenderConf layerRenderConf, long budget )
     {
-        Map<LayerRenderConf, CachedImage> CACHE = _CACHE;
-
-        CachedImage bufferedImage = CACHE.get(layerRenderConf);
+        CachedImage bufferedImage = _CACHE.get(layerRenderConf);
 
         if ( bufferedImage == null ) {
             Size size = layerRenderConf.boxModel().size();
             bufferedImage = new CachedImage(size, layerRenderConf, _cacheHitsUntilAllocation);
-            CACHE.put(layerRenderConf, bufferedImage);
+            bufferedImage = _CACHE.putIfAbsent(layerRenderConf, bufferedImage, budget);
 
-            _layerRenderData = layerRenderConf;
+            _layerRenderData = bufferedImage.getKeyOrElse(layerRenderConf);
         }
         else {
-            // We keep a strong reference to the state so that the cached image is not garbage collected
+            // We use the key of the cached image so that equal render configurations share the same instance:
             _layerRenderData = bufferedImage.getKeyOrElse(layerRenderConf);
             /*
-                The reason why we take the key stored in the cached image as a strong reference is because this
-                key object is also the key in the global (weak) hash map based cache
-                whose reachability determines if the cached image is garbage collected or not!
-                So in order to avoid the cache being freed too early, we need to keep a strong
-                reference to the key object for all LayerCache instances that make use of the
-                corresponding cached image (the value of a particular key in the global cache).
+                The key stored in the cached image is also the key in the global cache,
+                so by taking it instead of the new (but equal) render configuration, all
+                LayerCache instances using a particular cached image also share the same key
+                object, which makes subsequent equality checks a lot cheaper.
+                Note that the cached image stays usable for this LayerCache even if
+                it is evicted from the global cache, because we reference it strongly.
             */
         }
 
@@ -136,7 +181,8 @@ final class LayerCache
         }
 
         boolean cacheIsInvalid = true;
-        boolean cacheIsFull    = _CACHE.size() > DYNAMIC_CACHE_CAP();
+        long    budget         = CACHE_MEMORY_BUDGET();
+        boolean cacheIsFull    = _bytesNeededFor(newState) > budget; // Entries larger than the entire budget are never cached!
 
         boolean newBufferNeeded = false;
 
@@ -156,7 +202,14 @@ final class LayerCache
         }
 
         if ( newBufferNeeded )
-            _allocateOrGetCachedBuffer(newState);
+            _allocateOrGetCachedBuffer(newState, budget);
+    }
+
+    private static long _bytesNeededFor( LayerRenderConf state ) {
+        Size size = state.boxModel().size();
+        long width  = size.width().map(Number::longValue).orElse(1L);
+        long height = size.height().map(Number::longValue).orElse(1L);
+        return Math.max(1, width) * Math.max(1, height) * BYTES_PER_PIXEL;
     }
 
     public final void paint( Graphics2D g, BiConsumer<LayerRenderConf, Graphics2D> renderer )
@@ -281,13 +334,76 @@ final class LayerCache
             // Here we return the number of cache hits until allocation and rendering should happen.
     }
 
+    /**
+     *  The global cache shared by all {@link LayerCache} instances, which maps
+     *  {@link LayerRenderConf} keys to {@link CachedImage}s. <br>
+     *  Every entry is accounted for with the number of bytes its image occupies
+     *  (or will occupy once it is allocated), and the least recently used entries are evicted
+     *  as soon as the total exceeds the memory budget.
+     *  All access is synchronized, so that components may be painted from different threads.
+     */
+    private static final class GlobalCache
+    {
+        private final Map<LayerRenderConf, CachedImage> _entries = new LinkedHashMap<>(64, 0.75f, true);
+
+        private long _bytes     = 0;
+        private long _hits      = 0;
+        private long _misses    = 0;
+        private long _evictions = 0;
+
+
+        synchronized @Nullable CachedImage get( LayerRenderConf key ) {
+            CachedImage image = _entries.get(key);
+            if ( image != null )
+                _hits++;
+            else
+                _misses++;
+            return image;
+        }
+
+        /**
+         *  Stores the given image under the given key unless there is already an image for it,
+         *  and then evicts the least recently used entries until the budget is respected again.
+         *
+         * @return The image stored in the cache for the given key.
+         */
+        synchronized CachedImage putIfAbsent( LayerRenderConf key, CachedImage image, long budget ) {
+            CachedImage existing = _entries.get(key);
+            if ( existing != null )
+                return existing;
+            _entries.put(key, image);
+            _bytes += image.bytes();
+            Iterator<CachedImage> leastRecentlyUsed = _entries.values().iterator();
+            while ( _bytes > budget && leastRecentlyUsed.hasNext() ) {
+                CachedImage evicted = leastRecentlyUsed.next();
+                if ( evicted == image )
+                    continue; // We never evict the entry we just added!
+                leastRecentlyUsed.remove();
+                _bytes -= evicted.bytes();
+                _evictions++;
+            }
+            return image;
+        }
+
+        synchronized void clear() {
+            _entries.clear();
+            _bytes = 0;
+        }
+
+        synchronized long hits()      { return _hits;      }
+        synchronized long misses()    { return _misses;    }
+        synchronized long evictions() { return _evictions; }
+        synchronized long bytes()     { return _bytes;     }
+        synchronized int  size()      { return _entries.size(); }
+    }
+
     /**
      *  A wrapper for a cached image that is either rendered or not yet allocated and
      *  associated with a particular {@link LayerRenderConf} key, which is used
      *  by the {@link LayerCache} instance of a particular component to get a strong
      *  reference to the key (causing it to stay in cache and not get garbage collected). <br>
      *  <br>
-     *  So instances of this are stored as values in the global {@link #_CACHE},
+     *  So instances of this are stored as values in the global {@link GlobalCache},
      *  and can be accessed and shared by multiple {@link LayerCache} instances.
      *  (So be careful with modifying this class!)<br>
      *  The image can be allocated lazily only after a certain number of cache
@@ -297,6 +413,7 @@ final class LayerCache
     private static final class CachedImage
     {
         private final Supplier<BufferedImage>  _imageAllocator;
+        private final long                     _bytes;
         private WeakReference<LayerRenderConf> _key;
         private @Nullable BufferedImage        _image;
         private boolean                        _isRendered;
@@ -305,6 +422,7 @@ final class LayerCache
 
         CachedImage( Size size, LayerRenderConf cacheKey, int numberOfHitsUntilAllocation ) {
             _key                         = new WeakReference<>(cacheKey);
+            _bytes                       = _bytesNeededFor(cacheKey);
             _isRendered                  = false;
             _imageAllocator              = () -> new BufferedImage(size.width().map(Number::intValue).orElse(1), size.height().map(Number::intValue).orElse(1), BufferedImage.TYPE_INT_ARGB);
             _image                       = null;
@@ -316,6 +434,13 @@ final class LayerCache
                 _numberOfHitsUntilAllocation = latestNumberOfHitsUntilAllocation;
         }
 
+        /**
+         * @return The number of bytes the image of this entry occupies once it is allocated.
+         */
+        public long bytes() {
+            return _bytes;
+        }
+
         public @Nullable BufferedImage getImage() {
             return _image;
         }
@@ -27,6 +27,9 @@ final class LayoutConf
     private final @Nullable Float  _alignmentX;
     private final @Nullable Float  _alignmentY;
 
+    private boolean _wasAlreadyHashed = false;
+    private int     _hashCode         = 0; // cached hash code
+
 
     private LayoutConf(
         Layout           layout,
@@ -57,7 +60,14 @@ final class LayoutConf
     LayoutConf alignmentY(Float alignmentY ) { return new LayoutConf(_layout, _constraint, _alignmentX, alignmentY); }
 
     @Override
-    public int hashCode() { return Objects.hash(_layout, _constraint, _alignmentX, _alignmentY); }
+    public int hashCode() {
+        if ( _wasAlreadyHashed )
+            return _hashCode;
+
+        _hashCode = Objects.hash(_layout, _constraint, _alignmentX, _alignmentY);
+        _wasAlreadyHashed = true;
+        return _hashCode;
+    }
 
     @Override
     public boolean equals( Object obj ) {
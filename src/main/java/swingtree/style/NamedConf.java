@@ -18,6 +18,9 @@ final class NamedConf<S> implements Simplifiable<NamedConf<S>>
     private final String _name;
     private final S      _style;
 
+    private boolean _wasAlreadyHashed = false;
+    private int     _hashCode         = 0; // cached hash code
+
 
     private NamedConf(String name, S style ) {
         _name = Objects.requireNonNull(name);
@@ -30,7 +33,14 @@ final class NamedConf<S> implements Simplifiable<NamedConf<S>>
 
 
     @Override
-    public int hashCode() { return Objects.hash(_name, _style); }
+    public int hashCode() {
+        if ( _wasAlreadyHashed )
+            return _hashCode;
+
+        _hashCode = Objects.hash(_name, _style);
+        _wasAlreadyHashed = true;
+        return _hashCode;
+    }
 
     @Override
     public boolean equals( Object obj ) {
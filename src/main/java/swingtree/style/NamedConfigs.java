@@ -21,6 +21,11 @@ import java.util.stream.Stream;
  *  of named styles in a {@link StyleConf} instance which is why we chose
  *  to use an array instead as it is more memory as well as CPU efficient
  *  to just iterate over a few array elements than to use a hashmap or treemap.
+ *  <p>
+ *  The named styles keep the order in which they were added, but since
+ *  the style renderer needs them sorted by their names on every paint,
+ *  the sorted order is computed once at construction time, so that
+ *  {@link #sortedByNames()} does not allocate anything.
  *
  * @param <S> The type of the style.
  */
@@ -38,6 +43,12 @@ final class NamedConfigs<S> implements Simplifiable<NamedConfigs<S>>
     static <S> NamedConfigs<S> empty() { return (NamedConfigs<S>) EMPTY; }
 
     private final NamedConf<S>[] _styles;
+    private final List<NamedConf<S>> _namedStyles;
+    private final List<NamedConf<S>> _sortedNamedStyles;
+    private final List<S> _sortedStyles;
+
+    private boolean _wasAlreadyHashed = false;
+    private int     _hashCode         = 0; // cached hash code
 
 
     @SafeVarargs
@@ -52,11 +63,30 @@ final class NamedConfigs<S> implements Simplifiable<NamedConfigs<S>>
         for ( NamedConf<S> style : styles )
             if ( !names.add(style.name()) )
                 throw new IllegalArgumentException("Duplicate style name: " + style.name());
+
+        _namedStyles = Collections.unmodifiableList(Arrays.asList(styles));
+        if ( styles.length <= 1 ) {
+            _sortedNamedStyles = _namedStyles;
+            _sortedStyles = styles.length == 0 ? Collections.emptyList() : Collections.singletonList(styles[0].style());
+        } else {
+            NamedConf<S>[] sorted = Arrays.copyOf(styles, styles.length);
+            Arrays.sort(sorted, Comparator.comparing(NamedConf::name));
+            Object[] sortedStyles = new Object[sorted.length];
+            for ( int i = 0; i < sorted.length; i++ )
+                sortedStyles[i] = sorted[i].style();
+            _sortedNamedStyles = Collections.unmodifiableList(Arrays.asList(sorted));
+            _sortedStyles = Collections.unmodifiableList((List<S>) Arrays.asList(sortedStyles));
+        }
     }
 
     public int size() { return _styles.length; }
 
-    public List<NamedConf<S>> namedStyles() { return Collections.unmodifiableList(Arrays.asList(_styles)); }
+    public List<NamedConf<S>> namedStyles() { return _namedStyles; }
+
+    /**
+     * @return An unmodifiable list of the named styles sorted by their names in ascending alphabetical order.
+     */
+    public List<NamedConf<S>> sortedNamedStyles() { return _sortedNamedStyles; }
 
     public Stream<S> stylesStream() {
         return namedStyles()
@@ -138,15 +168,11 @@ final class NamedConfigs<S> implements Simplifiable<NamedConfigs<S>>
         return Optional.ofNullable(get(name));
     }
 
-    public List<S> sortedByNames() {
-        return Collections.unmodifiableList(
-                    namedStyles()
-                    .stream()
-                    .sorted(Comparator.comparing(NamedConf::name))
-                    .map(NamedConf::style)
-                    .collect(Collectors.toList())
-                );
-    }
+    /**
+     * @return An unmodifiable list of the styles sorted by their names in ascending alphabetical order,
+     *         which is computed once when this instance is created.
+     */
+    public List<S> sortedByNames() { return _sortedStyles; }
 
     /**
      *  Returns true if at least one of the named styles in this instance passes the test.
@@ -156,7 +182,10 @@ final class NamedConfigs<S> implements Simplifiable<NamedConfigs<S>>
      * @return True if at least one of the named styles in this instance passes the test.
      */
     public boolean any( Predicate<NamedConf<S>> namedStyleTester ) {
-        return Arrays.stream(_styles).anyMatch(namedStyleTester);
+        for ( NamedConf<S> style : _styles )
+            if ( namedStyleTester.test(style) )
+                return true;
+        return false;
     }
 
     public String toString( String defaultName, String styleType ) {
@@ -188,7 +217,12 @@ final class NamedConfigs<S> implements Simplifiable<NamedConfigs<S>>
 
     @Override
     public int hashCode() {
-        return Arrays.hashCode(_styles);
+        if ( _wasAlreadyHashed )
+            return _hashCode;
+
+        _hashCode = Arrays.hashCode(_styles);
+        _wasAlreadyHashed = true;
+        return _hashCode;
     }
 
     @Override
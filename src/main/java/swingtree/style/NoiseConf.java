@@ -95,6 +95,9 @@ public final class NoiseConf implements Simplifiable<NoiseConf>
     private final float                _rotation;
     private final float[]              _fractions;
 
+    private boolean _wasAlreadyHashed = false;
+    private int     _hashCode         = 0; // cached hash code
+
 
     private NoiseConf(
         NoiseFunction        function,
@@ -378,7 +381,10 @@ public final class NoiseConf implements Simplifiable<NoiseConf>
 
     @Override
     public int hashCode() {
-        return Objects.hash(
+        if ( _wasAlreadyHashed )
+            return _hashCode;
+
+        _hashCode = Objects.hash(
                 _function,
                 Arrays.hashCode(_colors),
                 _offset,
@@ -388,6 +394,8 @@ public final class NoiseConf implements Simplifiable<NoiseConf>
                 _rotation,
                 Arrays.hashCode(_fractions)
             );
+        _wasAlreadyHashed = true;
+        return _hashCode;
     }
 
     @Override
@@ -2,6 +2,7 @@ package swingtree.style;
 
 
 import org.jspecify.annotations.Nullable;
+import swingtree.SwingTree;
 import swingtree.api.NoiseFunction;
 
 import java.awt.*;
@@ -12,41 +13,184 @@ import java.awt.image.ColorModel;
 import java.awt.image.Raster;
 import java.awt.image.WritableRaster;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
 final class NoiseGradientPaint implements Paint
 {
     /**
-     * Cache for the context - when the bounds, center, and transform are unchanged, then the context is the same
+     *  The maximum number of bytes the rasters of all cached paint contexts may occupy.
+     *  Once this is exceeded, the least recently used contexts are evicted from the shared cache.
      */
-    private static class CachedContext
+    static long MAX_CACHED_RASTER_BYTES = 32L * 1024 * 1024;
+
+    /**
+     *  Paint contexts are shared across paints and components, because their rasters
+     *  only depend on the immutable properties of the paint and the device space they are rendered in.
+     *  So when the same noise is rendered again and again (for example as a static background),
+     *  it is only computed once instead of on every repaint.
+     */
+    private static final SharedContexts _SHARED_CONTEXTS = new SharedContexts();
+
+    /**
+     *  Tiles with fewer pixels than this are rendered on the calling thread,
+     *  and larger tiles are split into bands of rows with at least this many pixels,
+     *  because handing very small batches to the renderer threads costs more than it saves.
+     */
+    private static final int MIN_PIXELS_PER_BATCH = 64 * 64;
+
+    /**
+     *  The dedicated thread pool for rendering noise, which is created lazily
+     *  and sized according to {@link SwingTree#getNoiseRenderingThreads()}.
+     *  We do not use the common fork join pool here, because rendering
+     *  large noise backgrounds would compete with the parallel work of the application.
+     */
+    private static @Nullable ThreadPoolExecutor _RENDERER = null;
+
+    private static synchronized ThreadPoolExecutor _renderer() {
+        int threads = SwingTree.get().getNoiseRenderingThreads();
+        if ( threads <= 0 )
+            threads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+
+        ThreadPoolExecutor renderer = _RENDERER;
+        if ( renderer == null ) {
+            AtomicInteger threadCount = new AtomicInteger(0);
+            renderer = new ThreadPoolExecutor(
+                            threads, threads, 30, TimeUnit.SECONDS,
+                            new LinkedBlockingQueue<>(),
+                            runnable -> {
+                                Thread thread = new Thread(runnable, "SwingTree-Noise-Renderer-" + threadCount.incrementAndGet());
+                                thread.setDaemon(true);
+                                return thread;
+                            }
+                        );
+            renderer.allowCoreThreadTimeOut(true); // Idle renderers should not keep threads alive.
+            _RENDERER = renderer;
+        }
+        else if ( renderer.getMaximumPoolSize() != threads ) {
+            // The core size may never exceed the maximum size, so the order matters:
+            if ( threads > renderer.getMaximumPoolSize() ) {
+                renderer.setMaximumPoolSize(threads);
+                renderer.setCorePoolSize(threads);
+            } else {
+                renderer.setCorePoolSize(threads);
+                renderer.setMaximumPoolSize(threads);
+            }
+        }
+        return renderer;
+    }
+
+    /**
+     *  Removes all shared paint contexts and their cached rasters.
+     */
+    static void clearCache() { _SHARED_CONTEXTS.clear(); }
+
+    /**
+     * @return The number of bytes currently occupied by the cached rasters of all shared paint contexts.
+     */
+    static long cachedRasterBytes() { return _SHARED_CONTEXTS.bytes(); }
+
+    /**
+     * The key for a cached context - when the paint, bounds and transform are unchanged, then the context is the same
+     */
+    private static final class ContextKey
     {
+        private final NoiseGradientPaint paint;
         private final Rectangle bounds;
-        private final Point2D center;
         private final AffineTransform transform;
+        private final int hash;
 
-        private final NoiseGradientPaintContext cachedContext;
 
-
-        private CachedContext(Rectangle bounds, Point2D center, AffineTransform transform, NoiseGradientPaintContext context) {
+        private ContextKey( NoiseGradientPaint paint, Rectangle bounds, AffineTransform transform ) {
+            this.paint = paint;
             this.bounds = bounds;
-            this.center = center;
             this.transform = transform;
-            cachedContext = context;
+            this.hash = 31 * ( 31 * paint.hashCode() + bounds.hashCode() ) + transform.hashCode();
         }
 
-        private NoiseGradientPaint.@Nullable NoiseGradientPaintContext get(Rectangle bounds, Point2D center, AffineTransform transform) {
-            if (this.bounds.equals(bounds) && this.center.equals(center) && this.transform.equals(transform))
-                return cachedContext;
-            else
-                return null;
+        private ContextKey copy() {
+            // Rectangles and transforms are mutable, so we need to copy them before storing them:
+            return new ContextKey(paint, new Rectangle(bounds), new AffineTransform(transform));
+        }
+
+        @Override
+        public int hashCode() { return hash; }
+
+        @Override
+        public boolean equals( Object obj ) {
+            if ( this == obj ) return true;
+            if ( !(obj instanceof ContextKey) ) return false;
+            ContextKey other = (ContextKey) obj;
+            return hash == other.hash &&
+                   paint.equals(other.paint) &&
+                   bounds.equals(other.bounds) &&
+                   transform.equals(other.transform);
+        }
+    }
+
+    /**
+     * A memory bounded, least recently used cache of paint contexts and their rasters.
+     */
+    private static final class SharedContexts
+    {
+        private final Map<ContextKey, NoiseGradientPaintContext> contexts = new LinkedHashMap<>(16, 0.75f, true);
+        private long bytes = 0;
+
+
+        synchronized NoiseGradientPaintContext getOrCreate( ContextKey key, Supplier<NoiseGradientPaintContext> factory ) {
+            NoiseGradientPaintContext context = contexts.get(key);
+            if ( context == null ) {
+                context = factory.get();
+                contexts.put(key.copy(), context);
+            }
+            return context;
+        }
+
+        synchronized boolean isCached( NoiseGradientPaintContext context ) {
+            return !context.evicted;
+        }
+
+        synchronized void rasterAdded( NoiseGradientPaintContext context, long rasterBytes ) {
+            if ( context.evicted )
+                return;
+            context.cachedBytes += rasterBytes;
+            bytes += rasterBytes;
+            Iterator<NoiseGradientPaintContext> leastRecentlyUsed = contexts.values().iterator();
+            while ( bytes > MAX_CACHED_RASTER_BYTES && leastRecentlyUsed.hasNext() ) {
+                NoiseGradientPaintContext evicted = leastRecentlyUsed.next();
+                if ( evicted == context )
+                    continue; // The context currently being rendered stays!
+                leastRecentlyUsed.remove();
+                bytes -= evicted.cachedBytes;
+                evicted.evicted = true;
+            }
+            if ( bytes > MAX_CACHED_RASTER_BYTES && contexts.values().remove(context) ) {
+                // Even the current context alone is too large...
+                bytes -= context.cachedBytes;
+                context.evicted = true;
+            }
         }
+
+        synchronized void clear() {
+            contexts.values().forEach( c -> c.evicted = true );
+            contexts.clear();
+            bytes = 0;
+        }
+
+        synchronized long bytes() { return bytes; }
     }
 
 
@@ -60,9 +204,14 @@ final class NoiseGradientPaint implements Paint
     private final float[] greenStepLookup;
     private final float[] blueStepLookup;
     private final float[] alphaStepLookup;
+    private final float[] redLookup;
+    private final float[] greenLookup;
+    private final float[] blueLookup;
+    private final float[] alphaLookup;
+    private final boolean fractionsAscending;
     private final Color[] colors;
     private static final float INT_TO_FLOAT_CONST = 1f / 255f;
-    private @Nullable CachedContext cached;
+    private int hash = 0;
 
 
     public NoiseGradientPaint(
@@ -139,13 +288,53 @@ final class NoiseGradientPaint implements Paint
         this.greenStepLookup = new float[this.colors.length];
         this.blueStepLookup  = new float[this.colors.length];
         this.alphaStepLookup = new float[this.colors.length];
+        this.redLookup       = new float[this.colors.length];
+        this.greenLookup     = new float[this.colors.length];
+        this.blueLookup      = new float[this.colors.length];
+        this.alphaLookup     = new float[this.colors.length];
 
+        boolean ascending = true;
         for (int i = 0; i < (this.colors.length - 1); i++) {
+            ascending = ascending && localFractions[i] <= localFractions[i + 1];
+            this.redLookup[i]       = this.colors[i].getRed()   * INT_TO_FLOAT_CONST;
+            this.greenLookup[i]     = this.colors[i].getGreen() * INT_TO_FLOAT_CONST;
+            this.blueLookup[i]      = this.colors[i].getBlue()  * INT_TO_FLOAT_CONST;
+            this.alphaLookup[i]     = this.colors[i].getAlpha() * INT_TO_FLOAT_CONST;
             this.redStepLookup[i]   = ((this.colors[i + 1].getRed()   - this.colors[i].getRed()) * INT_TO_FLOAT_CONST)   / (localFractions[i + 1] - localFractions[i]);
             this.greenStepLookup[i] = ((this.colors[i + 1].getGreen() - this.colors[i].getGreen()) * INT_TO_FLOAT_CONST) / (localFractions[i + 1] - localFractions[i]);
             this.blueStepLookup[i]  = ((this.colors[i + 1].getBlue()  - this.colors[i].getBlue()) * INT_TO_FLOAT_CONST)  / (localFractions[i + 1] - localFractions[i]);
             this.alphaStepLookup[i] = ((this.colors[i + 1].getAlpha() - this.colors[i].getAlpha()) * INT_TO_FLOAT_CONST) / (localFractions[i + 1] - localFractions[i]);
         }
+        this.fractionsAscending = ascending;
+    }
+
+    /**
+     *  Finds the index of the gradient segment for the given noise value,
+     *  which is the last index {@code i < MAX} for which {@code value >= localFractions[i]},
+     *  or -1 if there is no such index.
+     *  The fractions are usually sorted, in which case we can use a binary search.
+     */
+    private int _segmentIndexOf( final float value, final int MAX ) {
+        int found = -1;
+        if ( fractionsAscending ) {
+            int low  = 0;
+            int high = MAX - 1;
+            while ( low <= high ) {
+                final int mid = ( low + high ) >>> 1;
+                if ( value >= localFractions[mid] ) {
+                    found = mid;
+                    low = mid + 1;
+                }
+                else
+                    high = mid - 1;
+            }
+        }
+        else
+            for ( int i = 0; i < MAX; i++ )
+                if ( value >= localFractions[i] )
+                    found = i;
+
+        return found;
     }
 
     public Point2D getCenter() {
@@ -217,16 +406,8 @@ final class NoiseGradientPaint implements Paint
         final RenderingHints  HINTS
     ) {
 
-        if (cached != null) {
-            NoiseGradientPaintContext c = cached.get(DEVICE_BOUNDS, center, TRANSFORM);
-            if (c != null)
-                return c;
-        }
-
-        NoiseGradientPaintContext context = new NoiseGradientPaintContext(center, TRANSFORM);
-        cached = new CachedContext(DEVICE_BOUNDS, center, TRANSFORM, context);
-
-        return context;
+        ContextKey key = new ContextKey(this, DEVICE_BOUNDS, TRANSFORM);
+        return _SHARED_CONTEXTS.getOrCreate(key, () -> new NoiseGradientPaintContext(center, TRANSFORM));
     }
 
     @Override
@@ -236,6 +417,8 @@ final class NoiseGradientPaint implements Paint
 
     @Override
     public int hashCode() {
+        if ( this.hash != 0 )
+            return this.hash; // This paint is immutable, so we only compute the hash once!
         int hash = 7;
         hash = 97 * hash + Objects.hashCode(this.center);
         hash = 97 * hash + Float.floatToIntBits(this.scaleX);
@@ -244,6 +427,7 @@ final class NoiseGradientPaint implements Paint
         hash = 97 * hash + Objects.hashCode(this.noiseFunction);
         hash = 97 * hash + Arrays.hashCode(this.localFractions);
         hash = 97 * hash + Arrays.deepHashCode(this.colors);
+        this.hash = hash;
         return hash;
     }
 
@@ -276,15 +460,24 @@ final class NoiseGradientPaint implements Paint
     private final class NoiseGradientPaintContext implements PaintContext
     {
         final private Point2D center;
-        private final HashMap<Long, WritableRaster> cachedRasters;
+        private final boolean rotated;
+        private final double sin;
+        private final double cos;
+        private final Map<Rectangle, WritableRaster> cachedRasters;
+        private long cachedBytes = 0; // Guarded by the shared contexts cache
+        private boolean evicted = false; // Guarded by the shared contexts cache
 
         public NoiseGradientPaintContext(final Point2D center, AffineTransform transform) {
-            this.cachedRasters = new HashMap<>();
+            this.cachedRasters = new ConcurrentHashMap<>();
             try {
                 this.center = transform.transform(center, null);  //user to device
             } catch (Exception ex) {
                 throw new RuntimeException(ex);
             }
+            this.rotated = rotation != 0f && rotation % 360f != 0f;
+            final double angle = Math.toRadians(rotation);
+            this.sin = this.rotated ? Math.sin(angle) : 0;
+            this.cos = this.rotated ? Math.cos(angle) : 1;
         }
 
         @Override public void dispose() {}
@@ -302,7 +495,7 @@ final class NoiseGradientPaint implements Paint
             final int TILE_HEIGHT
         ) {
             try {
-                long index = ((long)X << 32) | (long)Y;
+                Rectangle index = new Rectangle(X, Y, TILE_WIDTH, TILE_HEIGHT);
                 WritableRaster raster = cachedRasters.get(index);
 
                 if (raster == null)
@@ -310,62 +503,37 @@ final class NoiseGradientPaint implements Paint
                 else
                     return raster;
 
-                final int MAX = localFractions.length - 1;
-
                 // Create data array with place for red, green, blue and alpha values
                 final int[] data = new int[(TILE_WIDTH * TILE_HEIGHT * 4)];
 
-                IntStream.range(0, TILE_WIDTH * TILE_HEIGHT)
-                        .parallel()
-                        .forEach(tileIndex -> {
-                            double currentRed   = 0;
-                            double currentGreen = 0;
-                            double currentBlue  = 0;
-                            double currentAlpha = 0;
-                            float onGradientRange;
-
-                            int tileY = tileIndex / TILE_WIDTH;
-                            int tileX = tileIndex % TILE_WIDTH;
-
-                            double localX = ( X + tileX - center.getX() ) / scaleX;
-                            double localY = ( Y + tileY - center.getY() ) / scaleY;
-                            if ( rotation != 0f && rotation % 360f != 0f ) {
-                                final double angle = Math.toRadians(rotation);
-                                final double sin   = Math.sin(angle);
-                                final double cos   = Math.cos(angle);
-                                final double newX = localX * cos - localY * sin;
-                                final double newY = localX * sin + localY * cos;
-                                localX = newX;
-                                localY = newY;
-                            }
-                            float x = (float) localX;
-                            float y = (float) localY;
-
-                            onGradientRange = noiseFunction.getFractionAt( x, y );
-
-                            // Check for each angle in fractionAngles array
-                            for (int i = 0; i < MAX; i++) {
-                                if ((onGradientRange >= localFractions[i])) {
-                                    currentRed   = colors[i].getRed()   * INT_TO_FLOAT_CONST + (onGradientRange - localFractions[i]) * redStepLookup[i];
-                                    currentGreen = colors[i].getGreen() * INT_TO_FLOAT_CONST + (onGradientRange - localFractions[i]) * greenStepLookup[i];
-                                    currentBlue  = colors[i].getBlue()  * INT_TO_FLOAT_CONST + (onGradientRange - localFractions[i]) * blueStepLookup[i];
-                                    currentAlpha = colors[i].getAlpha() * INT_TO_FLOAT_CONST + (onGradientRange - localFractions[i]) * alphaStepLookup[i];
-                                }
-                            }
-
-                            // Fill data array with calculated color values
-                            final int BASE = (tileY * TILE_WIDTH + tileX) * 4;
-
-                            data[BASE + 0] = (int) Math.round(currentRed   * 255);
-                            data[BASE + 1] = (int) Math.round(currentGreen * 255);
-                            data[BASE + 2] = (int) Math.round(currentBlue  * 255);
-                            data[BASE + 3] = (int) Math.round(currentAlpha * 255);
-                        });
+                final int PIXELS = TILE_WIDTH * TILE_HEIGHT;
+                if ( PIXELS < 2 * MIN_PIXELS_PER_BATCH || TILE_HEIGHT < 2 )
+                    _renderRows(data, X, Y, TILE_WIDTH, 0, TILE_HEIGHT);
+                else {
+                    final ThreadPoolExecutor renderer = _renderer();
+                    // The calling thread renders one of the bands itself, so we use one more than the pool size:
+                    final int batches = Math.min(
+                                            Math.min(TILE_HEIGHT, renderer.getMaximumPoolSize() + 1),
+                                            PIXELS / MIN_PIXELS_PER_BATCH
+                                        );
+                    final int rowsPerBatch = ( TILE_HEIGHT + batches - 1 ) / batches;
+                    final List<Future<?>> pending = new java.util.ArrayList<>(batches);
+                    for ( int fromRow = rowsPerBatch; fromRow < TILE_HEIGHT; fromRow += rowsPerBatch ) {
+                        final int from = fromRow;
+                        final int to   = Math.min(TILE_HEIGHT, fromRow + rowsPerBatch);
+                        pending.add(renderer.submit(() -> _renderRows(data, X, Y, TILE_WIDTH, from, to)));
+                    }
+                    _renderRows(data, X, Y, TILE_WIDTH, 0, Math.min(TILE_HEIGHT, rowsPerBatch));
+                    for ( Future<?> batch : pending )
+                        batch.get();
+                }
 
                 // Fill the raster with the data
                 raster.setPixels(0, 0, TILE_WIDTH, TILE_HEIGHT, data);
 
-                cachedRasters.put(index, raster);
+                if ( _SHARED_CONTEXTS.isCached(this) && cachedRasters.putIfAbsent(index, raster) == null )
+                    _SHARED_CONTEXTS.rasterAdded(this, 4L * TILE_WIDTH * TILE_HEIGHT);
+
                 return raster;
             }
             catch (Exception ex) {
@@ -374,6 +542,58 @@ final class NoiseGradientPaint implements Paint
             }
         }
 
+        /**
+         *  Renders the noise of the rows {@code fromRow} (inclusive) to {@code toRow} (exclusive)
+         *  of a tile into the RGBA data array of the tile.
+         *  This is a tight loop over primitive arrays only, so that the JIT can do its best.
+         */
+        private void _renderRows(
+            final int[] data,
+            final int X,
+            final int Y,
+            final int TILE_WIDTH,
+            final int fromRow,
+            final int toRow
+        ) {
+            final int MAX = localFractions.length - 1;
+            final double centerX = center.getX();
+            final double centerY = center.getY();
+
+            for ( int tileY = fromRow; tileY < toRow; tileY++ ) {
+                final double rowY = ( Y + tileY - centerY ) / scaleY;
+                int base = tileY * TILE_WIDTH * 4;
+                for ( int tileX = 0; tileX < TILE_WIDTH; tileX++, base += 4 ) {
+                    double localX = ( X + tileX - centerX ) / scaleX;
+                    double localY = rowY;
+                    if ( rotated ) {
+                        final double newX = localX * cos - localY * sin;
+                        final double newY = localX * sin + localY * cos;
+                        localX = newX;
+                        localY = newY;
+                    }
+                    final float onGradientRange = noiseFunction.getFractionAt( (float) localX, (float) localY );
+                    final int i = _segmentIndexOf( onGradientRange, MAX );
+                    if ( i < 0 ) {
+                        data[base    ] = 0;
+                        data[base + 1] = 0;
+                        data[base + 2] = 0;
+                        data[base + 3] = 0;
+                        continue;
+                    }
+                    final float offset = onGradientRange - localFractions[i];
+                    final double currentRed   = redLookup[i]   + offset * redStepLookup[i];
+                    final double currentGreen = greenLookup[i] + offset * greenStepLookup[i];
+                    final double currentBlue  = blueLookup[i]  + offset * blueStepLookup[i];
+                    final double currentAlpha = alphaLookup[i] + offset * alphaStepLookup[i];
+
+                    data[base    ] = (int) Math.round(currentRed   * 255);
+                    data[base + 1] = (int) Math.round(currentGreen * 255);
+                    data[base + 2] = (int) Math.round(currentBlue  * 255);
+                    data[base + 3] = (int) Math.round(currentAlpha * 255);
+                }
+            }
+        }
+
     }
 
 }
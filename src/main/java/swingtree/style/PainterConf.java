@@ -53,6 +53,9 @@ final class PainterConf
     private final Painter _painter;
     private final UI.ComponentArea _clipArea;
 
+    private boolean _wasAlreadyHashed = false;
+    private int     _hashCode         = 0; // cached hash code
+
 
     private PainterConf(Painter painter, UI.ComponentArea area )
     {
@@ -93,6 +96,11 @@ final class PainterConf
 
     @Override
     public int hashCode() {
-        return Objects.hash(_painter, _clipArea);
+        if ( _wasAlreadyHashed )
+            return _hashCode;
+
+        _hashCode = Objects.hash(_painter, _clipArea);
+        _wasAlreadyHashed = true;
+        return _hashCode;
     }
 }
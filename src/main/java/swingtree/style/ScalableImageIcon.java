@@ -1,24 +1,91 @@
 package swingtree.style;
 
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import swingtree.SwingTree;
 import swingtree.UI;
 import swingtree.layout.Size;
 
 import javax.swing.ImageIcon;
 import java.awt.Image;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  *  A wrapper for {@link ImageIcon} that automatically scales the image to the
  *  current {@link UI#scale()} value defined in the current {@link swingtree.SwingTree}
  *  library context singleton.<br>
- *
+ *  The scaled images are produced and cached by the {@link ImageScaler},
+ *  and if enabled (see {@link SwingTree#isIconPrescalingEnabled()}),
+ *  they are rescaled on a background thread as soon as the UI scale changes.
  */
 public final class ScalableImageIcon extends ImageIcon
 {
     private static final Logger log = LoggerFactory.getLogger(ScalableImageIcon.class);
 
+    /**
+     *  All icons which are still in use, so that they can be rescaled in the background
+     *  when the UI scale changes (only if pre-scaling is enabled).
+     */
+    private static final Set<ScalableImageIcon> _LIVE_ICONS = Collections.newSetFromMap(new WeakHashMap<>());
+    private static WeakReference<@Nullable SwingTree> _LISTENING_TO = new WeakReference<>(null);
+    private static @Nullable ExecutorService _PRESCALER = null;
+
+    private static void _register( ScalableImageIcon icon ) {
+        synchronized ( _LIVE_ICONS ) {
+            _LIVE_ICONS.add(icon);
+            SwingTree current = SwingTree.get();
+            if ( _LISTENING_TO.get() != current ) {
+                // The library context was (re)initialized, so we have to listen to the new one:
+                current.addUiScaleChangeListener( event -> _prescaleAllIfEnabled() );
+                _LISTENING_TO = new WeakReference<>(current);
+            }
+        }
+    }
+
+    private static void _prescaleAllIfEnabled() {
+        if ( !SwingTree.get().isIconPrescalingEnabled() )
+            return;
+        List<ScalableImageIcon> icons;
+        synchronized ( _LIVE_ICONS ) {
+            icons = new ArrayList<>(_LIVE_ICONS);
+        }
+        _prescaler().execute(() -> {
+            float scale = UI.scale();
+            for ( ScalableImageIcon icon : icons )
+                icon._scaleTo(scale, icon._relativeScale, icon._sourceIcon); // Warms up the cache of the ImageScaler
+        });
+    }
+
+    private static synchronized ExecutorService _prescaler() {
+        ExecutorService prescaler = _PRESCALER;
+        if ( prescaler == null ) {
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                                            1, 1, 30, TimeUnit.SECONDS,
+                                            new LinkedBlockingQueue<>(),
+                                            runnable -> {
+                                                Thread thread = new Thread(runnable, "SwingTree-Icon-Prescaler");
+                                                thread.setDaemon(true);
+                                                return thread;
+                                            }
+                                        );
+            executor.allowCoreThreadTimeOut(true); // An idle pre-scaler should not keep its thread alive.
+            prescaler = executor;
+            _PRESCALER = prescaler;
+        }
+        return prescaler;
+    }
+
     /**
      *  A factory method that creates a new {@link ScalableImageIcon} that will render
      *  the supplied {@link ImageIcon} using the given base size scaled according to the current DPI settings.
@@ -79,6 +146,7 @@ public final class ScalableImageIcon extends ImageIcon
         _relativeScale = relativeScale;
         _currentScale  = UI.scale();
         _scaled        = _scaleTo(_currentScale, _relativeScale, original);
+        _register(this);
     }
 
     private ImageIcon _scaleTo( float scale, Size relativeScale, ImageIcon original ) {
@@ -94,7 +162,9 @@ public final class ScalableImageIcon extends ImageIcon
                 // We create the smallest possible image to avoid exceptions.
                 return new ImageIcon(new ImageIcon(new byte[0]).getImage());
             }
-            return new ImageIcon(originalImage.getScaledInstance(width, height, java.awt.Image.SCALE_SMOOTH));
+            if ( originalImage == null )
+                return original;
+            return ImageScaler.scaledIcon(original, width, height);
         } catch ( Exception e ) {
             log.error("An error occurred while scaling an image icon.", e);
             return original;
@@ -72,7 +72,7 @@ import java.util.Optional;
  *  effectively making it a representation of the absence of a shadow.
  */
 @Immutable
-@SuppressWarnings("ReferenceEquality")
+@SuppressWarnings({"Immutable", "ReferenceEquality"})
 public final class ShadowConf implements Simplifiable<ShadowConf>
 {
     private static final Logger log = org.slf4j.LoggerFactory.getLogger(ShadowConf.class);
@@ -110,6 +110,9 @@ public final class ShadowConf implements Simplifiable<ShadowConf>
     private final @Nullable Color _color;
     private final boolean         _isOutset;
 
+    private boolean _wasAlreadyHashed = false;
+    private int     _hashCode         = 0; // cached hash code
+
 
     private ShadowConf(
         Offset          offset,
@@ -349,13 +352,18 @@ public final class ShadowConf implements Simplifiable<ShadowConf>
 
     @Override
     public int hashCode() {
+        if ( _wasAlreadyHashed )
+            return _hashCode;
+
         int hash = 7;
         hash = 31 * hash + _offset.hashCode();
         hash = 31 * hash + Float.hashCode(_blurRadius);
         hash = 31 * hash + Float.hashCode(_spreadRadius);
         hash = 31 * hash + Objects.hashCode(_color);
         hash = 31 * hash + (_isOutset ? 1 : 0);
-        return hash;
+        _hashCode = hash;
+        _wasAlreadyHashed = true;
+        return _hashCode;
     }
 
     @Override
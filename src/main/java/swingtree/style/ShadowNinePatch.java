@@ -0,0 +1,229 @@
+package swingtree.style;
+
+import swingtree.layout.Size;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ *  A cache of pre-rendered shadows which are stretched to the size of a component like a nine-patch image.
+ *  <p>
+ *  Rendering a shadow requires a lot of {@link java.awt.geom.Area} based clipping
+ *  and gradient painting, but apart from its corners, a shadow looks the same
+ *  everywhere along the edges of a component.
+ *  So instead of rendering it exactly for every size of every component,
+ *  it is rendered once for a small canonical size which is just large enough to contain
+ *  the corners (which depend on the blur, spread, offset, margins, border widths and radii),
+ *  followed by a few pixels of plain edge.
+ *  This image is then cut into 9 patches, where the corners are drawn as they are
+ *  and the edges and center are stretched to fill the actual size of the component. <br>
+ *  Components which are too small for their corners to be separated (or which are painted
+ *  with a scaling or rotating transformation) are still rendered exactly.
+ */
+final class ShadowNinePatch
+{
+    private static final int STRETCH_EXTENT = 4;  // The size of the stretchable center in the canonical image.
+    private static final int SAFETY_MARGIN  = 2;  // Some extra pixels to account for antialiasing and rounding.
+    private static final int MAX_PATCHES    = 128;
+
+    private static final Map<Key, BufferedImage> _PATCHES = new LinkedHashMap<Key, BufferedImage>(32, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry( Map.Entry<Key, BufferedImage> eldest ) {
+            return size() > MAX_PATCHES;
+        }
+    };
+    private static final AtomicLong _RENDERS = new AtomicLong(0);
+
+
+    /**
+     *  The exact shadow rendering which is used to produce the canonical image.
+     */
+    interface ExactRenderer
+    {
+        void render( LayerRenderConf conf, ShadowConf shadow, Graphics2D g2d );
+    }
+
+    private static final class Key
+    {
+        private final ShadowConf   _shadow;
+        private final BoxModelConf _canonicalBoxModel;
+        private final boolean      _antialiasing;
+        private final int          _hash;
+
+        private Key( ShadowConf shadow, BoxModelConf canonicalBoxModel, boolean antialiasing ) {
+            _shadow            = shadow;
+            _canonicalBoxModel = canonicalBoxModel;
+            _antialiasing      = antialiasing;
+            _hash              = Objects.hash(shadow, canonicalBoxModel, antialiasing);
+        }
+
+        @Override public int hashCode() { return _hash; }
+
+        @Override
+        public boolean equals( Object obj ) {
+            if ( obj == this ) return true;
+            if ( !(obj instanceof Key) ) return false;
+            Key rhs = (Key) obj;
+            return _hash         == rhs._hash         &&
+                   _antialiasing == rhs._antialiasing &&
+                   _shadow.equals(rhs._shadow)        &&
+                   _canonicalBoxModel.equals(rhs._canonicalBoxModel);
+        }
+    }
+
+
+    private ShadowNinePatch() {} // Un-instantiable!
+
+    /**
+     *  Tries to render the given shadow by stretching a cached canonical rendering of it.
+     *
+     * @param conf The render config of the component layer, which contains the box model of the component.
+     * @param shadow The shadow which should be rendered.
+     * @param g2d The graphics context to render the shadow on.
+     * @param exactRenderer The exact shadow renderer, which is used to render the canonical image.
+     * @return {@code true} if the shadow was rendered, or {@code false} if it has to be rendered exactly instead.
+     */
+    static boolean tryRender( LayerRenderConf conf, ShadowConf shadow, Graphics2D g2d, ExactRenderer exactRenderer )
+    {
+        AffineTransform transform = g2d.getTransform();
+        if ( ( transform.getType() & ~AffineTransform.TYPE_TRANSLATION ) != 0 )
+            return false; // A stretched image would look blurry or distorted when scaled or rotated.
+
+        BoxModelConf boxModel = conf.boxModel();
+        Size size = boxModel.size();
+        if ( !size.width().isPresent() || !size.height().isPresent() )
+            return false;
+
+        float exactWidth  = size.width().get();
+        float exactHeight = size.height().get();
+        if ( exactWidth != (int) exactWidth || exactHeight != (int) exactHeight )
+            return false; // Fractional sizes cannot be cut into whole pixel patches.
+
+        int width  = (int) exactWidth;
+        int height = (int) exactHeight;
+        int left   = _extent(boxModel, shadow, boxModel.margin().left(),   boxModel.baseOutline().left(),   shadow.horizontalOffset());
+        int right  = _extent(boxModel, shadow, boxModel.margin().right(),  boxModel.baseOutline().right(),  shadow.horizontalOffset());
+        int top    = _extent(boxModel, shadow, boxModel.margin().top(),    boxModel.baseOutline().top(),    shadow.verticalOffset());
+        int bottom = _extent(boxModel, shadow, boxModel.margin().bottom(), boxModel.baseOutline().bottom(), shadow.verticalOffset());
+
+        int canonicalWidth  = left + STRETCH_EXTENT + right;
+        int canonicalHeight = top  + STRETCH_EXTENT + bottom;
+        if ( width <= canonicalWidth || height <= canonicalHeight )
+            return false; // The component is too small for the nine-patch to be worth it.
+
+        BoxModelConf canonicalBoxModel = boxModel.withSize(Size.of(canonicalWidth, canonicalHeight));
+        boolean antialiasing = RenderingHints.VALUE_ANTIALIAS_ON.equals(g2d.getRenderingHint(RenderingHints.KEY_ANTIALIASING));
+        BufferedImage patches = _patchesFor(new Key(shadow, canonicalBoxModel, antialiasing), exactRenderer);
+
+        Graphics2D patchG2d = (Graphics2D) g2d.create();
+        try {
+            // The stretched patches consist of identical rows/columns, so there is no need to interpolate:
+            patchG2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+            int[] sourceX = { 0, left, canonicalWidth  - right,  canonicalWidth  };
+            int[] sourceY = { 0, top,  canonicalHeight - bottom, canonicalHeight };
+            int[] targetX = { 0, left, width  - right,  width  };
+            int[] targetY = { 0, top,  height - bottom, height };
+            for ( int row = 0; row < 3; row++ )
+                for ( int column = 0; column < 3; column++ )
+                    patchG2d.drawImage(
+                        patches,
+                        targetX[column], targetY[row], targetX[column + 1], targetY[row + 1],
+                        sourceX[column], sourceY[row], sourceX[column + 1], sourceY[row + 1],
+                        null
+                    );
+        } finally {
+            patchG2d.dispose();
+        }
+        return true;
+    }
+
+    /**
+     *  A conservative estimate of how far the corner of a shadow reaches into the component
+     *  from one of its sides, beyond which the shadow is the same along the entire edge.
+     */
+    private static int _extent(
+        BoxModelConf    boxModel,
+        ShadowConf      shadow,
+        Optional<Float> margin,
+        Optional<Float> baseOutline,
+        float           offset
+    ) {
+        float maxArc = Math.max(
+                            Math.max(_arcExtent(boxModel.topLeftArc()),    _arcExtent(boxModel.topRightArc())),
+                            Math.max(_arcExtent(boxModel.bottomLeftArc()), _arcExtent(boxModel.bottomRightArc()))
+                        );
+        float maxBorderWidth = Math.max(
+                                    Math.max(boxModel.widths().left().orElse(0f),   boxModel.widths().right().orElse(0f)),
+                                    Math.max(boxModel.widths().top().orElse(0f),    boxModel.widths().bottom().orElse(0f))
+                                );
+        float blur   = Math.max(shadow.blurRadius(), 0);
+        float spread = Math.abs(shadow.spreadRadius());
+        float extent = Math.max(margin.orElse(0f), 0) + Math.abs(baseOutline.orElse(0f)) +
+                       maxBorderWidth * 2 + maxArc * 2 + Math.abs(offset) * 2 + blur * 4 + spread * 2;
+        return (int) Math.ceil(extent) + SAFETY_MARGIN;
+    }
+
+    private static float _arcExtent( Optional<Arc> arc ) {
+        return arc.map( a -> Math.max(a.width(), a.height()) ).orElse(0f);
+    }
+
+    private static BufferedImage _patchesFor( Key key, ExactRenderer exactRenderer ) {
+        synchronized ( _PATCHES ) {
+            BufferedImage cached = _PATCHES.get(key);
+            if ( cached != null )
+                return cached;
+        }
+        Size size = key._canonicalBoxModel.size();
+        BufferedImage image = new BufferedImage(
+                                    size.width().orElse(1f).intValue(),
+                                    size.height().orElse(1f).intValue(),
+                                    BufferedImage.TYPE_INT_ARGB_PRE
+                                );
+        Graphics2D g2d = image.createGraphics();
+        try {
+            g2d.setRenderingHint(
+                RenderingHints.KEY_ANTIALIASING,
+                key._antialiasing ? RenderingHints.VALUE_ANTIALIAS_ON : RenderingHints.VALUE_ANTIALIAS_OFF
+            );
+            LayerRenderConf canonicalConf = LayerRenderConf.of(key._canonicalBoxModel, BaseColorConf.none(), StyleConfLayer.empty());
+            exactRenderer.render(canonicalConf, key._shadow, g2d);
+        } finally {
+            g2d.dispose();
+        }
+        _RENDERS.incrementAndGet();
+        synchronized ( _PATCHES ) {
+            _PATCHES.put(key, image);
+        }
+        return image;
+    }
+
+    /**
+     *  Removes all cached shadow images.
+     */
+    static void clear() {
+        synchronized ( _PATCHES ) {
+            _PATCHES.clear();
+        }
+    }
+
+    /**
+     * @return The number of shadow images which are currently cached.
+     */
+    static int size() {
+        synchronized ( _PATCHES ) {
+            return _PATCHES.size();
+        }
+    }
+
+    /**
+     * @return The total number of canonical shadow images which had to be rendered because they were not cached.
+     */
+    static long renders() { return _RENDERS.get(); }
+}
@@ -49,7 +49,7 @@ import java.util.stream.Collectors;
  *  how this composition of styles is achieved in practice.
  */
 @Immutable
-@SuppressWarnings("ReferenceEquality")
+@SuppressWarnings({"Immutable", "ReferenceEquality"})
 public final class StyleConf
 {
     private static final StyleConf _NONE = new StyleConf(
@@ -96,6 +96,48 @@ public final class StyleConf
     }
 
 
+    private static final ConfInterner<StyleConf>       _STYLES  = new ConfInterner<>();
+    private static final ConfInterner<LayoutConf>      _LAYOUTS = new ConfInterner<>();
+    private static final ConfInterner<BorderConf>      _BORDERS = new ConfInterner<>();
+    private static final ConfInterner<BaseConf>        _BASES   = new ConfInterner<>();
+    private static final ConfInterner<FontConf>        _FONTS   = new ConfInterner<>();
+    private static final ConfInterner<StyleConfLayers> _LAYERS  = new ConfInterner<>();
+
+    /**
+     *  Returns the canonical instance of the given style, so that equal styles
+     *  (like the ones of thousands of identically styled components) share the same identity.
+     *  When a style is interned for the first time, its larger parts are interned as well,
+     *  so that styles which only differ slightly still share most of their memory.
+     *  This is done once at the end of every style resolution (see {@link StyleSource}),
+     *  which turns most of the subsequent equality checks into reference comparisons.
+     *
+     * @param style The style to intern.
+     * @return The canonical instance which is equal to the given style.
+     */
+    static StyleConf intern( StyleConf style ) {
+        if ( style == _NONE )
+            return style;
+        StyleConf canonical = _STYLES.find(style);
+        if ( canonical != null )
+            return canonical;
+        StyleConf withSharedParts = StyleConf.of(
+                                        _LAYOUTS.intern(style._layout),
+                                        _BORDERS.intern(style._border),
+                                        _BASES.intern(style._base),
+                                        _FONTS.intern(style._font),
+                                        style._dimensionality,
+                                        _LAYERS.intern(style._layers),
+                                        style._properties
+                                    );
+        return _STYLES.intern(withSharedParts);
+    }
+
+    /**
+     * @return The number of distinct styles which are currently interned.
+     */
+    static int numberOfInternedStyles() { return _STYLES.size(); }
+
+
     private final LayoutConf           _layout;
     private final BorderConf           _border;
     private final BaseConf             _base;
@@ -104,6 +146,9 @@ public final class StyleConf
     private final StyleConfLayers      _layers;
     private final NamedConfigs<String> _properties;
 
+    private boolean _wasAlreadyHashed = false;
+    private int     _hashCode         = 0; // cached hash code
+
 
     private StyleConf(
         LayoutConf           layout,
@@ -178,15 +223,7 @@ public final class StyleConf
      * @return An unmodifiable list of all shadow styles sorted by their names in ascending alphabetical order.
      */
     List<ShadowConf> shadows( UI.Layer layer ) {
-        return Collections.unmodifiableList(
-                        _layers.get(layer)
-                        .shadows()
-                        .namedStyles()
-                        .stream()
-                        .sorted(Comparator.comparing(NamedConf::name))
-                        .map(NamedConf::style)
-                        .collect(Collectors.toList())
-                    );
+        return _layers.get(layer).shadows().sortedByNames();
     }
 
     NamedConfigs<ShadowConf> shadowsMap(UI.Layer layer) {
@@ -207,12 +244,7 @@ public final class StyleConf
      * @return An unmodifiable list of painters sorted by their names in ascending alphabetical order.
      */
     List<PainterConf> painters( UI.Layer layer ) {
-        return Collections.unmodifiableList(
-                            new ArrayList<>(_layers.get(layer)
-                                .painters()
-                                .sortedByNames()
-                            )
-                        );
+        return _layers.get(layer).painters().sortedByNames();
     }
 
     StyleConf painter(UI.Layer layer, UI.ComponentArea area, String painterName, Painter painter ) {
@@ -409,10 +441,7 @@ public final class StyleConf
     }
 
     List<NamedConf<String>> properties() {
-        return _properties.namedStyles()
-                            .stream()
-                            .sorted(Comparator.comparing(NamedConf::name))
-                            .collect(Collectors.toList());
+        return _properties.sortedNamedStyles();
     }
 
     StyleConf gradient( UI.Layer layer, String shadeName, Configurator<GradientConf> styler ) {
@@ -675,9 +704,14 @@ public final class StyleConf
 
     @Override
     public int hashCode() {
-        return Objects.hash(
+        if ( _wasAlreadyHashed )
+            return _hashCode;
+
+        _hashCode = Objects.hash(
                     _layout, _border, _base, _font, _dimensionality, _layers, _properties
                 );
+        _wasAlreadyHashed = true;
+        return _hashCode;
     }
 
     @Override
@@ -9,6 +9,7 @@ import java.util.Objects;
  *  component {@link swingtree.UI.Layer}. <br>
  */
 @Immutable
+@SuppressWarnings("Immutable")
 final class StyleConfLayer implements Simplifiable<StyleConfLayer>
 {
     static final NamedConfigs<ShadowConf>   _NO_SHADOWS   = NamedConfigs.of(NamedConf.of(StyleUtil.DEFAULT_KEY, ShadowConf.none()));
@@ -38,6 +39,9 @@ final class StyleConfLayer implements Simplifiable<StyleConfLayer>
     private final NamedConfigs<ImageConf>    _images;
     private final NamedConfigs<TextConf>     _texts;
 
+    private boolean _wasAlreadyHashed = false;
+    private int     _hashCode         = 0; // cached hash code
+
 
     static StyleConfLayer of(
         NamedConfigs<ShadowConf>   shadows,
@@ -159,7 +163,12 @@ final class StyleConfLayer implements Simplifiable<StyleConfLayer>
 
     @Override
     public int hashCode() {
-        return Objects.hash(_shadows, _painters, _gradients, _noises, _images, _texts);
+        if ( _wasAlreadyHashed )
+            return _hashCode;
+
+        _hashCode = Objects.hash(_shadows, _painters, _gradients, _noises, _images, _texts);
+        _wasAlreadyHashed = true;
+        return _hashCode;
     }
 
     @Override
@@ -10,6 +10,7 @@ import java.util.Objects;
 import java.util.function.BiPredicate;
 
 @Immutable
+@SuppressWarnings("Immutable")
 final class StyleConfLayers
 {
     private static final Logger log = org.slf4j.LoggerFactory.getLogger(StyleConfLayers.class);
@@ -35,6 +36,9 @@ final class StyleConfLayers
 
     private final @Nullable StyleConfLayer _any;
 
+    private boolean _wasAlreadyHashed = false;
+    private int     _hashCode         = 0; // cached hash code
+
 
     static StyleConfLayers of(
         FilterConf               filter,
@@ -197,7 +201,12 @@ final class StyleConfLayers
 
     @Override
     public int hashCode() {
-        return Objects.hash(_filter, _background, _content, _border, _foreground, _any);
+        if ( _wasAlreadyHashed )
+            return _hashCode;
+
+        _hashCode = Objects.hash(_filter, _background, _content, _border, _foreground, _any);
+        _wasAlreadyHashed = true;
+        return _hashCode;
     }
 
     @Override
@@ -76,7 +76,13 @@ final class StyleEngine
         return new StyleEngine(_boxModelConf, _componentConf, _layerCaches);
     }
 
-    void renderBackgroundStyle( Graphics2D g2d, @Nullable BufferedImage parentRendering, int x, int y )
+    void renderBackgroundStyle(
+        Graphics2D               g2d,
+        @Nullable BufferedImage  parentRendering,
+        @Nullable BackdropFilter backdropFilter,
+        int x,
+        int y
+    )
     {
         // We remember if antialiasing was enabled before we render:
         boolean antialiasingWasEnabled = g2d.getRenderingHint( RenderingHints.KEY_ANTIALIASING ) == RenderingHints.VALUE_ANTIALIAS_ON;
@@ -86,12 +92,12 @@ final class StyleEngine
             g2d.setRenderingHint( RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON );
 
         // A component may have a filter on the parent:
-        if ( parentRendering != null ) {
+        if ( parentRendering != null && backdropFilter != null ) {
             FilterConf filter = _componentConf.style().layers().filter();
             if ( !filter.equals(FilterConf.none()) ) {
                 // Location relative to the parent:
                 try {
-                    StyleRenderer.renderParentFilter(filter, parentRendering, g2d, x, y, _boxModelConf);
+                    backdropFilter.render(filter, parentRendering, g2d, x, y, _boxModelConf);
                 } catch ( Exception ex ) {
                     log.error("Exception while trying to apply and render parent filter!", ex);
                 }
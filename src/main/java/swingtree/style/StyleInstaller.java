@@ -622,6 +622,7 @@ final class StyleInstaller<C extends JComponent>
     private void _applyDimensionalityStyleTo( final C owner, final StyleConf styleConf )
     {
         final DimensionalityConf dimensionalityConf = styleConf.dimensionality();
+        boolean sizeHintsChanged = false;
 
         if ( dimensionalityConf.minWidth().isPresent() || dimensionalityConf.minHeight().isPresent() ) {
             Dimension minSize = owner.getMinimumSize();
@@ -631,8 +632,10 @@ final class StyleInstaller<C extends JComponent>
 
             Dimension newMinSize = new Dimension(minWidth, minHeight);
 
-            if ( ! newMinSize.equals(minSize) )
+            if ( ! newMinSize.equals(minSize) ) {
                 owner.setMinimumSize(newMinSize);
+                sizeHintsChanged = true;
+            }
         }
 
         if ( dimensionalityConf.maxWidth().isPresent() || dimensionalityConf.maxHeight().isPresent() ) {
@@ -643,8 +646,10 @@ final class StyleInstaller<C extends JComponent>
 
             Dimension newMaxSize = new Dimension(maxWidth, maxHeight);
 
-            if ( !newMaxSize.equals(maxSize) )
+            if ( !newMaxSize.equals(maxSize) ) {
                 owner.setMaximumSize(newMaxSize);
+                sizeHintsChanged = true;
+            }
         }
 
         if ( dimensionalityConf.preferredWidth().isPresent() || dimensionalityConf.preferredHeight().isPresent() ) {
@@ -655,8 +660,10 @@ final class StyleInstaller<C extends JComponent>
 
             Dimension newPrefSize = new Dimension(prefWidth, prefHeight);
 
-            if ( !newPrefSize.equals(prefSize) )
+            if ( !newPrefSize.equals(prefSize) ) {
                 owner.setPreferredSize(newPrefSize);
+                sizeHintsChanged = true;
+            }
         }
 
         if ( dimensionalityConf.width().isPresent() || dimensionalityConf.height().isPresent() ) {
@@ -670,6 +677,15 @@ final class StyleInstaller<C extends JComponent>
             if ( !newSize.equals(size) )
                 owner.setSize(newSize);
         }
+
+        if ( sizeHintsChanged )
+            owner.revalidate();
+            /*
+                Unlike most other setters, the size hint setters of a component
+                do not revalidate it, so we have to do it ourselves here.
+                This is important for animated styles, which are not revalidated
+                by the animation frame clock.
+            */
     }
 
     private void _applyFontStyleTo( final C owner, final StyleConf styleConf )
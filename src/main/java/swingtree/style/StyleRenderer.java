@@ -11,10 +11,7 @@ import swingtree.layout.Size;
 import javax.swing.ImageIcon;
 import java.awt.*;
 import java.awt.geom.*;
-import java.awt.image.AffineTransformOp;
 import java.awt.image.BufferedImage;
-import java.awt.image.ConvolveOp;
-import java.awt.image.Kernel;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -142,6 +139,19 @@ final class StyleRenderer
         LayerRenderConf conf,
         ShadowConf    shadow,
         Graphics2D    g2d
+    ) {
+        if ( !shadow.color().isPresent() || shadow.color().get().getAlpha() == 0 )
+            return;
+
+        // Most shadows can be stretched from a cached image, which is a lot cheaper than area clipping:
+        if ( !ShadowNinePatch.tryRender(conf, shadow, g2d, StyleRenderer::_renderShadowsExactly) )
+            _renderShadowsExactly(conf, shadow, g2d);
+    }
+
+    private static void _renderShadowsExactly(
+        LayerRenderConf conf,
+        ShadowConf    shadow,
+        Graphics2D    g2d
     ) {
         if ( !shadow.color().isPresent() )
             return;
@@ -1401,94 +1411,4 @@ final class StyleRenderer
         // We are done with the painters, so we can reset the clip:
         g2d.setClip(currentClip);
     }
-
-    static void renderParentFilter(
-        FilterConf    filterConf,
-        BufferedImage parentRendering,
-        Graphics2D    g2d,
-        int offsetX,
-        int offsetY,
-        BoxModelConf boxModelConf
-    ) {
-        final Size       size   = boxModelConf.size();
-        final float      width  = size.width().orElse(0f);
-        final float      height = size.height().orElse(0f);
-        final Offset     center = filterConf.offset();
-        final Scale      scale  = filterConf.scale();
-        final KernelConf kernel = filterConf.kernel();
-        final float      blur   = filterConf.blur();
-
-        BufferedImage filtered = parentRendering;
-
-        if ( !center.equals(Offset.none()) || !scale.equals(Scale.none()) ) {
-            if ( scale.equals(Scale.none()) ) {
-                offsetX += (int) center.x();
-                offsetY += (int) center.y();
-            } else {
-                AffineTransform at = new AffineTransform();
-                float vx = center.x() + offsetX + width / 2f;
-                float vy = center.y() + offsetY + height / 2f;
-                at.translate(vx, vy);
-                at.scale(scale.x(), scale.y());
-                at.translate(-vx, -vy);
-                AffineTransformOp scaleOp = new AffineTransformOp(at, AffineTransformOp.TYPE_BILINEAR);
-                filtered = scaleOp.filter(filtered, null);
-            }
-        }
-
-        if ( !kernel.equals(KernelConf.none()) ) {
-            Kernel awtKernel = kernel.toAwtKernel();
-            ConvolveOp convolve = new ConvolveOp(awtKernel, ConvolveOp.EDGE_NO_OP, null);
-            filtered = convolve.filter(filtered, null);
-        }
-
-        if ( blur > 0 ) {
-            Kernel blurKernelHorizontal = _makeKernel(blur, false);
-            ConvolveOp blurOp = new ConvolveOp(blurKernelHorizontal, ConvolveOp.EDGE_NO_OP, null);
-            BufferedImage blurred = blurOp.filter(filtered, null);
-            Kernel blurKernelVertical = _makeKernel(blur, true);
-            blurOp = new ConvolveOp(blurKernelVertical, ConvolveOp.EDGE_NO_OP, null);
-            filtered = blurOp.filter(blurred, filtered);
-        }
-
-        Shape oldClip = g2d.getClip();
-        try {
-            ComponentAreas areas = boxModelConf.areas();
-            Shape newClip = areas.get(filterConf.area());
-            g2d.setClip(newClip);
-            g2d.drawImage(filtered, -offsetX, -offsetY, null);
-        } catch (Exception e) {
-            log.error("Failed to successfully render filtered parent buffer!", e);
-        } finally {
-            g2d.setClip(oldClip);
-        }
-    }
-
-    private static Kernel _makeKernel( float radius, boolean transpose ) {
-        final int maxRadius = (int)Math.ceil(radius);
-        final int rows = maxRadius * 2 + 1;
-        final float[] matrix = new float[rows];
-        final float sigma = radius / 3;
-        final float sigma22 = 2*sigma*sigma;
-        final float sigmaPi2 = (float) ( 2 * Math.PI * sigma );
-        final float sqrtSigmaPi2 = (float)Math.sqrt(sigmaPi2);
-        final float radius2 = radius*radius;
-
-        float total = 0;
-        int   index = 0;
-
-        for (int row = -maxRadius; row <= maxRadius; row++) {
-            float distance = row*row;
-            if (distance > radius2)
-                matrix[index] = 0;
-            else
-                matrix[index] = (float)Math.exp(-distance/sigma22) / sqrtSigmaPi2;
-            total += matrix[index];
-            index++;
-        }
-        for ( int i = 0; i < rows; i++ )
-            matrix[i] /= total;
-
-        return new Kernel( transpose ? 1 : rows, transpose ? rows : 1, matrix );
-    }
 }
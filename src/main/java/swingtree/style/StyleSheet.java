@@ -6,6 +6,7 @@ import swingtree.api.Styler;
 
 import javax.swing.JComponent;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
 
 /**
@@ -65,6 +66,8 @@ public abstract class StyleSheet
 
     private static final StyleSheet _NONE = new StyleSheet() { @Override protected void configure() {} };
 
+    private static final AtomicLong _GENERATION = new AtomicLong(0);
+
     /**
      *  A factory method for getting the empty style sheet representing no style whatsoever.
      *  It is especially useful instead of null.
@@ -73,10 +76,19 @@ public abstract class StyleSheet
      */
     public static StyleSheet none() { return _NONE; }
 
+    /**
+     *  A global counter which is incremented every time any style sheet is (re)configured.
+     *  It is used by the style engine to detect that cached styles may no longer be valid.
+     *
+     * @return The current style sheet generation.
+     */
+    static long generation() { return _GENERATION.get(); }
+
 
     private final BiFunction<JComponent, StyleConf, StyleConf> _defaultStyle;
     private final Map<StyleTrait<?>, Styler<?>> _styleDeclarations = new LinkedHashMap<>();
     private StyleTrait<?>[][] _traitPaths = {}; // The paths are calculated from the above map and used to apply the styles.
+    private TraitMatcher _matcher = TraitMatcher.EMPTY; // Compiled from the above paths, finds the traits applicable to a component.
 
     private boolean _traitGraphBuilt = false;
     private boolean _initialized     = false;
@@ -102,6 +114,7 @@ public abstract class StyleSheet
     public final void reconfigure() {
         _traitGraphBuilt = false;
         _traitPaths      = new StyleTrait<?>[0][];
+        _matcher         = TraitMatcher.EMPTY;
         _styleDeclarations.clear();
         try {
             configure(); // The subclass will add traits to this style sheet using the add(..) method.
@@ -121,6 +134,7 @@ public abstract class StyleSheet
         }
         _buildAndSetStyleTraitPaths();
         _initialized = true;
+        _GENERATION.incrementAndGet();
     }
 
     /**
@@ -316,59 +330,15 @@ public abstract class StyleSheet
         if ( _traitPaths.length == 0 )
             return startingStyle;
 
-        // Now we run the starting style through the trait graph.
-        // We do this by finding valid trait paths from the root traits to the leaf traits.
-        int deepestValidPath = -1;
-        List<List<StyleTrait<?>>> validTraitPaths = new java.util.ArrayList<>();
-        for ( StyleTrait<?>[] traitPath : _traitPaths ) {
-            int lastValidTrait = -1;
-            for ( int i = 0; i < traitPath.length; i++ ) {
-                boolean valid = traitPath[i].isApplicableTo(toBeStyled);
-                if (valid) lastValidTrait = i;
-            }
-            if ( lastValidTrait >= 0 ) {
-                // We add the path up to the last valid trait to the list of valid traits.
-                // This is done by slicing the trait path array from 0 to lastValidTrait + 1.
-                validTraitPaths.add(Arrays.asList(Arrays.copyOfRange(traitPath, 0, lastValidTrait + 1)));
-            }
-
-            if ( lastValidTrait > deepestValidPath )
-                deepestValidPath = lastValidTrait;
-        }
-
-        // Now we are going to create one common path from the valid trait paths by merging them!
-        // So first we add all the traits from path step 0, then 1, then 2, etc.
-        List<StyleTrait<?>> subToSuper = new java.util.ArrayList<>(); // The final merged path.
-        List<String> inheritedTraits = new java.util.ArrayList<>();
-        StyleTrait<?> lastAdded = null;
-        for ( int i = 0; i <= deepestValidPath; i++ ) {
-            if ( !inheritedTraits.isEmpty() ) {
-                for ( String inheritedTrait : new ArrayList<>(inheritedTraits) ) {
-                    for ( List<StyleTrait<?>> validTraitPath : validTraitPaths ) {
-                        int index = validTraitPath.size() - i - 1;
-                        if ( index >= 0 ) {
-                            StyleTrait<?> current = validTraitPath.get(index);
-                            if ( !subToSuper.contains(current) && current.group().equals(inheritedTrait) )
-                                lastAdded = _merge(current, lastAdded, subToSuper, inheritedTraits);
-                        }
-                    }
-                }
-            }
-            for ( List<StyleTrait<?>> validTraitPath : validTraitPaths ) {
-                int index = validTraitPath.size() - i - 1;
-                if ( index >= 0 ) {
-                    StyleTrait<?> trait = validTraitPath.get(index);
-                    if ( !subToSuper.contains(trait) )
-                        lastAdded = _merge(trait, lastAdded, subToSuper, inheritedTraits);
-                }
-            }
-        }
+        // The matcher knows which traits apply to the component and in which order:
+        TraitMatcher matcher = _matcher;
+        int[] subToSuper = matcher.subToSuperTraitsFor(toBeStyled);
 
         // Now we apply the valid traits to the starting style.
-        for ( int i = subToSuper.size() - 1; i >= 0; i-- ) {
-            StyleTrait<?> trait = subToSuper.get(i);
+        for ( int i = subToSuper.length - 1; i >= 0; i-- ) {
+            StyleTrait<?> trait = matcher.traitAt(subToSuper[i]);
             ComponentStyleDelegate delegate = new ComponentStyleDelegate<>(toBeStyled, startingStyle);
-            Styler<?> styler = _styleDeclarations.get(trait);
+            Styler<?> styler = matcher.stylerAt(subToSuper[i]);
             if ( styler != null ) {
                 try {
                     startingStyle = styler.style(delegate).style();
@@ -390,24 +360,6 @@ public abstract class StyleSheet
         return startingStyle;
     }
 
-    private @Nullable StyleTrait<?> _merge(
-        StyleTrait<?>           currentTrait,
-        @Nullable StyleTrait<?> lastAdded,
-        List<StyleTrait<?>>     subToSuper,
-        List<String>            inheritedTraits
-    ) {
-        boolean lastIsSuper = lastAdded != null && lastAdded.group().isEmpty() && !lastAdded.thisInherits(currentTrait);
-        if ( lastIsSuper )
-            subToSuper.add(subToSuper.size() - 1, currentTrait);
-        else {
-            subToSuper.add(currentTrait);
-            lastAdded = currentTrait;
-        }
-        inheritedTraits.remove(currentTrait.group());
-        inheritedTraits.addAll(Arrays.asList(currentTrait.toInherit()));
-        return lastAdded;
-    }
-
     /**
      *  Establishes an array of {@link StyleTrait} arrays which represent
      *  all the possible paths from the root traits to the leaf traits.
@@ -417,9 +369,237 @@ public abstract class StyleSheet
     private void _buildAndSetStyleTraitPaths() {
         if ( !_styleDeclarations.isEmpty() )
             _traitPaths = new GraphPathsBuilder().buildTraitGraphPathsFrom(_styleDeclarations);
+        _matcher = new TraitMatcher(_traitPaths, _styleDeclarations);
         _traitGraphBuilt = true;
     }
 
+    /**
+     *  A matcher compiled from the trait paths of a style sheet, which finds the
+     *  traits applicable to a component and the order in which they must be applied. <br>
+     *  Instead of testing every trait of every path against a component,
+     *  the traits are indexed by id and group, so that only candidate traits are tested.
+     *  The final ordered list of traits is then cached for every
+     *  combination of component type, id and group tags encountered.
+     */
+    private static final class TraitMatcher
+    {
+        private static final int MAX_CACHED_SIGNATURES = 512;
+        private static final int[] NO_TRAITS = new int[0];
+
+        static final TraitMatcher EMPTY = new TraitMatcher(new StyleTrait<?>[0][], Collections.emptyMap());
+
+        private final StyleTrait<?>[] _traits;       // All distinct traits found in the paths.
+        private final Styler<?>[]     _stylers;      // The styler for each trait in the above array.
+        private final int[][]         _paths;        // The trait paths in terms of indices into the above arrays.
+        private final int[]           _untargeted;   // Traits without id and group, only the type needs to be checked.
+        private final Map<String, int[]> _byId    = new HashMap<>();
+        private final Map<String, int[]> _byGroup = new HashMap<>();
+        private final Map<Signature, int[]> _resolved = new LinkedHashMap<Signature, int[]>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry( Map.Entry<Signature, int[]> eldest ) {
+                return size() > MAX_CACHED_SIGNATURES;
+            }
+        };
+
+
+        TraitMatcher( StyleTrait<?>[][] traitPaths, Map<StyleTrait<?>, Styler<?>> declarations ) {
+            Map<StyleTrait<?>, Integer> indices = new LinkedHashMap<>();
+            _paths = new int[traitPaths.length][];
+            for ( int p = 0; p < traitPaths.length; p++ ) {
+                _paths[p] = new int[traitPaths[p].length];
+                for ( int i = 0; i < traitPaths[p].length; i++ ) {
+                    StyleTrait<?> trait = traitPaths[p][i];
+                    Integer index = indices.get(trait);
+                    if ( index == null ) {
+                        index = indices.size();
+                        indices.put(trait, index);
+                    }
+                    _paths[p][i] = index;
+                }
+            }
+            _traits  = indices.keySet().toArray(new StyleTrait<?>[0]);
+            _stylers = new Styler<?>[_traits.length];
+            Map<String, List<Integer>> byId    = new HashMap<>();
+            Map<String, List<Integer>> byGroup = new HashMap<>();
+            List<Integer> untargeted = new ArrayList<>();
+            for ( int i = 0; i < _traits.length; i++ ) {
+                StyleTrait<?> trait = _traits[i];
+                _stylers[i] = declarations.get(trait);
+                if ( !trait.id().isEmpty() )
+                    byId.computeIfAbsent(trait.id(), k -> new ArrayList<>()).add(i);
+                else if ( !trait.group().isEmpty() )
+                    byGroup.computeIfAbsent(trait.group(), k -> new ArrayList<>()).add(i);
+                else
+                    untargeted.add(i);
+            }
+            byId.forEach( (id, traits) -> _byId.put(id, _toArray(traits)) );
+            byGroup.forEach( (group, traits) -> _byGroup.put(group, _toArray(traits)) );
+            _untargeted = _toArray(untargeted);
+        }
+
+        private static int[] _toArray( List<Integer> list ) {
+            int[] array = new int[list.size()];
+            for ( int i = 0; i < array.length; i++ )
+                array[i] = list.get(i);
+            return array;
+        }
+
+        StyleTrait<?> traitAt( int index ) { return _traits[index]; }
+
+        @Nullable Styler<?> stylerAt( int index ) { return _stylers[index]; }
+
+        /**
+         *  Returns the indices of the traits applicable to the given component,
+         *  ordered from the most specific (sub) trait to the most general (super) trait.
+         *
+         * @param component The component for which the applicable traits should be found.
+         * @return An array of trait indices (see {@link #traitAt(int)} and {@link #stylerAt(int)}).
+         */
+        int[] subToSuperTraitsFor( JComponent component ) {
+            if ( _traits.length == 0 )
+                return NO_TRAITS;
+            List<String> groups = ComponentExtension.from(component).getStyleGroups();
+            Signature lookupKey = new Signature(component.getClass(), component.getName(), groups);
+            synchronized ( _resolved ) {
+                int[] cached = _resolved.get(lookupKey);
+                if ( cached != null )
+                    return cached;
+            }
+            int[] resolved = _resolve(component, groups);
+            synchronized ( _resolved ) {
+                _resolved.put(new Signature(component.getClass(), component.getName(), new ArrayList<>(groups)), resolved);
+            }
+            return resolved;
+        }
+
+        private int[] _resolve( JComponent component, List<String> groups )
+        {
+            // First we find the applicable traits by only testing indexed candidates:
+            boolean[] applicable = new boolean[_traits.length];
+            _markApplicable(_untargeted, component, applicable);
+            String id = component.getName();
+            if ( id != null )
+                _markApplicable(_byId.get(id), component, applicable);
+            for ( String group : groups )
+                _markApplicable(_byGroup.get(group), component, applicable);
+
+            // Then we find valid trait paths from the root traits to the leaf traits.
+            int deepestValidPath = -1;
+            List<List<StyleTrait<?>>> validTraitPaths = new ArrayList<>();
+            for ( int[] traitPath : _paths ) {
+                int lastValidTrait = -1;
+                for ( int i = 0; i < traitPath.length; i++ )
+                    if ( applicable[traitPath[i]] ) lastValidTrait = i;
+
+                if ( lastValidTrait >= 0 ) {
+                    // We add the path up to the last valid trait to the list of valid traits.
+                    List<StyleTrait<?>> validPath = new ArrayList<>(lastValidTrait + 1);
+                    for ( int i = 0; i <= lastValidTrait; i++ )
+                        validPath.add(_traits[traitPath[i]]);
+                    validTraitPaths.add(validPath);
+                }
+
+                if ( lastValidTrait > deepestValidPath )
+                    deepestValidPath = lastValidTrait;
+            }
+
+            // Now we are going to create one common path from the valid trait paths by merging them!
+            // So first we add all the traits from path step 0, then 1, then 2, etc.
+            List<StyleTrait<?>> subToSuper = new ArrayList<>(); // The final merged path.
+            List<String> inheritedTraits = new ArrayList<>();
+            StyleTrait<?> lastAdded = null;
+            for ( int i = 0; i <= deepestValidPath; i++ ) {
+                if ( !inheritedTraits.isEmpty() ) {
+                    for ( String inheritedTrait : new ArrayList<>(inheritedTraits) ) {
+                        for ( List<StyleTrait<?>> validTraitPath : validTraitPaths ) {
+                            int index = validTraitPath.size() - i - 1;
+                            if ( index >= 0 ) {
+                                StyleTrait<?> current = validTraitPath.get(index);
+                                if ( !subToSuper.contains(current) && current.group().equals(inheritedTrait) )
+                                    lastAdded = _merge(current, lastAdded, subToSuper, inheritedTraits);
+                            }
+                        }
+                    }
+                }
+                for ( List<StyleTrait<?>> validTraitPath : validTraitPaths ) {
+                    int index = validTraitPath.size() - i - 1;
+                    if ( index >= 0 ) {
+                        StyleTrait<?> trait = validTraitPath.get(index);
+                        if ( !subToSuper.contains(trait) )
+                            lastAdded = _merge(trait, lastAdded, subToSuper, inheritedTraits);
+                    }
+                }
+            }
+
+            int[] result = new int[subToSuper.size()];
+            for ( int i = 0; i < result.length; i++ )
+                result[i] = _indexOf(subToSuper.get(i));
+            return result;
+        }
+
+        private void _markApplicable( @Nullable int[] candidates, JComponent component, boolean[] applicable ) {
+            if ( candidates == null )
+                return;
+            for ( int candidate : candidates )
+                if ( !applicable[candidate] && _traits[candidate].isApplicableTo(component) )
+                    applicable[candidate] = true;
+        }
+
+        private int _indexOf( StyleTrait<?> trait ) {
+            for ( int i = 0; i < _traits.length; i++ )
+                if ( _traits[i] == trait )
+                    return i;
+            throw new IllegalStateException("Unknown trait " + trait + "!");
+        }
+
+        private static @Nullable StyleTrait<?> _merge(
+            StyleTrait<?>           currentTrait,
+            @Nullable StyleTrait<?> lastAdded,
+            List<StyleTrait<?>>     subToSuper,
+            List<String>            inheritedTraits
+        ) {
+            boolean lastIsSuper = lastAdded != null && lastAdded.group().isEmpty() && !lastAdded.thisInherits(currentTrait);
+            if ( lastIsSuper )
+                subToSuper.add(subToSuper.size() - 1, currentTrait);
+            else {
+                subToSuper.add(currentTrait);
+                lastAdded = currentTrait;
+            }
+            inheritedTraits.remove(currentTrait.group());
+            inheritedTraits.addAll(Arrays.asList(currentTrait.toInherit()));
+            return lastAdded;
+        }
+
+        /**
+         *  Everything about a component that determines which traits are applicable to it.
+         */
+        private static final class Signature
+        {
+            private final Class<?>         _type;
+            private final @Nullable String _id;
+            private final List<String>     _groups;
+            private final int              _hash;
+
+            Signature( Class<?> type, @Nullable String id, List<String> groups ) {
+                _type   = type;
+                _id     = id;
+                _groups = groups;
+                _hash   = 31 * ( 31 * type.hashCode() + Objects.hashCode(id) ) + groups.hashCode();
+            }
+
+            @Override public int hashCode() { return _hash; }
+
+            @Override
+            public boolean equals( Object other ) {
+                if ( this == other ) return true;
+                if ( !(other instanceof Signature) ) return false;
+                Signature that = (Signature) other;
+                return _type == that._type && Objects.equals(_id, that._id) && _groups.equals(that._groups);
+            }
+        }
+    }
+
+
     private static class GraphPathsBuilder
     {
         private final Map<StyleTrait<?>, List<StyleTrait<?>>> _traitGraph = new LinkedHashMap<>();
@@ -1,5 +1,6 @@
 package swingtree.style;
 
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import swingtree.SwingTree;
 import swingtree.UI;
@@ -8,12 +9,17 @@ import swingtree.api.Styler;
 
 import javax.swing.*;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  *  A style source is a container for a local styler, animation stylers and a style sheet
  *  which are all used to calculate the final {@link StyleConf} configuration of a component. <br>
  *  This object can be thought of as a function of lambdas that takes a {@link JComponent}
  *  and returns a {@link StyleConf} object. <br>
+ *  Because running all of these lambdas is expensive, a style source
+ *  remembers the inputs and the result of its last style resolution,
+ *  so that {@link #cachedOrGatheredStyleFor(JComponent)} can skip the
+ *  resolution if nothing relevant changed (see {@link SwingTree#isStyleCachingEnabled()}). <br>
  *
  * @param <C> The type of the component that is being styled, animated or sized in a particular way...
  */
@@ -21,6 +27,15 @@ final class StyleSource<C extends JComponent>
 {
     private static final Logger log = org.slf4j.LoggerFactory.getLogger(StyleSource.class);
 
+    /**
+     *  Incremented to invalidate the cached styles of all style sources at once.
+     */
+    private static final AtomicLong _GLOBAL_EPOCH = new AtomicLong(0);
+
+    static void invalidateAll() {
+        _GLOBAL_EPOCH.incrementAndGet();
+    }
+
     static <C extends JComponent> StyleSource<C> create() {
         return new StyleSource<C>(
                         Styler.none(),
@@ -35,6 +50,8 @@ final class StyleSource<C extends JComponent>
 
     private final StyleSheet _styleSheet;
 
+    private @Nullable ResolutionInputs _lastInputs = null;
+    private @Nullable StyleConf        _lastStyle  = null;
 
     private StyleSource(
         Styler<C>              localStyler,
@@ -65,16 +82,37 @@ final class StyleSource<C extends JComponent>
         return new StyleSource<>(_localStyler, new Expirable[0], _styleSheet);
     }
 
-    StyleConf gatherStyleFor(C owner )
+    /**
+     *  Marks the result of the last style resolution as dirty,
+     *  so that the next call to {@link #cachedOrGatheredStyleFor(JComponent)}
+     *  will run the full style resolution again.
+     */
+    void invalidate() {
+        _lastInputs = null;
+        _lastStyle  = null;
+    }
+
+    /**
+     *  Returns the style resolved during the last call to {@link #gatherStyleFor(JComponent)}
+     *  if style caching is enabled and none of the tracked inputs of the style resolution
+     *  have changed since then. Otherwise, the style is gathered from scratch.
+     *
+     * @param owner The component for which the style should be resolved.
+     * @return The cached or freshly gathered {@link StyleConf} of the component.
+     */
+    StyleConf cachedOrGatheredStyleFor( C owner )
+    {
+        if ( _lastStyle != null && _lastInputs != null && hasNoAnimationStylers() && SwingTree.get().isStyleCachingEnabled() ) {
+            if ( _lastInputs.matches(owner, _parentFontOf(owner)) )
+                return _lastStyle;
+        }
+        return gatherStyleFor(owner);
+    }
+
+    StyleConf gatherStyleFor( C owner )
     {
-        StyleConf styleConf = Optional.ofNullable(owner.getParent())
-                              .map( p -> p instanceof JComponent ? (JComponent) p : null )
-                              .map(ComponentExtension::from)
-                              .map(ComponentExtension::getStyle)
-                              .map(StyleConf::font)
-                              .filter( f -> !f.equals(FontConf.none()) )
-                              .map( f -> StyleConf.none()._withFont(f) )
-                              .orElse(StyleConf.none());
+        final FontConf parentFont = _parentFontOf(owner);
+        StyleConf styleConf = parentFont.equals(FontConf.none()) ? StyleConf.none() : StyleConf.none()._withFont(parentFont);
 
         try {
             styleConf = _styleSheet.applyTo( owner, styleConf );
@@ -125,9 +163,21 @@ final class StyleSource<C extends JComponent>
 
         styleConf = styleConf.correctedForRounding();
 
+        styleConf = StyleConf.intern(styleConf);
+
+        _lastInputs = ResolutionInputs.of(owner, parentFont);
+        _lastStyle  = styleConf;
+
         return styleConf;
     }
 
+    private static FontConf _parentFontOf( JComponent owner ) {
+        java.awt.Container parent = owner.getParent();
+        if ( parent instanceof JComponent )
+            return ComponentExtension.from((JComponent) parent).getStyle().font();
+        return FontConf.none();
+    }
+
     private static StyleConf _applyDPIScaling(StyleConf styleConf) {
         if ( UI.scale() == 1f )
             return styleConf;
@@ -135,4 +185,89 @@ final class StyleSource<C extends JComponent>
         return styleConf.scale( UI.scale() );
     }
 
+    /**
+     *  A snapshot of everything that is known to affect the outcome
+     *  of a style resolution apart from the stylers themselves.
+     */
+    private static final class ResolutionInputs
+    {
+        static ResolutionInputs of( JComponent owner, FontConf parentFont ) {
+            return new ResolutionInputs(
+                        parentFont,
+                        owner.getName(),
+                        ComponentExtension.from(owner).getStyleGroups().toArray(new String[0]),
+                        owner.getX(), owner.getY(), owner.getWidth(), owner.getHeight(),
+                        _interactionStateOf(owner),
+                        StyleSheet.generation(),
+                        _GLOBAL_EPOCH.get(),
+                        UI.scale()
+                    );
+        }
+
+        private static int _interactionStateOf( JComponent owner ) {
+            int state = 0;
+            if ( owner.isEnabled() ) state |= 1;
+            if ( owner.hasFocus()  ) state |= 1 << 1;
+            if ( owner instanceof AbstractButton ) {
+                ButtonModel model = ((AbstractButton) owner).getModel();
+                if ( model != null ) {
+                    if ( model.isRollover() ) state |= 1 << 2;
+                    if ( model.isPressed()  ) state |= 1 << 3;
+                    if ( model.isArmed()    ) state |= 1 << 4;
+                    if ( model.isSelected() ) state |= 1 << 5;
+                }
+            }
+            return state;
+        }
+
+        private final FontConf         _parentFont;
+        private final @Nullable String _id;
+        private final String[]         _groups;
+        private final int              _x, _y, _width, _height;
+        private final int              _interactionState;
+        private final long             _styleSheetGeneration;
+        private final long             _epoch;
+        private final float            _scale;
+
+
+        private ResolutionInputs(
+            FontConf         parentFont,
+            @Nullable String id,
+            String[]         groups,
+            int x, int y, int width, int height,
+            int              interactionState,
+            long             styleSheetGeneration,
+            long             epoch,
+            float            scale
+        ) {
+            _parentFont           = Objects.requireNonNull(parentFont);
+            _id                   = id;
+            _groups               = Objects.requireNonNull(groups);
+            _x                    = x;
+            _y                    = y;
+            _width                = width;
+            _height               = height;
+            _interactionState     = interactionState;
+            _styleSheetGeneration = styleSheetGeneration;
+            _epoch                = epoch;
+            _scale                = scale;
+        }
+
+        boolean matches( JComponent owner, FontConf parentFont ) {
+            if ( _epoch != _GLOBAL_EPOCH.get() ) return false;
+            if ( _styleSheetGeneration != StyleSheet.generation() ) return false;
+            if ( _scale != UI.scale() ) return false;
+            if ( _x != owner.getX() || _y != owner.getY() ) return false;
+            if ( _width != owner.getWidth() || _height != owner.getHeight() ) return false;
+            if ( _interactionState != _interactionStateOf(owner) ) return false;
+            if ( !Objects.equals(_id, owner.getName()) ) return false;
+            if ( _parentFont != parentFont && !_parentFont.equals(parentFont) ) return false;
+            List<String> groups = ComponentExtension.from(owner).getStyleGroups();
+            if ( groups.size() != _groups.length ) return false;
+            for ( int i = 0; i < _groups.length; i++ )
+                if ( !_groups[i].equals(groups.get(i)) ) return false;
+            return true;
+        }
+    }
+
 }
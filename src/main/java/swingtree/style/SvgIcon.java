@@ -59,8 +59,6 @@ public final class SvgIcon extends ImageIcon
     private final UI.FitComponent       _fitComponent;
     private final UI.Placement          _preferredPlacement;
 
-    private @Nullable BufferedImage _cache = null;
-
 
     private SvgIcon(
         @Nullable SVGDocument svgDocument, // nullable
@@ -484,12 +482,15 @@ public final class SvgIcon extends ImageIcon
     @Override
     public Image getImage() {
 
-        if ( _cache != null )
-            return _cache;
-
         int width  = getIconWidth();
         int height = getIconHeight();
 
+        if ( width > 0 && height > 0 ) {
+            BufferedImage raster = _rasterFor(null, width, height);
+            if ( raster != null )
+                return raster;
+        }
+
         if ( _svgDocument != null ) {
             if (width < 0)
                 width = (int) UI.scale(_svgDocument.size().width);
@@ -525,7 +526,7 @@ public final class SvgIcon extends ImageIcon
      * @param y the Y coordinate of the icon's top-left corner
      */
     @Override
-    public synchronized void paintIcon( java.awt.Component c, java.awt.Graphics g, int x, int y )
+    public void paintIcon( java.awt.Component c, java.awt.Graphics g, int x, int y )
     {
         if ( _svgDocument == null )
             return;
@@ -583,18 +584,40 @@ public final class SvgIcon extends ImageIcon
         }
 
         if ( scaledWidth > 0 && scaledHeight > 0 ) {
-            if ( _cache != null && _cache.getWidth() == width && _cache.getHeight() == height )
-                g.drawImage(_cache, x, y, width, height, null);
-            else {
-                _cache = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
-                paintIcon(c, _cache.getGraphics(), 0, 0, width, height);
-                g.drawImage(_cache, x, y, width, height, null);
-            }
+            BufferedImage raster = _rasterFor(c, width, height);
+            if ( raster != null )
+                g.drawImage(raster, x, y, width, height, null);
         }
         else
             _paintIcon( c, g, x, y, width, height, preferredPlacement );
     }
 
+    /**
+     *  Fetches the rasterized image of this icon for the given pixel size from the
+     *  global {@link SvgRasterCache}, which is shared by all icons rendering the same
+     *  document at the same size, or renders it if it is not cached yet.
+     */
+    private @Nullable BufferedImage _rasterFor( @Nullable Component c, int width, int height ) {
+        SVGDocument document = _svgDocument;
+        if ( document == null )
+            return null;
+        SvgRasterCache.Key key = new SvgRasterCache.Key(
+                                        document, width, height, UI.scale(),
+                                        _fitComponent, _preferredPlacement,
+                                        StyleEngine.IS_ANTIALIASING_ENABLED()
+                                    );
+        return SvgRasterCache.get().rasterFor(key, () -> {
+                    BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+                    Graphics2D g2d = image.createGraphics();
+                    try {
+                        _paintIcon(c, g2d, 0, 0, width, height, _preferredPlacement);
+                    } finally {
+                        g2d.dispose();
+                    }
+                    return image;
+                });
+    }
+
     private Insets _determineInsetsForBorder( Border b, Component c )
     {
         if ( b == null )
@@ -0,0 +1,194 @@
+package swingtree.style;
+
+import com.github.weisj.jsvg.SVGDocument;
+import swingtree.SwingTree;
+import swingtree.UI;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ *  A global and memory bounded cache for the rasterized images of {@link SvgIcon}s,
+ *  so that the same SVG document painted at the same size by different icon instances
+ *  (or by the same icon on different components) is only rendered once.
+ *  A raster is identified by the identity of the {@link SVGDocument}, its pixel size,
+ *  the current {@link UI#scale()} and the fit and placement policies of the icon.
+ *  <p>
+ *  Lookups are lock free, only the eviction of the least recently used rasters,
+ *  which happens when the memory budget is exceeded, is guarded by a lock
+ *  which is never waited for on the paint path.
+ *  The budget is the same as the one of the icon cache (see {@link SwingTree#getIconCacheMemoryBudget()}).
+ */
+final class SvgRasterCache
+{
+    private static final int  BYTES_PER_PIXEL    = 4; // We use TYPE_INT_ARGB images!
+    private static final long MAX_DYNAMIC_BUDGET = 32L * 1024 * 1024;
+
+    private static final SvgRasterCache _INSTANCE = new SvgRasterCache();
+
+    static SvgRasterCache get() { return _INSTANCE; }
+
+
+    static final class Key
+    {
+        private final SVGDocument     _document;
+        private final int             _width;
+        private final int             _height;
+        private final float           _scale;
+        private final UI.FitComponent _fit;
+        private final UI.Placement    _placement;
+        private final boolean         _antiAliasing;
+        private final int             _hash;
+
+        Key(
+            SVGDocument     document,
+            int             width,
+            int             height,
+            float           scale,
+            UI.FitComponent fit,
+            UI.Placement    placement,
+            boolean         antiAliasing
+        ) {
+            _document     = document;
+            _width        = width;
+            _height       = height;
+            _scale        = scale;
+            _fit          = fit;
+            _placement    = placement;
+            _antiAliasing = antiAliasing;
+            int hash = System.identityHashCode(document);
+            hash = 31 * hash + width;
+            hash = 31 * hash + height;
+            hash = 31 * hash + Float.floatToIntBits(scale);
+            hash = 31 * hash + fit.hashCode();
+            hash = 31 * hash + placement.hashCode();
+            hash = 31 * hash + ( antiAliasing ? 1 : 0 );
+            _hash = hash;
+        }
+
+        @Override public int hashCode() { return _hash; }
+
+        @Override
+        public boolean equals( Object obj ) {
+            if ( obj == this ) return true;
+            if ( !(obj instanceof Key) ) return false;
+            Key rhs = (Key) obj;
+            return _hash         == rhs._hash         &&
+                   _document     == rhs._document     && // Identity, not equality!
+                   _width        == rhs._width        &&
+                   _height       == rhs._height       &&
+                   _scale        == rhs._scale        &&
+                   _fit          == rhs._fit          &&
+                   _placement    == rhs._placement    &&
+                   _antiAliasing == rhs._antiAliasing;
+        }
+    }
+
+    private static final class Raster
+    {
+        private final BufferedImage _image;
+        private final long _bytes;
+        private volatile long _lastAccess;
+
+        private Raster( BufferedImage image, long tick ) {
+            _image      = image;
+            _bytes      = (long) image.getWidth() * image.getHeight() * BYTES_PER_PIXEL;
+            _lastAccess = tick;
+        }
+    }
+
+    private final Map<Key, Raster> _rasters = new ConcurrentHashMap<>();
+    private final AtomicLong _clock = new AtomicLong(0);
+    private final AtomicLong _bytes = new AtomicLong(0);
+    private final AtomicLong _renders = new AtomicLong(0);
+    private final ReentrantLock _evictionLock = new ReentrantLock();
+
+
+    private SvgRasterCache() {}
+
+    /**
+     *  Returns the cached raster for the given key or renders, caches and returns a new one.
+     *  Two threads may render the same raster at the same time, in which case
+     *  only the raster of the first one is cached, which is cheaper than making them wait for each other.
+     *
+     * @param key The identity of the raster.
+     * @param renderer The function rendering the raster if it is not cached yet.
+     * @return The cached or newly rendered raster.
+     */
+    BufferedImage rasterFor( Key key, Supplier<BufferedImage> renderer ) {
+        long tick = _clock.incrementAndGet();
+        Raster raster = _rasters.get(key);
+        if ( raster != null ) {
+            raster._lastAccess = tick;
+            return raster._image;
+        }
+        Raster rendered = new Raster(renderer.get(), tick);
+        _renders.incrementAndGet();
+        Raster existing = _rasters.putIfAbsent(key, rendered);
+        if ( existing != null )
+            return existing._image;
+        if ( _bytes.addAndGet(rendered._bytes) > _budget() )
+            _evictLeastRecentlyUsed(rendered);
+        return rendered._image;
+    }
+
+    private static long _budget() {
+        long configured = SwingTree.get().getIconCacheMemoryBudget();
+        if ( configured >= 0 )
+            return configured;
+        return Math.min(MAX_DYNAMIC_BUDGET, Runtime.getRuntime().maxMemory() / 32);
+    }
+
+    private void _evictLeastRecentlyUsed( Raster justAdded ) {
+        if ( !_evictionLock.tryLock() )
+            return; // Someone else is already evicting, there is no need to wait for them.
+        try {
+            long budget = _budget();
+            List<Map.Entry<Key, Raster>> entries = new ArrayList<>(_rasters.entrySet());
+            entries.sort( (a, b) -> Long.compare(a.getValue()._lastAccess, b.getValue()._lastAccess) );
+            for ( Map.Entry<Key, Raster> entry : entries ) {
+                if ( _bytes.get() <= budget )
+                    break;
+                Raster raster = entry.getValue();
+                if ( raster == justAdded )
+                    continue; // We never evict the raster we just added!
+                if ( _rasters.remove(entry.getKey(), raster) )
+                    _bytes.addAndGet(-raster._bytes);
+            }
+        } finally {
+            _evictionLock.unlock();
+        }
+    }
+
+    /**
+     *  Removes all cached rasters.
+     */
+    void clear() {
+        _evictionLock.lock();
+        try {
+            for ( Key key : new ArrayList<>(_rasters.keySet()) ) {
+                Raster removed = _rasters.remove(key);
+                if ( removed != null )
+                    _bytes.addAndGet(-removed._bytes);
+            }
+        } finally {
+            _evictionLock.unlock();
+        }
+    }
+
+    /**
+     * @return The number of rasters which are currently cached.
+     */
+    int size() { return _rasters.size(); }
+
+    /**
+     * @return The total number of rasters which had to be rendered because they were not cached.
+     */
+    long renders() { return _renders.get(); }
+}
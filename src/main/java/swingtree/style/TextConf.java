@@ -91,6 +91,7 @@ import java.util.function.Function;
  *  when applied to a component.
  */
 @Immutable
+@SuppressWarnings("Immutable")
 public final class TextConf implements Simplifiable<TextConf>
 {
     private static final Logger log = LoggerFactory.getLogger(TextConf.class);
@@ -115,6 +116,9 @@ public final class TextConf implements Simplifiable<TextConf>
     private final UI.Placement         _placement;
     private final Offset               _offset;
 
+    private boolean _wasAlreadyHashed = false;
+    private int     _hashCode         = 0; // cached hash code
+
     private TextConf(
         String               content,
         FontConf             fontConf,
@@ -356,7 +360,12 @@ public final class TextConf implements Simplifiable<TextConf>
 
     @Override
     public int hashCode() {
-        return Objects.hash(_content, _fontConf, _clipArea, _placementBoundary, _placement, _offset);
+        if ( _wasAlreadyHashed )
+            return _hashCode;
+
+        _hashCode = Objects.hash(_content, _fontConf, _clipArea, _placementBoundary, _placement, _offset);
+        _wasAlreadyHashed = true;
+        return _hashCode;
     }
 
     @Override
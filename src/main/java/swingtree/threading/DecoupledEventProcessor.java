@@ -1,57 +1,201 @@
 package swingtree.threading;
 
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import swingtree.UI;
 
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 
 /**
- * This is a synchronized singleton wrapping a {@link BlockingQueue}.
+ *  This is a thread safe singleton which decouples application events from the UI thread
+ *  by putting them into a queue which is processed by the thread joining it (see {@link #join()}).
+ *  <p>
+ *  Events are stored in a lock free queue, so that the UI thread never has to wait for a lock
+ *  when it registers an event. A lock is only involved when the application thread
+ *  runs out of events and has to go to sleep, or when the queue is full and the
+ *  {@link BackPressure#BLOCK} policy is used (see {@link #setBackPressure(BackPressure, int)}).
+ *  When the application thread wakes up, it processes all the pending events in one batch.
+ *  <p>
+ *  The processor keeps track of the current queue depth and how long events had to wait
+ *  in the queue before being processed, which helps to detect an application thread
+ *  that is falling behind.
  */
 public final class DecoupledEventProcessor implements EventProcessor
 {
 	private static final Logger log = org.slf4j.LoggerFactory.getLogger(DecoupledEventProcessor.class);
 
+	private static final int MAX_BATCH_SIZE = 256;
+
 	private static final DecoupledEventProcessor _INSTANCE = new DecoupledEventProcessor();
 
 	static DecoupledEventProcessor INSTANCE() { return _INSTANCE; }
 
 	/**
-	 * This is a simple queue for pending event calls which is thread safe and allows the
-	 * GUI thread to register application events.
+	 *  Defines what happens to a new application event when the queue of pending events
+	 *  has reached its capacity because the application thread is falling behind.
 	 */
-	private final BlockingQueue<Runnable> rendererQueue = new LinkedBlockingQueue<>();
+	public enum BackPressure
+	{
+		/**
+		 *  The capacity is ignored and events are always added to the queue.
+		 */
+		UNBOUNDED,
+		/**
+		 *  The thread registering the event waits until there is space in the queue again.
+		 *  Note that this also makes the UI thread wait if it registers events faster than
+		 *  they are processed. The application thread itself never waits, it
+		 *  runs the events it registers immediately instead.
+		 */
+		BLOCK,
+		/**
+		 *  The new event is dropped and a warning is logged.
+		 */
+		DROP_NEWEST,
+		/**
+		 *  The oldest pending event is dropped to make room for the new one,
+		 *  which is useful when only the most recent state matters.
+		 */
+		DROP_OLDEST
+	}
 
+	private static final class Task implements Runnable
+	{
+		private final Runnable _body;
+		private final long _enqueuedAt = System.nanoTime();
+		private final @Nullable CompletableFuture<?> _future;
 
-	@Override public void registerAppEvent(Runnable task ) {
-		try {
-			rendererQueue.put(task);
-		} catch (Exception e) {
-			log.error("Failed to register application event!", e);
+		private Task( Runnable body, @Nullable CompletableFuture<?> future ) {
+			_body   = body;
+			_future = future;
+		}
+
+		@Override public void run() { _body.run(); }
+
+		private void reject( String reason ) {
+			if ( _future != null )
+				_future.completeExceptionally(new RejectedExecutionException(reason));
+			else
+				log.warn(reason);
 		}
 	}
 
+	/**
+	 *  The pending application events, registered by the GUI thread (or any other thread)
+	 *  and consumed by the application thread.
+	 */
+	private final Queue<Task> _queue = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger _depth = new AtomicInteger(0); // The size of a ConcurrentLinkedQueue is O(n)!
+
+	private final ReentrantLock _lock     = new ReentrantLock();
+	private final Condition     _notEmpty = _lock.newCondition();
+	private final Condition     _notFull  = _lock.newCondition();
+	private final AtomicInteger _sleepingConsumers = new AtomicInteger(0);
+	private final AtomicInteger _blockedProducers  = new AtomicInteger(0);
+
+	private final ThreadLocal<Boolean> _isApplicationThread = ThreadLocal.withInitial(() -> false);
+
+	private volatile BackPressure _backPressure = BackPressure.UNBOUNDED;
+	private volatile int          _capacity     = Integer.MAX_VALUE;
+
+	private final LongAdder       _processed     = new LongAdder();
+	private final LongAdder       _dropped       = new LongAdder();
+	private final LongAdder       _totalLatency  = new LongAdder();
+	private final LongAccumulator _maxLatency    = new LongAccumulator(Math::max, 0);
+	private final LongAccumulator _maxQueueDepth = new LongAccumulator(Math::max, 0);
+
+
+	/**
+	 *  Configures how this processor reacts when the application thread falls behind,
+	 *  meaning when the number of pending application events reaches the given capacity.
+	 *  By default, the queue is unbounded.
+	 *
+	 * @param policy The {@link BackPressure} policy applied to new events when the queue is full.
+	 * @param capacity The maximum number of pending application events, which must be positive.
+	 * @throws IllegalArgumentException If the capacity is not positive.
+	 */
+	public void setBackPressure( BackPressure policy, int capacity ) {
+		Objects.requireNonNull(policy);
+		if ( capacity <= 0 )
+			throw new IllegalArgumentException("The queue capacity must be positive, but was " + capacity + ".");
+		_capacity     = capacity;
+		_backPressure = policy;
+		_signalNotFull(); // Blocked producers need to re-evaluate the new policy.
+	}
+
+	/**
+	 * @return The {@link BackPressure} policy applied to new events when the queue is full.
+	 */
+	public BackPressure getBackPressure() { return _backPressure; }
+
+	/**
+	 * @return The maximum number of pending application events before the {@link BackPressure} policy kicks in.
+	 */
+	public int getQueueCapacity() { return _capacity; }
+
+	@Override public void registerAppEvent( Runnable task ) {
+		Objects.requireNonNull(task);
+		_enqueue(new Task(task, null));
+	}
+
+	/**
+	 *  Adds the supplied task to the application event queue and returns a future
+	 *  which is completed once the task has been processed by the application thread.
+	 *  If the task throws an exception, or it is dropped due to the {@link BackPressure} policy,
+	 *  the future is completed exceptionally.
+	 *
+	 * @param task The task to be executed in the application thread.
+	 * @return A future which completes when the task has been processed.
+	 */
+	public CompletableFuture<@Nullable Void> submitAppEvent( Runnable task ) {
+		Objects.requireNonNull(task);
+		return supplyAppEvent( () -> {
+			task.run();
+			return null;
+		});
+	}
+
+	/**
+	 *  Adds the supplied task to the application event queue and returns a future
+	 *  which is completed with the result of the task once it has been processed by the application thread.
+	 *  If the task throws an exception, or it is dropped due to the {@link BackPressure} policy,
+	 *  the future is completed exceptionally.
+	 *
+	 * @param task The task to be executed in the application thread.
+	 * @param <T> The type of the result of the task.
+	 * @return A future which completes with the result of the task.
+	 */
+	public <T extends @Nullable Object> CompletableFuture<T> supplyAppEvent( Supplier<T> task ) {
+		Objects.requireNonNull(task);
+		CompletableFuture<T> future = new CompletableFuture<>();
+		_enqueue(new Task(() -> {
+			try {
+				future.complete(task.get());
+			} catch ( Throwable e ) {
+				future.completeExceptionally(e);
+			}
+		}, future));
+		return future;
+	}
+
 	@Override
-	public void registerAndRunAppEventNow(Runnable runnable ) {
-		// We add the task to the queue and then wait for it to be processed.
-		// This is a blocking call.
-		boolean[] done = new boolean[1];
+	public void registerAndRunAppEventNow( Runnable runnable ) {
+		if ( _isApplicationThread.get() ) {
+			runnable.run(); // Waiting for ourselves would be a deadlock!
+			return;
+		}
 		try {
-			rendererQueue.put(() -> {
-				runnable.run();
-				synchronized (done) {
-					done[0] = true;
-					done.notifyAll();
-					// notify the waiting thread, meaning the GUI/frontend thread,
-					// which is waiting for the task to be processed.
-				}
-			});
-			synchronized (done) {
-				while ( !done[0] ) done.wait();
-				// wait for the task to be processed. The wait is released by the notifyAll() call in the task.
-			}
-		} catch (Exception e) {
+			submitAppEvent(runnable).join();
+		} catch ( Exception e ) {
 			log.error("Failed to register and run application event!", e);
 		}
 	}
@@ -70,6 +214,214 @@ public final class DecoupledEventProcessor implements EventProcessor
 		}
 	}
 
+	/**
+	 * @return The number of application events which are currently waiting to be processed.
+	 */
+	public int queueDepth() { return _depth.get(); }
+
+	/**
+	 * @return The largest number of pending application events observed since the last {@link #resetMetrics()}.
+	 */
+	public long maxQueueDepth() { return _maxQueueDepth.get(); }
+
+	/**
+	 * @return The number of application events processed since the last {@link #resetMetrics()}.
+	 */
+	public long processedEvents() { return _processed.sum(); }
+
+	/**
+	 * @return The number of application events dropped due to the {@link BackPressure} policy
+	 *         since the last {@link #resetMetrics()}.
+	 */
+	public long droppedEvents() { return _dropped.sum(); }
+
+	/**
+	 * @return The average time in nanoseconds an application event waited in the queue
+	 *         before being processed, since the last {@link #resetMetrics()}.
+	 */
+	public long averageLatencyNanos() {
+		long processed = _processed.sum();
+		return processed == 0 ? 0 : _totalLatency.sum() / processed;
+	}
+
+	/**
+	 * @return The longest time in nanoseconds an application event waited in the queue
+	 *         before being processed, since the last {@link #resetMetrics()}.
+	 */
+	public long maxLatencyNanos() { return _maxLatency.get(); }
+
+	/**
+	 *  Resets all the metrics of this processor except for the current queue depth.
+	 */
+	public void resetMetrics() {
+		_processed.reset();
+		_dropped.reset();
+		_totalLatency.reset();
+		_maxLatency.reset();
+		_maxQueueDepth.reset();
+	}
+
+	private void _enqueue( Task task ) {
+		while ( true ) {
+			int depth = _depth.get();
+			if ( depth < _capacity || _backPressure == BackPressure.UNBOUNDED ) {
+				if ( _depth.compareAndSet(depth, depth + 1) )
+					break;
+				else
+					continue;
+			}
+			switch ( _backPressure ) {
+				case DROP_NEWEST:
+					_dropped.increment();
+					task.reject("Dropped application event because the application thread is falling behind.");
+					return;
+				case DROP_OLDEST:
+					Task oldest = _queue.poll();
+					if ( oldest != null ) {
+						_depth.decrementAndGet();
+						_dropped.increment();
+						oldest.reject("Dropped application event because the application thread is falling behind.");
+					}
+					break;
+				case BLOCK:
+					if ( _isApplicationThread.get() ) {
+						// We would wait for ourselves, so we process the event right away instead.
+						_process(task, false);
+						return;
+					}
+					if ( !_awaitNotFull() ) {
+						_dropped.increment();
+						task.reject("Interrupted while waiting to register an application event.");
+						return;
+					}
+					break;
+				default:
+					break;
+			}
+		}
+		_queue.offer(task);
+		_maxQueueDepth.accumulate(_depth.get());
+		if ( _sleepingConsumers.get() > 0 )
+			_signalNotEmpty();
+	}
+
+	private boolean _awaitNotFull() {
+		_lock.lock();
+		try {
+			_blockedProducers.incrementAndGet();
+			try {
+				while ( _backPressure == BackPressure.BLOCK && _depth.get() >= _capacity )
+					_notFull.await();
+			} finally {
+				_blockedProducers.decrementAndGet();
+			}
+			return true;
+		} catch ( InterruptedException e ) {
+			Thread.currentThread().interrupt();
+			return false;
+		} finally {
+			_lock.unlock();
+		}
+	}
+
+	private void _signalNotEmpty() {
+		_lock.lock();
+		try {
+			_notEmpty.signalAll();
+		} finally {
+			_lock.unlock();
+		}
+	}
+
+	private void _signalNotFull() {
+		if ( _blockedProducers.get() == 0 )
+			return;
+		_lock.lock();
+		try {
+			_notFull.signalAll();
+		} finally {
+			_lock.unlock();
+		}
+	}
+
+	private void _awaitNotEmpty() throws InterruptedException {
+		if ( !_queue.isEmpty() )
+			return;
+		_lock.lock();
+		try {
+			_sleepingConsumers.incrementAndGet();
+			try {
+				/*
+					A producer first offers its event and then checks for sleeping consumers,
+					whereas we first register as sleeping and then check the queue,
+					so at least one of us will notice the other.
+				*/
+				while ( _queue.isEmpty() )
+					_notEmpty.await();
+			} finally {
+				_sleepingConsumers.decrementAndGet();
+			}
+		} finally {
+			_lock.unlock();
+		}
+	}
+
+	/**
+	 *  Waits for pending events and then processes up to {@link #MAX_BATCH_SIZE} of them in one go.
+	 */
+	private void _processBatch( boolean rethrow ) throws InterruptedException {
+		_awaitNotEmpty();
+		try {
+			for ( int i = 0; i < MAX_BATCH_SIZE; i++ ) {
+				Task task = _poll();
+				if ( task == null )
+					break;
+				_process(task, rethrow);
+			}
+		} finally {
+			_signalNotFull();
+		}
+	}
+
+	private @Nullable Task _poll() {
+		Task task = _queue.poll();
+		if ( task != null )
+			_depth.decrementAndGet();
+		return task;
+	}
+
+	private Task _take() throws InterruptedException {
+		while ( true ) {
+			_awaitNotEmpty();
+			Task task = _poll();
+			if ( task != null ) {
+				_signalNotFull();
+				return task;
+			}
+			// Another consumer was faster, so we wait again.
+		}
+	}
+
+	private void _process( Task task, boolean rethrow ) {
+		long latency = System.nanoTime() - task._enqueuedAt;
+		_totalLatency.add(latency);
+		_maxLatency.accumulate(latency);
+		_processed.increment();
+		boolean wasApplicationThread = _isApplicationThread.get();
+		_isApplicationThread.set(true);
+		try {
+			task.run();
+		} catch ( RuntimeException e ) {
+			if ( rethrow )
+				throw e;
+			else
+				log.error("An exception occurred while processing an event!", e);
+		} finally {
+			if ( !wasApplicationThread )
+				_isApplicationThread.remove();
+		}
+	}
+
 	/**
 	 * This method is called by a thread to process all GUI events, this should be the application's main thread.
 	 * @param rethrow If true, any exception thrown by the event handler will be rethrown.
@@ -79,7 +431,7 @@ public final class DecoupledEventProcessor implements EventProcessor
 	void join( boolean rethrow ) throws InterruptedException {
 		while ( true ) {
 			try {
-				this.rendererQueue.take().run();
+				_processBatch(rethrow);
 			} catch (Exception e) {
 				if (rethrow)
 					throw e;
@@ -141,7 +493,7 @@ public final class DecoupledEventProcessor implements EventProcessor
 	public void joinFor( long numberOfEvents ) {
 		for ( long i = 0; i < numberOfEvents; i++ ) {
 			try {
-				this.rendererQueue.take().run();
+				_process(_take(), false);
 			} catch (Exception e) {
 				log.error("An exception occurred while processing an event!", e);
 			}
@@ -164,7 +516,7 @@ public final class DecoupledEventProcessor implements EventProcessor
 	 */
 	public void joinUntilExceptionFor( long numberOfEvents ) throws InterruptedException {
 		for ( long i = 0; i < numberOfEvents; i++ )
-			this.rendererQueue.take().run();
+			_process(_take(), true);
 	}
 
 	/**
@@ -179,8 +531,15 @@ public final class DecoupledEventProcessor implements EventProcessor
 	 * @throws InterruptedException If the thread is interrupted while waiting.
 	 */
 	public void joinUntilDoneOrException() throws InterruptedException {
-		while ( !this.rendererQueue.isEmpty() )
-			this.rendererQueue.take().run();
+		try {
+			Task task = _poll();
+			while ( task != null ) {
+				_process(task, true);
+				task = _poll();
+			}
+		} finally {
+			_signalNotFull();
+		}
 	}
 
 }
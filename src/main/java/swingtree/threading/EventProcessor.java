@@ -35,7 +35,8 @@ package swingtree.threading;
  *  }</pre>
  * 	Note that by default, Swing-Tree uses a simple event processor which does not delegate GUI events to a separate thread.
  * 	So if you want to activate this powerful feature you have to change the event processor. <br>
- * 	See {@link EventProcessor#COUPLED}, {@link EventProcessor#COUPLED_STRICT} and {@link EventProcessor#DECOUPLED}.
+ * 	See {@link EventProcessor#COUPLED}, {@link EventProcessor#COUPLED_STRICT}, {@link EventProcessor#DECOUPLED},
+ * 	{@link EventProcessor#VIRTUAL_THREADS} and {@link EventProcessor#workerPool(int)}.
  */
 public interface EventProcessor
 {
@@ -63,6 +64,29 @@ public interface EventProcessor
 	 *  executed on the GUI thread (AWT Event Dispatch Thread).
 	 */
 	DecoupledEventProcessor DECOUPLED = DecoupledEventProcessor.INSTANCE();
+	/**
+	 *  This event processor runs every application event on its own thread,
+	 *  which is a virtual thread on Java 21 or later and a pooled platform thread otherwise,
+	 *  whereas UI events are executed on the GUI thread (AWT Event Dispatch Thread).
+	 *  Unlike {@link #DECOUPLED}, it does not need an application thread to join it,
+	 *  but application events are also not processed in any particular order.
+	 */
+	EventProcessor VIRTUAL_THREADS = new VirtualThreadEventProcessor();
+
+	/**
+	 *  Creates an event processor which processes application events on the given number of worker threads,
+	 *  whereas UI events are executed on the GUI thread (AWT Event Dispatch Thread).
+	 *  The application events triggered by the same component are processed in the order in which they occurred,
+	 *  but a slow event handler of one component does not block the events of unrelated components.
+	 *  Like {@link #VIRTUAL_THREADS}, it does not need an application thread to join it.
+	 *
+	 * @param numberOfWorkers The number of worker threads, which must be positive.
+	 * @return A new event processor backed by its own pool of worker threads.
+	 * @throws IllegalArgumentException If the number of workers is not positive.
+	 */
+	static EventProcessor workerPool( int numberOfWorkers ) {
+		return new WorkerPoolEventProcessor(numberOfWorkers);
+	}
 
 	/**
 	 *   Adds the supplied task to an event queue for processing application events.
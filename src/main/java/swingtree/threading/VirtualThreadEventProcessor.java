@@ -0,0 +1,131 @@
+package swingtree.threading;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import swingtree.UI;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ *  An {@link EventProcessor} which runs every application event on its own virtual thread,
+ *  so that a slow event handler never delays any other event. <br>
+ *  Virtual threads are only available from Java 21 onwards, which is why they are
+ *  looked up reflectively. On older runtimes, this processor falls back to a cached pool
+ *  of platform daemon threads, which are reused for subsequent events and
+ *  terminated after being idle for a while. <br>
+ *  Note that there is no ordering guarantee between application events,
+ *  if you need events of the same component to be processed in order,
+ *  use {@link EventProcessor#workerPool(int)} instead.
+ *  UI events are executed on the AWT event dispatch thread.
+ */
+final class VirtualThreadEventProcessor implements EventProcessor
+{
+    private static final Logger log = org.slf4j.LoggerFactory.getLogger(VirtualThreadEventProcessor.class);
+
+    private static final ThreadLocal<Boolean> _IS_EVENT_THREAD = ThreadLocal.withInitial(() -> false);
+
+    private @Nullable ExecutorService _executor = null;
+
+
+    private synchronized ExecutorService _executor() {
+        ExecutorService executor = _executor;
+        if ( executor == null ) {
+            executor = _tryCreatingVirtualThreadExecutor();
+            if ( executor == null ) {
+                AtomicInteger threadCount = new AtomicInteger(0);
+                executor = new ThreadPoolExecutor(
+                                0, Integer.MAX_VALUE, 30, TimeUnit.SECONDS,
+                                new SynchronousQueue<>(),
+                                runnable -> {
+                                    Thread thread = new Thread(runnable, "SwingTree-App-Event-" + threadCount.incrementAndGet());
+                                    thread.setDaemon(true);
+                                    return thread;
+                                }
+                            );
+            }
+            _executor = executor;
+        }
+        return executor;
+    }
+
+    private static @Nullable ExecutorService _tryCreatingVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch ( NoSuchMethodException e ) {
+            log.debug("Virtual threads are not supported by this runtime, falling back to platform threads.");
+        } catch ( Exception e ) {
+            log.warn("Failed to create a virtual thread executor, falling back to platform threads.", e);
+        }
+        return null;
+    }
+
+    /**
+     * @return {@code true} if this processor runs application events on virtual threads,
+     *         {@code false} if it had to fall back to platform threads.
+     */
+    boolean usesVirtualThreads() {
+        return !( _executor() instanceof ThreadPoolExecutor );
+    }
+
+    private Future<?> _submit( Runnable runnable ) {
+        return _executor().submit(() -> {
+            _IS_EVENT_THREAD.set(true);
+            try {
+                runnable.run();
+            } finally {
+                _IS_EVENT_THREAD.remove();
+            }
+        });
+    }
+
+    @Override
+    public void registerAppEvent( Runnable runnable ) {
+        Objects.requireNonNull(runnable);
+        try {
+            _submit(() -> {
+                try {
+                    runnable.run();
+                } catch ( Exception e ) {
+                    log.error("An exception occurred while processing an application event!", e);
+                }
+            });
+        } catch ( Exception e ) {
+            log.error("Failed to register application event!", e);
+        }
+    }
+
+    @Override
+    public void registerAndRunAppEventNow( Runnable runnable ) {
+        Objects.requireNonNull(runnable);
+        if ( _IS_EVENT_THREAD.get() ) {
+            runnable.run(); // We are already on an application thread, so there is no need to wait for another one.
+            return;
+        }
+        try {
+            _submit(runnable).get();
+        } catch ( Exception e ) {
+            log.error("Failed to register and run application event!", e);
+        }
+    }
+
+    @Override
+    public void registerUIEvent( Runnable runnable ) {
+        UI.run(runnable);
+    }
+
+    @Override
+    public void registerAndRunUIEventNow( Runnable runnable ) {
+        try {
+            UI.runNow(runnable);
+        } catch ( Exception e ) {
+            log.error("Failed to register and run UI event!", e);
+        }
+    }
+}
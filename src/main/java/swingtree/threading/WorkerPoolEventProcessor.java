@@ -0,0 +1,193 @@
+package swingtree.threading;
+
+import org.slf4j.Logger;
+import swingtree.UI;
+
+import java.awt.AWTEvent;
+import java.awt.EventQueue;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ *  An {@link EventProcessor} which processes application events on a fixed number of
+ *  worker threads, so that a slow event handler of one component does not block the
+ *  events of unrelated components. <br>
+ *  Events are still processed in the order in which they were registered
+ *  if they belong to the same key, which is the component whose AWT event
+ *  is currently being dispatched when the event is registered on the UI thread,
+ *  or the registering thread itself otherwise.
+ *  Events with the same key are serialized through one of several strands,
+ *  which are queues that are processed by at most one worker at a time.
+ *  Unrelated keys may share a strand, in which case their events are also processed in order.
+ *  <br>
+ *  UI events are executed on the AWT event dispatch thread.
+ */
+final class WorkerPoolEventProcessor implements EventProcessor
+{
+    private static final Logger log = org.slf4j.LoggerFactory.getLogger(WorkerPoolEventProcessor.class);
+
+    private static final int STRANDS_PER_WORKER = 4;
+    private static final int MAX_BATCH_SIZE     = 64; // A busy strand gives other strands a chance after this many events.
+
+    private static final AtomicInteger _POOL_COUNT = new AtomicInteger(0);
+
+    private static final ThreadLocal<Boolean> _IS_WORKER_THREAD = ThreadLocal.withInitial(() -> false);
+
+
+    /**
+     *  A queue of events which is processed by at most one worker at a time.
+     */
+    private final class Strand implements Runnable
+    {
+        private final Queue<Runnable> _events    = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean   _scheduled = new AtomicBoolean(false);
+
+        void add( Runnable event ) {
+            _events.offer(event);
+            if ( _scheduled.compareAndSet(false, true) )
+                _schedule();
+        }
+
+        private void _schedule() {
+            try {
+                _workers.execute(this);
+            } catch ( Exception e ) {
+                _scheduled.set(false);
+                log.error("Failed to schedule the processing of application events!", e);
+            }
+        }
+
+        @Override
+        public void run() {
+            _IS_WORKER_THREAD.set(true);
+            try {
+                for ( int i = 0; i < MAX_BATCH_SIZE; i++ ) {
+                    Runnable event = _events.poll();
+                    if ( event == null )
+                        break;
+                    _process(event);
+                }
+            } finally {
+                _IS_WORKER_THREAD.remove();
+                _scheduled.set(false);
+                // Events may have been added after our last poll, in which case we have to make sure they are processed:
+                if ( !_events.isEmpty() && _scheduled.compareAndSet(false, true) )
+                    _schedule();
+            }
+        }
+    }
+
+    private final ThreadPoolExecutor _workers;
+    private final Strand[]           _strands;
+
+
+    WorkerPoolEventProcessor( int numberOfWorkers ) {
+        if ( numberOfWorkers <= 0 )
+            throw new IllegalArgumentException("The number of workers must be positive, but was " + numberOfWorkers + ".");
+        int poolId = _POOL_COUNT.incrementAndGet();
+        AtomicInteger threadCount = new AtomicInteger(0);
+        _workers = new ThreadPoolExecutor(
+                        numberOfWorkers, numberOfWorkers, 30, TimeUnit.SECONDS,
+                        new LinkedBlockingQueue<>(),
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "SwingTree-App-Worker-" + poolId + "-" + threadCount.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                    );
+        _workers.allowCoreThreadTimeOut(true); // Idle workers should not keep threads alive.
+        _strands = new Strand[numberOfWorkers * STRANDS_PER_WORKER];
+        for ( int i = 0; i < _strands.length; i++ )
+            _strands[i] = new Strand();
+    }
+
+    /**
+     * @return The number of worker threads processing the application events.
+     */
+    int numberOfWorkers() { return _workers.getMaximumPoolSize(); }
+
+    /**
+     *  Adds the supplied task to the queue of the given key, so that it is processed
+     *  by one of the workers after all the events previously registered for the same key.
+     *
+     * @param key The key whose events must be processed in order, typically a component.
+     * @param runnable The task to be executed by a worker thread.
+     */
+    void registerAppEvent( Object key, Runnable runnable ) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(runnable);
+        _strandFor(key).add(runnable);
+    }
+
+    private Strand _strandFor( Object key ) {
+        int hash = System.identityHashCode(key);
+        hash ^= ( hash >>> 16 ); // We spread the higher bits, because identity hash codes are not very random.
+        return _strands[ ( hash & 0x7fffffff ) % _strands.length ];
+    }
+
+    private static Object _currentKey() {
+        if ( UI.thisIsUIThread() ) {
+            AWTEvent event = EventQueue.getCurrentEvent();
+            if ( event != null && event.getSource() != null )
+                return event.getSource();
+        }
+        return Thread.currentThread();
+    }
+
+    private static void _process( Runnable event ) {
+        try {
+            event.run();
+        } catch ( Exception e ) {
+            log.error("An exception occurred while processing an application event!", e);
+        }
+    }
+
+    @Override
+    public void registerAppEvent( Runnable runnable ) {
+        registerAppEvent(_currentKey(), runnable);
+    }
+
+    @Override
+    public void registerAndRunAppEventNow( Runnable runnable ) {
+        Objects.requireNonNull(runnable);
+        if ( _IS_WORKER_THREAD.get() ) {
+            runnable.run(); // Waiting for another worker could deadlock the pool.
+            return;
+        }
+        CompletableFuture<Boolean> done = new CompletableFuture<>();
+        registerAppEvent(_currentKey(), () -> {
+            try {
+                runnable.run();
+                done.complete(true);
+            } catch ( Throwable e ) {
+                done.completeExceptionally(e);
+            }
+        });
+        try {
+            done.join();
+        } catch ( Exception e ) {
+            log.error("Failed to register and run application event!", e);
+        }
+    }
+
+    @Override
+    public void registerUIEvent( Runnable runnable ) {
+        UI.run(runnable);
+    }
+
+    @Override
+    public void registerAndRunUIEventNow( Runnable runnable ) {
+        try {
+            UI.runNow(runnable);
+        } catch ( Exception e ) {
+            log.error("Failed to register and run UI event!", e);
+        }
+    }
+}
@@ -147,6 +147,41 @@ class Animations_Spec extends Specification
             progressValues[2] == new ArrayList(progressValues[2]).sort().reverse()
     }
 
+    def 'Animations with different intervals are advanced by a single frame clock.'()
+    {
+        reportInfo """
+            All running animations are advanced in the ticks of a single frame clock,
+            which ticks at the smallest interval of all running animations.
+            Animations with a larger interval are only advanced on the ticks where they are due.
+            The statistics of the frame clock can be accessed through `AnimationStats.current()`,
+            which is useful for monitoring animation heavy applications.
+        """
+        given : 'We remember the number of frames the clock has rendered so far.'
+            var framesBefore = AnimationStats.current().frames()
+        and : 'Two lists for recording the progress of two animations.'
+            var fast = []
+            var slow = []
+        when : 'We schedule a fast and a slow animation at the same time...'
+            UI.runNow( () -> {
+                UI.animateFor(LifeTime.of(0.5, TimeUnit.SECONDS).withInterval(10, TimeUnit.MILLISECONDS))
+                  .go( status -> fast << status.progress() )
+                UI.animateFor(LifeTime.of(0.5, TimeUnit.SECONDS).withInterval(100, TimeUnit.MILLISECONDS))
+                  .go( status -> slow << status.progress() )
+            })
+        and : 'We wait for both of them to finish.'
+            Wait.until({ !fast.isEmpty() && !slow.isEmpty() && fast.last() == 1 && slow.last() == 1 }, 3_000)
+            Thread.sleep(100)
+            UI.sync()
+        then : 'Both animations ran to their end, but the fast one was advanced much more often.'
+            fast.last() == 1
+            slow.last() == 1
+            fast.size() > slow.size()
+        and : 'The frame clock recorded the frames in which the animations were advanced.'
+            var stats = UI.runAndGet( () -> AnimationStats.current() )
+            stats.frames() > framesBefore
+            stats.maxFrameNanos() >= stats.averageFrameNanos()
+    }
+
     def 'The event delegation object of a user event can be used to register animations.'()
     {
         reportInfo """
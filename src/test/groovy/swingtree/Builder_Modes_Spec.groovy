@@ -6,6 +6,7 @@ import spock.lang.Subject
 import spock.lang.Title
 
 import javax.swing.JComponent
+import javax.swing.JLabel
 import javax.swing.JPanel
 
 @Title("Builder, Factory or Wrapper?")
@@ -128,4 +129,31 @@ class Builder_Modes_Spec extends Specification
             builder.get(JPanel) === panel
             builder.get(JPanel) === panel
     }
+
+    def 'A factory builder records its chain of builder calls as a flat template to create many components at once.'()
+    {
+        reportInfo """
+            A factory builder does not nest a new factory function into the previous one
+            for every method call in the builder chain. Instead, it records the calls
+            in a flat template which is prepared once and then applied to every new component.
+            This lets you stamp out many identical components in one go using `getAll`.
+        """
+        given : 'A factory builder with a chain of a few builder calls.'
+            var builder = UI.label("Entry").withTooltip("An entry").isEnabledIf(false).withMinWidth(42)
+        when : 'We create a few labels at once.'
+            var labels = builder.getAll(JLabel, 3)
+        then : 'We get three distinct labels, each of which was built by the entire chain.'
+            labels.size() == 3
+            labels.toSet().size() == 3
+            labels.every({ it.text == "Entry" && it.toolTipText == "An entry" && !it.enabled })
+        and : 'The calls are stored in a single flat template instead of a stack of nested factories.'
+            builder._state()._componentFetcher instanceof ComponentTemplate
+            builder._state()._componentFetcher.numberOfMutators() >= 4
+
+        when : 'We try to do the same with a builder wrapping an existing component.'
+            UI.of(new JPanel()).getAll(JPanel, 3)
+        then : 'This is not possible, because such a builder does not create new components.'
+            thrown(IllegalStateException)
+    }
+
 }
@@ -702,4 +702,38 @@ class Combo_Box_Spec extends Specification
             rendered[6] == "Day: SUNDAY"
     }
 
+    def 'The cell renderer of a combo box dispatches repeatedly rendered items by their concrete type.'()
+    {
+        reportInfo """
+            The renderer resolves which of your cell configurators apply to an item
+            based on the concrete type of the item, and it remembers this
+            for every type it has encountered before, so that rendering
+            many cells of the same type does not require a lookup every single time.
+            No matter how often and in which order items are rendered,
+            every item is always rendered by the configurators of its own type.
+        """
+        given : 'A combo box with items of different types and type specific renderers.'
+            var combo =
+                    UI.comboBox(new Object[]{":-)", 42L, 'x' as char, 3.14d})
+                    .withCells( it -> it
+                        .when(String).asText( cell -> "String: "+cell.entryAsString() )
+                        .when(Character).asText( cell -> "Char: "+cell.entryAsString() )
+                        .when(Number).asText( cell -> "Number: "+cell.entryAsString() )
+                    )
+                    .get(JComboBox)
+            var renderer = combo.renderer
+            var fakeJList = new JList<Object>()
+
+        when : 'We render the items many times in an interleaved order.'
+            var rendered = UI.runAndGet(()->
+                (1..3).collectMany({ [
+                    renderer.getListCellRendererComponent(fakeJList, 42L, 1, false, false).text,
+                    renderer.getListCellRendererComponent(fakeJList, ":-)", 0, false, false).text,
+                    renderer.getListCellRendererComponent(fakeJList, 3.14d, 3, false, false).text,
+                    renderer.getListCellRendererComponent(fakeJList, 'x' as char, 2, false, false).text
+                ] })
+            )
+        then : 'Every item is rendered according to its own type.'
+            rendered == (1..3).collectMany({ ["Number: 42", "String: :-)", "Number: 3.14", "Char: x"] })
+    }
 }
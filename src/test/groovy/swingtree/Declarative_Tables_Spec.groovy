@@ -5,9 +5,11 @@ import spock.lang.Specification
 import spock.lang.Subject
 import spock.lang.Title
 import sprouts.Event
+import sprouts.Vars
 import swingtree.threading.EventProcessor
 
 import javax.swing.*
+import javax.swing.event.TableModelEvent
 import java.awt.*
 
 @Title("Creating Tables")
@@ -73,6 +75,131 @@ class Declarative_Tables_Spec extends Specification
             table.getValueAt(2, 1) == "z"
     }
 
+    def 'A map based table model picks up structural changes of its map when its update event is fired.'()
+    {
+        reportInfo """
+            A map based table model materializes the columns and the row count
+            of the map once every time the table data changes, so that the cells
+            of even very wide tables can be accessed in constant time.
+            This is why you have to fire an update event after adding
+            rows or columns to the map, like for any other table data source.
+        """
+        given : 'A mutable map of columns and an update event.'
+            var data = ["X": ["a", "b"], "Y": ["1", "2"]] // A LinkedHashMap in Groovy
+            var event = Event.create()
+        and : 'A map based table which is updated by the event.'
+            var table =
+                    UI.table(UI.MapData.EDITABLE, { data })
+                    .updateTableOn(event)
+                    .get(JTable)
+
+        expect : 'The table reflects the initial state of the map.'
+            table.getColumnCount() == 2
+            table.getRowCount() == 2
+            table.getValueAt(1, 1) == "2"
+
+        when : 'We add a column with more rows to the map and fire the update event...'
+            data.put("Z", ["x", "y", "z"])
+            event.fire()
+            UI.sync()
+        then : 'The table has the new column and rows.'
+            table.getColumnCount() == 3
+            table.getColumnName(2) == "Z"
+            table.getRowCount() == 3
+            table.getValueAt(2, 2) == "z"
+        and : 'The cells of shorter columns are empty.'
+            table.getValueAt(2, 0) == null
+    }
+
+    def 'A table bound to a `Vars` list of row objects only updates the rows which actually changed.'()
+    {
+        reportInfo """
+            Instead of telling the table that its whole structure changed
+            whenever the data changes, you can bind a `Vars` property list
+            of row objects to the table using `withRows(..)`.
+            The changes of the property list are then translated into table model events
+            which only insert, delete or update exactly the affected rows,
+            which preserves the selection, column widths and sorting of the table.
+        """
+        given : 'A property list of row objects.'
+            var rows = Vars.of("Apple", "Banana", "Cherry")
+        and : 'A table which displays the rows and their lengths.'
+            var table =
+                    UI.table()
+                    .withRows( rows, ["Fruit", "Length"], (row, col) -> col == 0 ? row : row.length() )
+                    .get(JTable)
+        and : 'A listener which records the table model events.'
+            var events = []
+            table.model.addTableModelListener( e -> events << [e.type, e.firstRow, e.lastRow] )
+
+        expect : 'The table displays the initial rows.'
+            table.rowCount == 3
+            table.columnCount == 2
+            table.getColumnName(0) == "Fruit"
+            table.getValueAt(1, 0) == "Banana"
+            table.getValueAt(1, 1) == 6
+
+        when : 'We add, change and remove single rows...'
+            rows.add("Date")
+            rows.setAt(0, "Apricot")
+            rows.removeAt(1)
+            UI.sync()
+        then : 'The table reflects the new state of the property list.'
+            table.rowCount == 3
+            table.getValueAt(0, 0) == "Apricot"
+            table.getValueAt(1, 0) == "Cherry"
+            table.getValueAt(2, 0) == "Date"
+        and : 'Only the affected rows were inserted, updated and deleted.'
+            events == [
+                [TableModelEvent.INSERT, 3, 3],
+                [TableModelEvent.UPDATE, 0, 0],
+                [TableModelEvent.DELETE, 1, 1]
+            ]
+    }
+
+    def 'A sorted table bound to a `Vars` list of row objects stays consistent when the rows change quickly.'()
+    {
+        reportInfo """
+            The changes of a property list are delivered to the table on the UI thread,
+            so by the time a change arrives, the property list may already have changed again.
+            The table model of `withRows(..)` keeps its own copy of the rows,
+            which it updates change by change, so that the row count always matches
+            the table model events, which is what the row sorter of a table relies on.
+        """
+        given : 'A property list of row objects.'
+            var rows = Vars.of("Cherry", "Apple", "Banana")
+        and : 'A table which displays the rows and sorts them automatically.'
+            var table =
+                    UI.table()
+                    .withRows( rows, ["Fruit", "Length"], (row, col) -> col == 0 ? row : row.length() )
+                    .get(JTable)
+            UI.runNow({
+                table.setAutoCreateRowSorter(true)
+                table.rowSorter.setSortKeys([new RowSorter.SortKey(0, SortOrder.ASCENDING)])
+            })
+        and : 'A listener which records the table model events and the row count at the time of the event.'
+            var events = []
+            table.model.addTableModelListener( e -> events << [e.type, e.firstRow, e.lastRow, table.model.rowCount] )
+
+        when : 'We make several changes before the UI thread gets to process any of them.'
+            rows.add("Date")
+            rows.setAt(0, "Apricot")
+            rows.removeAt(1)
+            rows.addAt(0, "Fig")
+            UI.sync()
+        then : 'Every event was fired when the model had exactly the rows described by the event.'
+            events == [
+                [TableModelEvent.INSERT, 3, 3, 4],
+                [TableModelEvent.UPDATE, 0, 0, 4],
+                [TableModelEvent.DELETE, 1, 1, 3],
+                [TableModelEvent.INSERT, 0, 0, 4]
+            ]
+        and : 'The row sorter was able to follow the changes, so the table still displays the rows sorted.'
+            table.rowSorter.viewRowCount == 4
+            (0..<4).collect({ table.getValueAt(it, 0) }) == ["Apricot", "Banana", "Date", "Fig"]
+            table.getValueAt(3, 1) == 3
+    }
+
     def 'We can pass an `Event` to the table model to trigger updates.'()
     {
         reportInfo """
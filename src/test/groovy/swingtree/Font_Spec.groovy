@@ -79,4 +79,27 @@ class Font_Spec extends Specification
         where :
             scalingFactor << [1f, 1.25f, 1.5f, 1.75f, 2f]
     }
+
+    def 'Fonts derived from the same font style are shared instead of being derived again for every render.'()
+    {
+        reportInfo """
+            Whenever styled text is rendered, a font has to be derived from the
+            font of the component and the font style. Deriving a font is expensive,
+            which is why SwingTree interns the derived fonts, so that the same base font
+            and font style always yield the very same font instance.
+        """
+        given : 'A base font and two equal font styles.'
+            var base = new Font(Font.DIALOG, Font.PLAIN, 12)
+            var style1 = swingtree.style.FontConf.none().size(17).color(java.awt.Color.RED)
+            var style2 = swingtree.style.FontConf.none().size(17).color(java.awt.Color.RED)
+            var label = new javax.swing.JLabel()
+        when : 'We derive fonts from the base font using both styles.'
+            var font1 = style1.createDerivedFrom(base, label).get()
+            var font2 = style2.createDerivedFrom(base, label).get()
+        then : 'Both fonts have the requested size and are in fact the same instance.'
+            font1.size == 17
+            font1.is(font2)
+        and : 'A style which does not change the base font yields no derived font at all.'
+            !swingtree.style.FontConf.none().size(12).createDerivedFrom(base, label).isPresent()
+    }
 }
@@ -266,4 +266,102 @@ class Icon_Spec extends Specification
             icon2.get().getIconWidth() == 192
             icon2.get().getIconHeight() == 768
     }
+
+    def 'Icons can be loaded in the background, and the icon cache is bounded by a memory budget.'()
+    {
+        reportInfo """
+            Loading and decoding images can take a while, which is why you
+            may want to load them on a background thread instead of the EDT
+            using `UI.findIconAsync(..)`, or preload all icons of an `IconDeclaration`
+            enum at startup using `UI.preloadIcons(..)`.
+            The loaded icons end up in the icon cache, which is safe to use
+            from multiple threads and bounded by a memory budget,
+            so that the least recently used icons are evicted.
+        """
+        given : 'An empty icon cache.'
+            var cache = SwingTree.get().getIconCache()
+            cache.clear()
+        when : 'We load an icon in the background and wait for it.'
+            var icon = UI.findIconAsync("img/seed.png").get(10, java.util.concurrent.TimeUnit.SECONDS)
+        then : 'The icon was found and put into the cache.'
+            icon.isPresent()
+            cache.get(IconDeclaration.of("img/seed.png")) === icon.get()
+        and : 'Loading it again completes immediately with the cached icon.'
+            UI.findIconAsync("img/seed.png").isDone()
+
+        when : 'We preload multiple icons at once.'
+            UI.preloadIcons([IconDeclaration.of("img/swing.png"), IconDeclaration.of("img/trees.png")])
+              .get(10, java.util.concurrent.TimeUnit.SECONDS)
+        then : 'They are all cached.'
+            cache.containsKey(IconDeclaration.of("img/swing.png"))
+            cache.containsKey(IconDeclaration.of("img/trees.png"))
+
+        when : 'We shrink the memory budget of the cache to a single byte and load another icon.'
+            SwingTree.get().setIconCacheMemoryBudget(1)
+            UI.findIcon(IconDeclaration.of("img/seed.png").withSize(20, 20))
+        then : 'Only the icon which was added last is kept, everything else was evicted.'
+            cache.size() == 1
+            cache.containsKey(IconDeclaration.of("img/seed.png").withSize(20, 20))
+
+        cleanup :
+            SwingTree.get().setIconCacheMemoryBudget(-1)
+            SwingTree.get().getIconCache().clear()
+    }
+
+    def 'Image icons are scaled into cached and screen compatible buffered images.'()
+    {
+        reportInfo """
+            When SwingTree scales an image icon to a specific size,
+            (for example through `UI.scaleIconTo(..)` or a `ScalableImageIcon`),
+            it produces a `BufferedImage` instead of the slow, lazily produced images
+            created by `Image.getScaledInstance(..)`.
+            Large reductions are done in multiple steps for a smooth result,
+            and every scaled variant of an image is cached, so that
+            scaling the same image to the same size again is free.
+        """
+        given : 'A large image icon which is not cached.'
+            var source = new javax.swing.ImageIcon(new java.awt.image.BufferedImage(400, 300, java.awt.image.BufferedImage.TYPE_INT_RGB))
+        when : 'We scale it down to a small size.'
+            var scaled = UI.scaleIconTo(Size.of(40, 30), source)
+        then : 'The scaled icon has the requested size and is backed by a buffered image.'
+            scaled.getIconWidth() == 40
+            scaled.getIconHeight() == 30
+            ((javax.swing.ImageIcon) scaled).getImage() instanceof java.awt.image.BufferedImage
+        and : 'Scaling it to the same size again reuses the cached image.'
+            ((javax.swing.ImageIcon) UI.scaleIconTo(Size.of(40, 30), source)).getImage() === ((javax.swing.ImageIcon) scaled).getImage()
+    }
+
+    def 'A placeholder icon can be displayed by a disabled label before and after it was loaded.'()
+    {
+        reportInfo """
+            A placeholder returned by `UI.findIconOrPlaceholder(..)` is backed by
+            a transparent image of the declared size, which is what a disabled
+            label or button turns into a grayed out disabled icon.
+            Once the real icon is loaded, the derived disabled icon is reset,
+            so that it shows a grayed out version of the real icon instead.
+        """
+        given : 'A placeholder for an icon declared with a size of 12 by 12 pixels.'
+            var placeholder = new PlaceholderIcon(IconDeclaration.of("img/seed.png").withSize(12, 12))
+        and : 'A label which painted the placeholder before it was disabled.'
+            var label = new javax.swing.JLabel(placeholder)
+            label.setSize(30, 30)
+            label.paint(new java.awt.image.BufferedImage(30, 30, java.awt.image.BufferedImage.TYPE_INT_ARGB).getGraphics())
+            label.setEnabled(false)
+        expect : 'The placeholder has an image, so the label can derive a disabled icon from it.'
+            placeholder.getImage() != null
+            label.getDisabledIcon() != null
+            label.getDisabledIcon().getIconWidth() == 12
+            label.getDisabledIcon().getIconHeight() == 12
+
+        when : 'The real icon, which has a different size than declared, has been loaded.'
+            UI.runNow({
+                placeholder.complete(Optional.of(new javax.swing.ImageIcon(new java.awt.image.BufferedImage(24, 16, java.awt.image.BufferedImage.TYPE_INT_ARGB))))
+            })
+        then : 'The placeholder now delegates to the real icon...'
+            placeholder.getIconWidth() == 24
+            placeholder.getIconHeight() == 16
+        and : '...and the disabled icon of the label is derived from the real icon as well.'
+            label.getDisabledIcon().getIconWidth() == 24
+            label.getDisabledIcon().getIconHeight() == 16
+    }
 }
@@ -66,6 +66,33 @@ class Label_Binding_Spec extends Specification
             label.text == "Goodbye World"
     }
 
+    def 'Rapid changes of a bound property can be coalesced into one update per frame.'()
+    {
+        reportInfo """
+            When a property changes thousands of times per second, applying every single
+            value to the view would flood the EDT with stale updates.
+            Using `withCoalescedViewUpdates(true)` you can opt a component into
+            a mode where only the latest value of a bound property is applied,
+            and this at most once per frame.
+        """
+        given : 'A property and a label which coalesces its view updates.'
+            Var<String> text = Var.of("0")
+            var label = UI.label("").withCoalescedViewUpdates(true).withText(text).get(JLabel)
+        and : 'A listener which counts how often the label text is actually changed.'
+            var applied = 0
+            label.addPropertyChangeListener("text", e -> applied++ )
+
+        when : 'We change the property a thousand times...'
+            (1..1000).each { text.set(String.valueOf(it)) }
+        and : 'We wait for the next frame to be processed.'
+            Thread.sleep(200)
+            UI.sync()
+
+        then : 'The label shows the latest value, without having applied every single change.'
+            label.text == "1000"
+            applied < 1000
+    }
+
     def 'We can bind to the foreground and background color of a UI node.'()
     {
         given : 'We create 2 simple swing-tree properties for modelling colors.'
@@ -941,6 +941,41 @@ class MVVM_Example_Spec extends Specification
             Tuple.of(1, 2, 3, 4, 5, 6)   | { it.removeLast(1) }
     }
 
+    def 'A tuple of models replaced without a diff is reconciled with the existing views by their models.'()
+    {
+        reportInfo """
+            When a tuple property is replaced by an entirely new tuple, there is no
+            diff describing what changed. In that case the existing views are looked up
+            by their models and only moved, inserted or removed where necessary,
+            instead of re-building all the sub views of the panel.
+        """
+        given: 'A tuple property, a view supplier which counts the views it creates and a panel UI node.'
+            var models = Var.of(Tuple.of(Integer, (1..100).toList()))
+            int created = 0
+            ViewSupplier<Integer> supplier = (Integer number) -> { created++; UI.label(number.toString()) }
+            def panel =
+                        UI.panel()
+                        .addAll(models, supplier)
+                        .get(JPanel)
+        and : 'We remember the initial views by their text.'
+            var initialViews = (panel.components as java.util.List<JLabel>).collectEntries({ [(it.text): it] })
+
+        when: 'We replace the tuple with a shuffled copy which also has a new and a missing model.'
+            var shuffled = (1..100).toList()
+            Collections.shuffle(shuffled, new Random(42))
+            shuffled.remove((Object) 50)
+            shuffled.add(7, 1000)
+            models.set(Tuple.of(Integer, shuffled))
+            UI.sync()
+
+        then: 'The panel displays the models in their new order.'
+            (panel.components as java.util.List<JLabel>).collect({ it.text }) == shuffled.collect({ it.toString() })
+        and : 'All the views of the remaining models were reused and only one new view was created.'
+            created == 101
+            shuffled.findAll({ it != 1000 }).every({ panel.getComponent(shuffled.indexOf(it)).is(initialViews[it.toString()]) })
+            !(initialViews["50"] in (panel.components as java.util.List))
+    }
+
     def 'Views bound to a property list will be reused efficiently.'(
         Vars<Object> models, Closure<Vars<Object>> operation
     ) {
@@ -6,6 +6,13 @@ import spock.lang.Subject
 import spock.lang.Title
 import swingtree.style.NoiseFunctions
 
+import java.awt.Color
+import java.awt.Rectangle
+import java.awt.RenderingHints
+import java.awt.geom.AffineTransform
+import java.awt.geom.Point2D
+import java.awt.image.ColorModel
+
 @Title("Noise Functions")
 @Narrative('''
 
@@ -50,4 +57,79 @@ class Noise_Function_Spec extends Specification
                 })
             )
     }
+
+    def 'Equal noise gradients share their rendered rasters across paints.'()
+    {
+        reportInfo """
+            Rendering a noise gradient is expensive because the noise function
+            is evaluated for every single pixel.
+            This is why the rasters of a noise gradient are stored in a shared cache
+            which survives across paints and components, so that rendering the same
+            noise in the same device space again does not require recomputing anything.
+        """
+        given : 'Two equal noise gradient paints, like the ones created on two subsequent repaints:'
+            var paint1 = new swingtree.style.NoiseGradientPaint(
+                                new Point2D.Float(10, 10), 1f, 1f, 0f,
+                                new float[]{0f, 1f}, new Color[]{Color.RED, Color.BLUE},
+                                UI.NoiseType.STOCHASTIC
+                            )
+            var paint2 = new swingtree.style.NoiseGradientPaint(
+                                new Point2D.Float(10, 10), 1f, 1f, 0f,
+                                new float[]{0f, 1f}, new Color[]{Color.RED, Color.BLUE},
+                                UI.NoiseType.STOCHASTIC
+                            )
+        and : 'The device space they are rendered in:'
+            var bounds = new Rectangle(0, 0, 64, 64)
+            var transform = new AffineTransform()
+            var hints = new RenderingHints(null)
+
+        when : 'We create paint contexts and rasters for both paints...'
+            var context1 = paint1.createContext(ColorModel.getRGBdefault(), bounds, bounds, transform, hints)
+            var raster1  = context1.getRaster(0, 0, 64, 64)
+            var context2 = paint2.createContext(ColorModel.getRGBdefault(), bounds, bounds, transform, hints)
+            var raster2  = context2.getRaster(0, 0, 64, 64)
+
+        then : 'The second paint reuses the context and raster of the first one.'
+            context1.is(context2)
+            raster1.is(raster2)
+    }
+
+    def 'Large noise tiles rendered in parallel batches are identical to small tiles rendered in one go.'()
+    {
+        reportInfo """
+            Large tiles of a noise gradient are split into bands of rows
+            which are rendered by a dedicated pool of renderer threads,
+            whereas small tiles are rendered directly on the calling thread.
+            No matter how a tile is rendered, the resulting pixels must be exactly the same.
+        """
+        given : 'A rotated noise gradient with multiple color stops:'
+            var paint = new swingtree.style.NoiseGradientPaint(
+                                new Point2D.Float(37, 21), 3f, 2f, 45f,
+                                new float[]{0f, 0.3f, 0.7f, 1f},
+                                new Color[]{Color.RED, Color.GREEN, new Color(0, 0, 255, 100), Color.BLACK},
+                                UI.NoiseType.FIBERS
+                            )
+        and : 'Two distinct device spaces, so that the contexts do not share their rasters:'
+            var largeBounds = new Rectangle(0, 0, 256, 256)
+            var smallBounds = new Rectangle(0, 0, 255, 255)
+            var transform = new AffineTransform()
+            var hints = new RenderingHints(null)
+
+        when : 'We render the whole area as one large tile and as many small tiles...'
+            var large = paint.createContext(ColorModel.getRGBdefault(), largeBounds, largeBounds, transform, hints)
+                             .getRaster(0, 0, 256, 256)
+            var smallContext = paint.createContext(ColorModel.getRGBdefault(), smallBounds, smallBounds, transform, hints)
+            var mismatches = 0
+            for ( int tileY = 0; tileY < 256; tileY += 16 )
+                for ( int tileX = 0; tileX < 256; tileX += 16 ) {
+                    var small = smallContext.getRaster(tileX, tileY, 16, 16)
+                    for ( int y = 0; y < 16; y++ )
+                        for ( int x = 0; x < 16; x++ )
+                            if ( small.getPixel(x, y, (int[]) null) != large.getPixel(tileX + x, tileY + y, (int[]) null) )
+                                mismatches++
+                }
+
+        then : 'Every single pixel is the same.'
+            mismatches == 0
+    }
 }
@@ -192,4 +192,265 @@ class Render_Cache_Spec extends Specification
             0 * g.fillRect(0,0,10,10)
             3 * g.drawImage({it instanceof BufferedImage},0,0,null)
     }
+
+    def 'The global layer cache evicts the least recently used images to stay within its memory budget.'()
+    {
+        reportInfo """
+            The pre-rendered layers of all components are shared through a global cache
+            which accounts for the number of bytes every cached image occupies.
+            Once the configured budget is exceeded, the least recently used
+            images are evicted instead of simply refusing to cache new ones.
+        """
+        given : 'We clear the global cache and configure a budget which can hold 2 images of 120x80 pixels:'
+            swingtree.style.LayerCache.clearGlobalCache()
+            SwingTree.get().setLayerCacheMemoryBudget(2 * 120 * 80 * 4)
+            var evictionsBefore = swingtree.style.LayerCache.globalCacheEvictions()
+        and : 'A few distinct style configurations of components with the same size:'
+            var colors = [Color.RED, Color.GREEN, Color.BLUE, Color.CYAN, Color.MAGENTA]
+            var confs = colors.collect( color ->
+                            ComponentExtension.from(
+                                UI.button("Hello World").withStyle(conf -> conf
+                                    .backgroundColor(color)
+                                    .size(120, 80)
+                                    .borderRadius(40)
+                                )
+                                .get(JButton)
+                            )
+                            .getConf()
+                        )
+
+        when : 'We validate a background layer cache for each of them...'
+            confs.each( conf -> new swingtree.style.LayerCache(UI.Layer.BACKGROUND).validate(conf, conf) )
+
+        then : 'The cache never exceeds its budget...'
+            swingtree.style.LayerCache.globalCacheBytes() <= 2 * 120 * 80 * 4
+        and : '...because the older entries were evicted.'
+            swingtree.style.LayerCache.globalCacheEvictions() >= evictionsBefore + 3
+
+        cleanup :
+            SwingTree.get().setLayerCacheMemoryBudget(-1)
+            swingtree.style.LayerCache.clearGlobalCache()
+    }
+
+    def 'If style caching is enabled, unchanged components reuse their resolved style across paint cycles.'()
+    {
+        reportInfo """
+            At the start of every paint cycle the style engine runs all style sheets and
+            `Styler` lambdas of a component to resolve its style.
+            If style caching is enabled, this resolution is skipped
+            as long as none of the tracked inputs (id, group tags, bounds, enabled state,
+            parent font, UI scale and style sheet generation) have changed.
+            State which is not tracked requires an explicit invalidation.
+        """
+        given : 'We enable style caching globally:'
+            SwingTree.get().setStyleCachingEnabled(true)
+        and : 'A button whose styler counts how often it was called:'
+            var calls = 0
+            var button = UI.button("Hello World").withStyle(conf -> {
+                                calls++
+                                return conf.backgroundColor(Color.BLACK)
+                            })
+                            .withSize(120, 80)
+                            .get(JButton)
+        and : 'A graphics context to paint into:'
+            var image = new BufferedImage(120, 80, BufferedImage.TYPE_INT_ARGB)
+            var g = image.createGraphics()
+
+        when : 'We paint the button multiple times...'
+            button.paint(g)
+            var callsAfterFirstPaint = calls
+            button.paint(g)
+            button.paint(g)
+        then : 'The styler was not called again.'
+            calls == callsAfterFirstPaint
+
+        when : 'We disable the button, which is tracked by the cache, and paint again...'
+            button.setEnabled(false)
+            button.paint(g)
+        then : 'The style was resolved again.'
+            calls == callsAfterFirstPaint + 1
+
+        when : 'We explicitly invalidate the style and paint again...'
+            ComponentExtension.from(button).invalidateStyle()
+            button.paint(g)
+        then : 'The style was resolved once more.'
+            calls == callsAfterFirstPaint + 2
+
+        cleanup :
+            SwingTree.get().setStyleCachingEnabled(false)
+    }
+
+    def 'Shadows are rendered once and then stretched to the size of every component with the same shadow style.'()
+    {
+        reportInfo """
+            Rendering a shadow requires a lot of expensive area clipping and gradient painting.
+            But apart from its corners, a shadow looks the same along all of its edges,
+            which is why SwingTree renders a shadow only once for a small canonical size
+            and then stretches it like a nine-patch image to the size of the component.
+        """
+        given : 'We clear the shadow cache and remember how many shadows were rendered so far.'
+            swingtree.style.ShadowNinePatch.clear()
+            var rendersBefore = swingtree.style.ShadowNinePatch.renders()
+        and : 'A shadow style and two components of different sizes using it.'
+            var styler = { conf -> conf
+                            .margin(12)
+                            .borderRadius(16)
+                            .shadowColor(Color.BLACK)
+                            .shadowBlurRadius(6)
+                            .shadowSpreadRadius(2)
+                        }
+            var small = ComponentExtension.from(UI.panel().withStyle(styler).withSize(160, 120).get(javax.swing.JPanel)).getConf()
+            var large = ComponentExtension.from(UI.panel().withStyle(styler).withSize(320, 200).get(javax.swing.JPanel)).getConf()
+        and : 'Two images to render the content layer of both components on.'
+            var smallImage = new BufferedImage(160, 120, BufferedImage.TYPE_INT_ARGB)
+            var largeImage = new BufferedImage(320, 200, BufferedImage.TYPE_INT_ARGB)
+
+        when : 'We render the content layer of both components.'
+            var g1 = smallImage.createGraphics()
+            swingtree.style.StyleRenderer.renderStyleOn(UI.Layer.CONTENT, swingtree.style.LayerRenderConf.of(UI.Layer.CONTENT, small), g1)
+            g1.dispose()
+            var g2 = largeImage.createGraphics()
+            swingtree.style.StyleRenderer.renderStyleOn(UI.Layer.CONTENT, swingtree.style.LayerRenderConf.of(UI.Layer.CONTENT, large), g2)
+            g2.dispose()
+
+        then : 'The shadow was only rendered once for both components.'
+            swingtree.style.ShadowNinePatch.renders() == rendersBefore + 1
+        and : 'The top left corners of both shadows look exactly the same...'
+            (0..<40).every { x -> (0..<40).every { y -> smallImage.getRGB(x, y) == largeImage.getRGB(x, y) } }
+        and : '...and so do the bottom right corners.'
+            (1..40).every { x -> (1..40).every { y -> smallImage.getRGB(160 - x, 120 - y) == largeImage.getRGB(320 - x, 200 - y) } }
+        and : 'The shadow is actually visible.'
+            (0..<40).any { i -> (largeImage.getRGB(i, 100) >>> 24) > 0 }
+    }
+
+    def 'A shadow stretched from a cached nine-patch looks like the exactly rendered shadow.'( boolean isInset )
+    {
+        reportInfo """
+            The nine-patch of a shadow is cut based on an estimate of how far
+            the corners of the shadow reach into the component.
+            If that estimate was too small, the stretched edges would contain parts of the corners.
+            So here we render the same shadow exactly and through the nine-patch,
+            and compare every single pixel, including the ones along the middle of the edges.
+        """
+        given : 'A component with an offset shadow and its content layer render config.'
+            var styler = { conf -> conf
+                            .margin(12)
+                            .border(3, Color.BLUE)
+                            .borderRadius(16)
+                            .shadowColor(new Color(20, 40, 160, 200))
+                            .shadowBlurRadius(6)
+                            .shadowSpreadRadius(2)
+                            .shadowOffset(4, 5)
+                            .shadowIsInset(isInset)
+                        }
+            var conf = ComponentExtension.from(UI.panel().withStyle(styler).withSize(400, 300).get(javax.swing.JPanel)).getConf()
+            var renderConf = swingtree.style.LayerRenderConf.of(UI.Layer.CONTENT, conf)
+            var shadow = renderConf.layer().shadows().sortedByNames()[0]
+        and : 'Two premultiplied images with antialiasing enabled, one for each way of rendering the shadow.'
+            var exactImage = new BufferedImage(400, 300, BufferedImage.TYPE_INT_ARGB_PRE)
+            var patchImage = new BufferedImage(400, 300, BufferedImage.TYPE_INT_ARGB_PRE)
+            var exactG2d = exactImage.createGraphics()
+            var patchG2d = patchImage.createGraphics()
+            [exactG2d, patchG2d].each({ it.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON) })
+            swingtree.style.ShadowNinePatch.clear()
+
+        when : 'We render the shadow exactly and through the nine-patch.'
+            swingtree.style.StyleRenderer._renderShadowsExactly(renderConf, shadow, exactG2d)
+            var usedNinePatch = swingtree.style.ShadowNinePatch.tryRender(
+                                    renderConf, shadow, patchG2d,
+                                    { c, s, g -> swingtree.style.StyleRenderer._renderShadowsExactly(c, s, g) } as swingtree.style.ShadowNinePatch.ExactRenderer
+                                )
+            exactG2d.dispose()
+            patchG2d.dispose()
+        then : 'The component is large enough for the nine-patch to be used.'
+            usedNinePatch
+
+        when : 'We collect the premultiplied samples of every pixel which differs noticeably.'
+            var exact = exactImage.getRaster()
+            var patch = patchImage.getRaster()
+            var mismatches = []
+            for ( int x = 0; x < 400; x++ )
+                for ( int y = 0; y < 300; y++ ) {
+                    int[] a = exact.getPixel(x, y, (int[]) null)
+                    int[] b = patch.getPixel(x, y, (int[]) null)
+                    if ( (0..<4).any({ Math.abs(a[it] - b[it]) > 2 }) )
+                        mismatches << [x, y, a, b]
+                }
+        then : 'Both shadows are identical within a small tolerance.'
+            mismatches.isEmpty()
+        and : 'The shadow is actually visible along the middle of every edge, not just at the corners.'
+            [[200, 0..<40], [200, 260..<300]].every({ column ->
+                column[1].any({ y -> (exactImage.getRGB(column[0], y) >>> 24) > 0 })
+            })
+            [[0..<40, 150], [360..<400, 150]].every({ row ->
+                row[0].any({ x -> (exactImage.getRGB(x, row[1]) >>> 24) > 0 })
+            })
+
+        where : 'We test an outset and an inset shadow.'
+            isInset << [false, true]
+    }
+
+    def 'Parent filters only process the region behind a component and reuse their result while it does not change.'()
+    {
+        reportInfo """
+            A parent filter (like a frosted glass blur) is applied to the rendering of the parent
+            of a component. Instead of filtering the entire parent, only the region behind the component
+            is filtered, and the result is reused until the pixels behind the component change.
+            Large blur radii are approximated using a fast box blur.
+        """
+        given : 'A component with a large blur filter on its parent, located in the middle of a parent.'
+            var conf = ComponentExtension.from(
+                            UI.panel().withStyle(it -> it.parentFilter(f -> f.blur(12))).withSize(40, 30).get(javax.swing.JPanel)
+                        )
+                        .getConf()
+            var filter = conf.style().layers().filter()
+            var boxModel = swingtree.style.LayerRenderConf.of(UI.Layer.BACKGROUND, conf).boxModel()
+        and : 'A parent rendering which is red on the left and blue on the right.'
+            var parent = new BufferedImage(200, 100, BufferedImage.TYPE_INT_ARGB)
+            var pg = parent.createGraphics()
+            pg.setColor(Color.RED)
+            pg.fillRect(0, 0, 100, 100)
+            pg.setColor(Color.BLUE)
+            pg.fillRect(100, 0, 100, 100)
+            pg.dispose()
+        and : 'The backdrop filter of the component and an image to render the component on.'
+            var backdrop = new swingtree.style.BackdropFilter()
+            var image = new BufferedImage(40, 30, BufferedImage.TYPE_INT_ARGB)
+
+        when : 'We render the filtered backdrop for a component positioned at the border between the colors.'
+            var g = image.createGraphics()
+            backdrop.render(filter, parent, g, 80, 35, boxModel)
+            g.dispose()
+        then : 'The colors were blurred into each other at the border...'
+            var center = new Color(image.getRGB(20, 15), true)
+            center.red > 60 && center.blue > 60
+        and : '...but not far away from it.'
+            new Color(image.getRGB(0, 15), true).red > 200
+            new Color(image.getRGB(39, 15), true).blue > 200
+        and : 'The backdrop was filtered once.'
+            backdrop.filterPasses() == 1
+
+        when : 'We render the component again without changing the parent.'
+            g = image.createGraphics()
+            backdrop.render(filter, parent, g, 80, 35, boxModel)
+            g.dispose()
+        then : 'The previous result was reused.'
+            backdrop.filterPasses() == 1
+
+        when : 'We change a pixel of the parent far away from the component and render again.'
+            parent.setRGB(5, 5, Color.GREEN.getRGB())
+            g = image.createGraphics()
+            backdrop.render(filter, parent, g, 80, 35, boxModel)
+            g.dispose()
+        then : 'The result is still reused, because the region behind the component did not change.'
+            backdrop.filterPasses() == 1
+
+        when : 'We change a pixel behind the component and render again.'
+            parent.setRGB(90, 40, Color.GREEN.getRGB())
+            g = image.createGraphics()
+            backdrop.render(filter, parent, g, 80, 35, boxModel)
+            g.dispose()
+        then : 'The backdrop was filtered again.'
+            backdrop.filterPasses() == 2
+    }
 }
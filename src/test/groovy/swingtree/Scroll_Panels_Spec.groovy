@@ -15,6 +15,8 @@ import utility.Utility
 
 import javax.swing.JPanel
 import javax.swing.JScrollPane
+import java.awt.Dimension
+import java.awt.Point
 
 @Title("Scroll Panels")
 @Narrative('''
@@ -275,4 +277,67 @@ class Scroll_Panels_Spec extends Specification
             [_, _, _, _, _]      | { it.clear().addAll("Comp a", "Comp b", "Comp c", "Comp d", "Comp e") }
     }
 
+    def 'A virtualized scroll panel only creates views for the entries intersecting its viewport.'()
+    {
+        reportInfo """
+            A regular `JScrollPanels` instance creates a view for every single entry,
+            which is wasteful for very large lists.
+            A virtualized one only materializes the views of the entries
+            which are currently visible (plus a small overscan),
+            and releases them again once they are scrolled out of sight.
+            The scroll extent is computed from the size of the entries instead.
+        """
+        given : 'A tuple property with ten thousand entries and a counter for the created views.'
+            var models = Var.of(Tuple.of(String, (0..<10_000).collect({ "Entry " + it })))
+            var created = 0
+        and : 'A virtualized scroll panel with a fixed entry size bound to the entries.'
+            var panels =
+                        UI.virtualScrollPanels(UI.Align.VERTICAL, new Dimension(100, 20), true)
+                        .withOverscan(2)
+                        .addAll(models, (String text) -> { created++; return UI.label(text) })
+                        .get(JScrollPanels)
+            var content = panels.getContentPanel()
+
+        when : 'We give the scroll panel a size and lay it out.'
+            panels.setSize(120, 200)
+            panels.doLayout()
+            panels.getViewport().doLayout()
+            content.doLayout()
+        then : 'All entries are known, but only a handful of them have a view.'
+            panels.isVirtual()
+            panels.getNumberOfEntries() == 10_000
+            panels.getNumberOfMaterializedEntries() < 20
+            created == panels.getNumberOfMaterializedEntries()
+        and : 'The scroll extent covers all entries and the gaps between them.'
+            content.getPreferredSize().height == 5 + 10_000 * (20 + 5)
+
+        when : 'We scroll to the very end of the list.'
+            panels.getViewport().setViewPosition(new Point(0, content.getPreferredSize().height - 190))
+            content.doLayout()
+        then : 'The views of the first entries were released and only the last entries have a view.'
+            panels.getNumberOfMaterializedEntries() < 20
+            content.getComponents().every({ it.getY() > 240_000 })
+            created < 40
+
+        when : 'We replace one of the visible entries and insert a new entry at the start of the list.'
+            var viewsBefore = content.getComponents() as java.util.List
+            var createdBefore = created
+            models.update( it -> it.setAt(9_995, "Replaced") )
+            models.update( it -> it.addAt(0, "New") )
+            UI.sync()
+            content.doLayout()
+        then : 'Only the view of the replaced entry and the one scrolled into the window were rebuilt...'
+            created - createdBefore <= 2
+        and : '...while all the other views were kept.'
+            viewsBefore.count({ it in content.getComponents() }) >= viewsBefore.size() - 2
+            panels.getNumberOfEntries() == 10_001
+
+        when : 'We remove all entries.'
+            models.set(Tuple.of(String, []))
+            UI.sync()
+            content.doLayout()
+        then : 'No views are left.'
+            panels.getNumberOfEntries() == 0
+            panels.getNumberOfMaterializedEntries() == 0
+    }
 }
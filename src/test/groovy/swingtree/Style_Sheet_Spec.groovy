@@ -8,6 +8,7 @@ import swingtree.UI.Layer
 import swingtree.style.ShadowConf
 import swingtree.threading.EventProcessor
 import swingtree.style.Arc
+import swingtree.style.ComponentExtension
 
 import swingtree.style.Outline
 
@@ -660,6 +661,76 @@ class Style_Sheet_Spec extends Specification
     }
 
 
+    def 'A style sheet resolves the traits of a component once for every distinct signature.'()
+    {
+        reportInfo """
+            Internally, a style sheet compiles its traits into a matcher, which indexes
+            them by id and group, so that only the candidate traits are tested against a component.
+            The resulting sub-to-super trait order is cached for every signature,
+            which is the combination of the type, id and group tags of a component.
+            The cache is bounded, which means that the least recently used signatures are evicted.
+        """
+        given : 'A style sheet with id, group and type-only traits.'
+            var ss = new StyleSheet() {
+                @Override
+                protected void configure() {
+                    add(type(JComponent.class), it -> it.borderWidth(1));
+                    add(type(JButton.class), it -> it.borderWidth(2));
+                    add(group("A"), it -> it.borderWidth(3));
+                    add(group("B").inherits("A"), it -> it.borderWidth(4));
+                    add(id("x"), it -> it.borderWidth(5));
+                    add(id("y"), it -> it.borderWidth(6));
+                    add(group("C"), it -> it.borderWidth(7));
+                }
+            }
+        and : 'A button with the id "x" which belongs to the group "B".'
+            var button = UI.button(":)").id("x").group("B").get(JButton)
+        when : 'We apply the style sheet to the button and unpack the matcher of the style sheet.'
+            var initialStyle = ss.applyTo(button)
+            var matcher = StyleSheet.getDeclaredField("_matcher").tap({ it.accessible = true }).get(ss)
+            var order = matcher.subToSuperTraitsFor(button).collect({ matcher.traitAt(it) })
+        then : 'The traits are resolved from the most specific to the most general one.'
+            order == [
+                ss.group("B").inherits("A"),
+                ss.type(JButton.class),
+                ss.id("x"),
+                ss.group("A"),
+                ss.type(JComponent.class)
+            ]
+        and : 'Every trait applicable to the button was found, although only candidates were tested.'
+            matcher._traits.findAll({ it.isApplicableTo(button) }).every({ it in order })
+        and : 'The most specific trait, the one of group "B", determines the style.'
+            initialStyle.border().widths().top().get() == 4
+        and : 'Resolving the same signature again returns the cached result.'
+            matcher.subToSuperTraitsFor(button).is(matcher.subToSuperTraitsFor(button))
+            matcher._resolved.size() == 1
+
+        when : 'We change the id of the button.'
+            button.setName("y")
+            order = matcher.subToSuperTraitsFor(button).collect({ matcher.traitAt(it) })
+        then : 'The button has a new signature, so it gets the traits of its new id.'
+            ss.id("y") in order
+            !(ss.id("x") in order)
+            matcher._resolved.size() == 2
+
+        when : 'We change the groups of the button.'
+            ComponentExtension.from(button).setStyleGroups("C")
+            order = matcher.subToSuperTraitsFor(button).collect({ matcher.traitAt(it) })
+        then : 'It gets the traits of its new group instead of the old ones.'
+            ss.group("C") in order
+            !(ss.group("B").inherits("A") in order)
+            matcher._resolved.size() == 3
+        and : 'So the button is styled differently, now its type trait is the most specific one.'
+            ss.applyTo(button).border().widths().top().get() == 2
+
+        when : 'We resolve the traits of more components with distinct ids than the cache can hold.'
+            (0..<600).each({ matcher.subToSuperTraitsFor(UI.label(":)").id("label " + it).get(JLabel)) })
+        then : 'The cache is bounded and the least recently used signatures were evicted.'
+            matcher._resolved.size() == 512
+            !matcher._resolved.keySet().any({ it._id == "label 0" || it._id == "x" })
+            matcher._resolved.keySet().any({ it._id == "label 599" })
+    }
+
     def 'You can define complex group inheritance graphs inside your style sheets.'()
     {
         reportInfo """
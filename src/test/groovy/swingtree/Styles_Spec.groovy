@@ -1070,4 +1070,72 @@ class Styles_Spec extends Specification
                 Color.WHITE
             ]
     }
+
+    def 'The named sub-styles of a style are sorted once and not every time they are rendered.'()
+    {
+        reportInfo """
+            Styles like shadows, gradients, images or texts can be defined multiple times
+            under different names, in which case they are rendered in the alphabetical order of their names.
+            Because rendering happens very frequently, the sorted order is computed once
+            when the style is created, so that repeated paints do not produce any garbage.
+        """
+        given : 'A set of 3 named styles which were not defined in alphabetical order.'
+            var styles = swingtree.style.NamedConfigs.empty()
+                            .withNamedStyle("c", "red")
+                            .withNamedStyle("a", "green")
+                            .withNamedStyle("b", "blue")
+        when : 'We access the sorted styles twice.'
+            var sorted1 = styles.sortedByNames()
+            var sorted2 = styles.sortedByNames()
+        then : 'They are sorted by their names.'
+            sorted1 == ["green", "blue", "red"]
+        and : 'The very same list is returned every time.'
+            sorted1.is(sorted2)
+        and : 'The named styles still remember the order in which they were added.'
+            styles.namedStyles().collect({ it.name() }) == ["c", "a", "b"]
+    }
+
+    def 'Components with equal styles share the very same style configuration object.'()
+    {
+        reportInfo """
+            Applications often consist of many components which are styled identically,
+            like the rows of a list or the cells of a form.
+            Instead of keeping an equal copy of the style for every component, SwingTree interns
+            the resolved styles, so that equal styles share the same instance.
+            This saves memory and makes checking whether a style has changed very cheap.
+        """
+        given : 'Two components which are styled by the same styler.'
+            var styler = { ComponentStyleDelegate<JLabel> conf -> conf
+                            .borderRadius(12)
+                            .border(2, Color.BLUE)
+                            .backgroundColor(Color.RED)
+                            .fontSize(17)
+                        }
+            var label1 = UI.label("A").withStyle(styler).get(JLabel)
+            var label2 = UI.label("B").withStyle(styler).get(JLabel)
+        when : 'We access the resolved styles of both components.'
+            var style1 = ComponentExtension.from(label1).getStyle()
+            var style2 = ComponentExtension.from(label2).getStyle()
+        then : 'The styles are not only equal, but the same instance.'
+            style1 == style2
+            style1.is(style2)
+
+        when : 'We create another identically styled component.'
+            var numberOfInternedStyles = StyleConf.numberOfInternedStyles()
+            var label3 = UI.label("C").withStyle(styler).get(JLabel)
+        then : 'It reuses the interned style, so no new style is added to the pool.'
+            ComponentExtension.from(label3).getStyle().is(style1)
+            StyleConf.numberOfInternedStyles() <= numberOfInternedStyles
+
+        when : 'We create a component whose style only differs in its background color.'
+            var label4 = UI.label("D").withStyle({ styler(it).backgroundColor(Color.GREEN) }).get(JLabel)
+            var style4 = ComponentExtension.from(label4).getStyle()
+        then : 'It has its own style instance...'
+            !style4.is(style1)
+            style4 != style1
+        and : '...which shares the interned parts that are equal, like the font and the border.'
+            style4._font.is(style1._font)
+            style4._border.is(style1._border)
+            style4._layers.is(style1._layers)
+    }
 }
@@ -198,4 +198,41 @@ class SvgIcon_Spec extends Specification
             icon2.get().getBaseWidth() == 17
             icon2.get().getBaseHeight() == -1
     }
+
+    def 'Different `SvgIcon` instances of the same document and size share a single cached raster.'()
+    {
+        reportInfo """
+            Rasterizing an SVG document is expensive, which is why SwingTree
+            caches the rendered images of sized SVG icons in a global, memory bounded cache.
+            Icons showing the same document at the same size (for example
+            the same icon on multiple buttons) share a single raster,
+            whereas different sizes of the same document (like in a toolbar and a menu)
+            have their own rasters and do not replace each other.
+        """
+        given : 'An SVG icon and two sized variants of it, one of which exists twice.'
+            var icon = new SvgIcon("/img/funnel.svg")
+            var small1 = icon.withIconSize(16, 16)
+            var small2 = icon.withIconSize(16, 16)
+            var large = icon.withIconSize(32, 32)
+        and : 'A graphics context to paint into.'
+            var canvas = new java.awt.image.BufferedImage(64, 64, java.awt.image.BufferedImage.TYPE_INT_ARGB)
+            var g = canvas.createGraphics()
+        and : 'The number of rasters which were rendered so far.'
+            var cache = swingtree.style.SvgRasterCache.get()
+            var rendersBefore = cache.renders()
+
+        when : 'We paint all three icons, alternating between the sizes.'
+            small1.paintIcon(null, g, 0, 0)
+            large.paintIcon(null, g, 0, 0)
+            small2.paintIcon(null, g, 0, 0)
+            large.paintIcon(null, g, 0, 0)
+        then : 'Only one raster per size was rendered.'
+            cache.renders() - rendersBefore <= 2
+        and : 'The image of equally sized icons is the very same raster.'
+            small1.getImage() === small2.getImage()
+            small1.getImage() !== large.getImage()
+
+        cleanup :
+            g.dispose()
+    }
 }
@@ -950,4 +950,63 @@ class Tab_Binding_Spec extends Specification
         and : 'We expect the null tab to have a title which indicates that content is missing.'
             tabbedPane.getTitleAt(2).contains("Empty")
     }
+
+    def 'The contents of a tab can be built lazily when the tab is selected for the first time.'()
+    {
+        reportInfo """
+            A tabbed pane with many heavy tabs does not need to build all of their contents
+            up front, since only one of them is visible at a time.
+            Using `addLazily` you can supply the contents of a tab, which
+            will only be built when the tab is selected for the first time.
+            And with `unloadWhenInactiveFor` you can release them again once
+            the tab has not been selected for a while.
+        """
+        given : 'A counter for the number of built tab contents.'
+            var builds = 0
+        and : 'A tabbed pane with three lazily built tabs, where the last one unloads its contents right away.'
+            var pane =
+                UI.tabbedPane()
+                .add(UI.tab("one").addLazily({ builds++; UI.label("1") }))
+                .add(UI.tab("two").addLazily({ builds++; UI.label("2") }))
+                .add(UI.tab("three").addLazily({ builds++; UI.label("3") }).unloadWhenInactiveFor(0, java.util.concurrent.TimeUnit.MILLISECONDS))
+                .get(JTabbedPane)
+        and : 'We unpack the lazy content containers of the tabs.'
+            var contents = (0..2).collect({ pane.getComponentAt(it) as LazyTabContent })
+
+        expect : 'Only the contents of the initially selected tab were built.'
+            pane.selectedIndex == 0
+            builds == 1
+            contents.collect({ it.isLoaded() }) == [true, false, false]
+            contents[0].lastBuildTimeNanos() >= 0
+
+        when : 'We select the last tab.'
+            pane.selectedIndex = 2
+        then : 'Its contents are built, whereas the ones of the second tab are still not.'
+            builds == 2
+            contents.collect({ it.isLoaded() }) == [true, false, true]
+
+        when : 'We select the first tab again.'
+            pane.selectedIndex = 0
+        then : 'The contents of the last tab are unloaded, the ones of the first tab were not rebuilt.'
+            builds == 2
+            contents.collect({ it.isLoaded() }) == [true, false, false]
+
+        when : 'We select the last tab one more time.'
+            pane.selectedIndex = 2
+        then : 'Its contents are rebuilt.'
+            builds == 3
+            contents[2].numberOfBuilds() == 2
+            (contents[2].getComponent(0) as JLabel).text == "3"
+
+        when : 'We remove the selected last tab from the pane.'
+            var numberOfListeners = pane.getChangeListeners().length
+            pane.removeTabAt(2)
+        then : 'Its contents are unloaded and the pane no longer holds a listener for them.'
+            !contents[2].isLoaded()
+            pane.getChangeListeners().length == numberOfListeners - 1
+        and : 'The remaining tabs are still loaded on selection.'
+            pane.selectedIndex = 1
+            contents[1].isLoaded()
+    }
+
 }
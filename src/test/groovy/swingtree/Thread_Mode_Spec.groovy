@@ -192,4 +192,142 @@ class Thread_Mode_Spec extends Specification
             noExceptionThrown()
     }
 
+    def 'Application events can be submitted as futures and are subject to a back pressure policy.'()
+    {
+        reportInfo """
+            Instead of blocking until an application event has been processed,
+            you can submit it to the decoupled event processor and receive a future.
+            And if the application thread falls behind, a back pressure policy
+            decides what happens to new events once the queue is full.
+        """
+        given : 'The decoupled event processor, with a small queue which drops the oldest events.'
+            var processor = EventProcessor.DECOUPLED
+            processor.joinUntilDoneOrException() // We start with an empty queue.
+            processor.resetMetrics()
+            processor.setBackPressure(swingtree.threading.DecoupledEventProcessor.BackPressure.DROP_OLDEST, 2)
+        and : 'A trace of the events which were processed.'
+            var trace = []
+
+        when : 'We submit three events, one more than the queue can hold.'
+            var first  = processor.supplyAppEvent({ trace << 1; "first" })
+            var second = processor.supplyAppEvent({ trace << 2; "second" })
+            var third  = processor.supplyAppEvent({ trace << 3; "third" })
+        then : 'The queue is at its capacity and the oldest event was dropped.'
+            processor.queueDepth() == 2
+            processor.droppedEvents() == 1
+            first.isCompletedExceptionally()
+
+        when : 'The application thread processes the pending events.'
+            processor.joinUntilDoneOrException()
+        then : 'The remaining events were processed in order and their futures completed.'
+            trace == [2, 3]
+            second.get() == "second"
+            third.get() == "third"
+            processor.queueDepth() == 0
+            processor.processedEvents() == 2
+            processor.maxQueueDepth() == 2
+
+        cleanup:
+            processor.setBackPressure(swingtree.threading.DecoupledEventProcessor.BackPressure.UNBOUNDED, Integer.MAX_VALUE)
+    }
+
+    def 'A worker pool processes the events of a component in order without being blocked by other components.'()
+    {
+        reportInfo """
+            The worker pool event processor runs application events on multiple threads,
+            so a slow event handler of one component does not hold up the events of another one.
+            The events of the same component are still processed in the order in which they occurred.
+        """
+        given : 'A worker pool with two workers and two components.'
+            var processor = EventProcessor.workerPool(2)
+            var slowButton = new JButton("Slow")
+            var fastButton = new JButton("Fast")
+            while ( processor._strandFor(fastButton).is(processor._strandFor(slowButton)) )
+                fastButton = new JButton("Fast") // Unrelated components may share a strand, which we avoid here.
+        and : 'A latch which keeps the first event of the slow button busy, and a trace of the processed events.'
+            var latch = new java.util.concurrent.CountDownLatch(1)
+            var trace = Collections.synchronizedList(new ArrayList<String>())
+
+        when : 'We register events for both components, where the slow one waits for the latch.'
+            processor.registerAppEvent(slowButton, { latch.await(); trace.add("slow 1") })
+            processor.registerAppEvent(slowButton, { trace.add("slow 2") })
+            processor.registerAppEvent(fastButton, { trace.add("fast") })
+        and : 'We wait for the event of the fast component.'
+            var deadline = System.currentTimeMillis() + 5_000
+            while ( !trace.contains("fast") && System.currentTimeMillis() < deadline )
+                Thread.sleep(10)
+        then : 'The fast component was not blocked by the slow one.'
+            trace == ["fast"]
+
+        when : 'We release the slow event and wait for the remaining events.'
+            latch.countDown()
+            processor.registerAndRunAppEventNow({ trace.add("done") })
+            while ( trace.size() < 4 && System.currentTimeMillis() < deadline )
+                Thread.sleep(10)
+        then : 'The events of the slow component were processed in order.'
+            trace.findAll({ it.startsWith("slow") }) == ["slow 1", "slow 2"]
+            trace.size() == 4
+    }
+
+    def 'The virtual thread processor runs every application event on its own thread.'()
+    {
+        reportInfo """
+            The `EventProcessor.VIRTUAL_THREADS` processor runs every application event
+            on a new virtual thread, so that a slow event handler never delays any other event.
+            On runtimes older than Java 21, it falls back to a pool of platform daemon threads.
+            Waiting for an event from within another event does not need another thread,
+            so it is simply executed right away.
+        """
+        given : 'The virtual thread processor and the major version of the current Java runtime.'
+            var processor = EventProcessor.VIRTUAL_THREADS
+            var version = System.getProperty("java.specification.version")
+            var javaVersion = Integer.parseInt(version.startsWith("1.") ? version.substring(2) : version)
+        and : 'A latch which keeps the first event busy, and a trace of the processed events and their threads.'
+            var caller = Thread.currentThread()
+            var latch = new java.util.concurrent.CountDownLatch(1)
+            var trace = Collections.synchronizedList(new ArrayList<String>())
+            var threads = Collections.synchronizedList(new ArrayList<Thread>())
+
+        expect : 'It uses virtual threads exactly if the runtime supports them.'
+            processor.usesVirtualThreads() == ( javaVersion >= 21 )
+
+        when : 'We register a slow event which waits for the latch, and a fast one.'
+            processor.registerAppEvent({ threads.add(Thread.currentThread()); latch.await(); trace.add("slow") })
+            processor.registerAppEvent({ threads.add(Thread.currentThread()); trace.add("fast") })
+        and : 'We wait for the fast event.'
+            var deadline = System.currentTimeMillis() + 5_000
+            while ( !trace.contains("fast") && System.currentTimeMillis() < deadline )
+                Thread.sleep(10)
+        then : 'The fast event was not blocked by the slow one.'
+            trace == ["fast"]
+        and : 'Both events ran on threads other than the calling thread, and not on the same one.'
+            threads.size() == 2
+            !threads.contains(caller)
+            !threads[0].is(threads[1])
+
+        when : 'We run an event now, which takes a while.'
+            processor.registerAndRunAppEventNow({ Thread.sleep(50); trace.add("now") })
+        then : 'The call blocked until the event was done.'
+            trace == ["fast", "now"]
+
+        when : 'We run an event now from within another event.'
+            Thread outer = null
+            Thread inner = null
+            processor.registerAndRunAppEventNow({
+                outer = Thread.currentThread()
+                processor.registerAndRunAppEventNow({ inner = Thread.currentThread() })
+            })
+        then : 'The inner event ran inline on the thread of the outer event.'
+            outer != null
+            !outer.is(caller)
+            inner.is(outer)
+
+        when : 'We release the slow event and wait for it.'
+            latch.countDown()
+            while ( !trace.contains("slow") && System.currentTimeMillis() < deadline )
+                Thread.sleep(10)
+        then : 'It was processed as well.'
+            trace == ["fast", "now", "slow"]
+    }
+
 }
@@ -50,4 +50,31 @@ class UI_Updates_Spec extends Specification
             new Utility.Query(panel).find(JLabel, "L1").get().text != "Label 1"
     }
 
+    def 'Periodic updates with the same delay share a single timer.'()
+    {
+        reportInfo """
+            Monitoring screens often consist of hundreds of live tiles which
+            all update themselves periodically.
+            Instead of creating a timer for every single component,
+            all update actions with the same delay are called by the same shared timer.
+        """
+        given : 'We remember how many update timers are currently in use.'
+            var timersBefore = UpdateTicker.get().timers()
+        and : 'A counter for the number of performed updates.'
+            var updates = 0
+        when : 'We create a panel with many labels which all update themselves with the same delay.'
+            var ui = UI.panel()
+            (1..100).each { i ->
+                ui = ui.add(UI.label("Tile " + i).doUpdates(37, it -> updates++ ))
+            }
+            var panel = ui.get(JPanel)
+        then : 'All of them share the same timer.'
+            UpdateTicker.get().timers() <= timersBefore + 1
+            UpdateTicker.get().registrations() >= 100
+
+        when : 'We wait a little...'
+            Thread.sleep(200)
+        then : 'The updates were performed for the labels.'
+            updates >= 100
+    }
 }